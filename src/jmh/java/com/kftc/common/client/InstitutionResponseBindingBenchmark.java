@@ -0,0 +1,68 @@
+package com.kftc.common.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kftc.bank.common.InstitutionAccountListResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기관 응답 역직렬화 벤치마크 (할당량 비교는 -prof gc)
+ *
+ * map:    변경 전 경로 (Map.class로 전체 트리를 LinkedHashMap/ArrayList로 구성)
+ * typed:  InstitutionAccountListResponse 레코드로 바로 바인딩 (모르는 필드는 건너뜀)
+ * status: 응답코드만 읽는 InstitutionStatusResponse
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InstitutionResponseBindingBenchmark {
+
+    @Param({"20"})
+    private int accountCount;
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        StringBuilder json = new StringBuilder()
+                .append("{\"api_tran_id\":\"2ffd133a-d17a-431d-a6a5\",\"api_tran_dtm\":\"20240101120000000\",")
+                .append("\"rsp_code\":\"A0000\",\"rsp_message\":\"\",\"user_name\":\"홍길동\",")
+                .append("\"res_cnt\":\"").append(accountCount).append("\",\"res_list\":[");
+        for (int i = 0; i < accountCount; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"fintech_use_num\":\"12345678901234567890").append(i).append("\",")
+                    .append("\"bank_code_std\":\"088\",\"bank_code_sub\":\"0880001\",\"bank_name\":\"신한은행\",")
+                    .append("\"savings_bank_name\":\"\",\"account_num\":\"110123").append(i).append("\",")
+                    .append("\"account_num_masked\":\"110-***-").append(i).append("\",\"account_seq\":\"001\",")
+                    .append("\"account_alias\":\"급여통장\",\"account_holder_name\":\"홍길동\",")
+                    .append("\"account_holder_type\":\"P\",\"account_type\":\"1\",")
+                    .append("\"inquiry_agree_yn\":\"Y\",\"inquiry_agree_dtime\":\"20240101120000\",")
+                    .append("\"transfer_agree_yn\":\"Y\",\"transfer_agree_dtime\":\"20240101120000\",")
+                    .append("\"payer_num\":\"\",\"account_state\":\"01\",")
+                    .append("\"product_detail\":{\"product_code\":\"P001\",\"interest_rate\":\"0.1\",\"tags\":[\"a\",\"b\"]}}");
+        }
+        body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public Map<?, ?> map() throws Exception {
+        return objectMapper.readValue(body, Map.class);
+    }
+
+    @Benchmark
+    public InstitutionAccountListResponse typed() throws Exception {
+        return objectMapper.readValue(body, InstitutionAccountListResponse.class);
+    }
+
+    @Benchmark
+    public InstitutionStatusResponse status() throws Exception {
+        return objectMapper.readValue(body, InstitutionStatusResponse.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.kftc.common.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CI 생성 벤치마크
+ *
+ * legacy: 변경 전 경로 (호출마다 Mac.getInstance/init, 패딩/XOR 배열 할당)
+ * single: CiGenerator.computeCi (스레드별 Mac 재사용, legacy와 같이 로그 없는 계산부만)
+ * bulk:   CiGenerator.generateCis (병렬 일괄 생성, 1회 호출 = BULK_SIZE건)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CiGeneratorBenchmark {
+
+    private static final String SECRET_KEY_SA = "KISA_MOCK_SECRET_SA_64BYTES_FOR_CI_GENERATION_TEST_ENVIRONMENT_2024";
+    private static final String SECRET_KEY_SK = "KISA_MOCK_SECRET_SK_64BYTES_FOR_CI_GENERATION_TEST_ENVIRONMENT_2024";
+
+    // @OperationsPerInvocation 값과 일괄 생성 건수를 같은 상수로 유지
+    private static final int BULK_SIZE = 10_000;
+
+    private CiGenerator ciGenerator;
+    private List<String> rns;
+    private int cursor;
+
+    @Setup
+    public void setUp() {
+        ciGenerator = new CiGenerator();
+        rns = new ArrayList<>(BULK_SIZE);
+        for (int i = 0; i < BULK_SIZE; i++) {
+            rns.add(String.format("9001011%06d", i));
+        }
+    }
+
+    private String nextRn() {
+        cursor = (cursor + 1) % rns.size();
+        return rns.get(cursor);
+    }
+
+    @Benchmark
+    public String legacy() throws Exception {
+        return legacyCi(nextRn());
+    }
+
+    @Benchmark
+    public String single() {
+        return ciGenerator.computeCi(nextRn());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_SIZE)
+    public void bulk(Blackhole blackhole) {
+        blackhole.consume(ciGenerator.generateCis(rns));
+    }
+
+    private static String legacyCi(String rn) throws Exception {
+        byte[] rnBytes = rn.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = new byte[64];
+        System.arraycopy(rnBytes, 0, padded, 0, Math.min(rnBytes.length, 13));
+
+        byte[] sa = SECRET_KEY_SA.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(padded.length, sa.length);
+        byte[] xorResult = new byte[length];
+        for (int i = 0; i < length; i++) {
+            xorResult[i] = (byte) (padded[i] ^ sa[i]);
+        }
+
+        Mac mac = Mac.getInstance("HmacSHA512");
+        mac.init(new SecretKeySpec(SECRET_KEY_SK.getBytes(StandardCharsets.UTF_8), "HmacSHA512"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(xorResult));
+    }
+}
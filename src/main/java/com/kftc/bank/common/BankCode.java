@@ -9,22 +9,23 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public enum BankCode {
-    SHINHAN("088", "신한은행", "shinhan"),
-    KOOKMIN("004", "국민은행", "kookmin"),
-    WOORI("020", "우리은행", "woori"),
-    HANA("081", "하나은행", "hana"),
-    NH("011", "농협은행", "nh"),
-    IBK("003", "기업은행", "ibk"),
-    KDB("002", "산업은행", "kdb"),
-    KAKAO("090", "카카오뱅크", "kakao"),
-    TOSS("092", "토스뱅크", "toss"),
-    KOOKMIN_CARD("301", "국민카드", "kookmin-card"),
-    HYUNDAI_CAPITAL("054", "현대캐피탈", "hyundai-capital"),
-    SAMSUNG_FIRE("221", "삼성화재", "samsung-fire");
+    SHINHAN("088", "신한은행", "shinhan", "BANK"),
+    KOOKMIN("004", "국민은행", "kookmin", "BANK"),
+    WOORI("020", "우리은행", "woori", "BANK"),
+    HANA("081", "하나은행", "hana", "BANK"),
+    NH("011", "농협은행", "nh", "BANK"),
+    IBK("003", "기업은행", "ibk", "BANK"),
+    KDB("002", "산업은행", "kdb", "BANK"),
+    KAKAO("090", "카카오뱅크", "kakao", "BANK"),
+    TOSS("092", "토스뱅크", "toss", "BANK"),
+    KOOKMIN_CARD("301", "국민카드", "kookmin-card", "CARD"),
+    HYUNDAI_CAPITAL("054", "현대캐피탈", "hyundai-capital", "CARD"),
+    SAMSUNG_FIRE("221", "삼성화재", "samsung-fire", "INSURANCE");
     
     private final String code;          // 기관 코드
     private final String bankName;      // 은행명
     private final String configKey;     // 설정 키
+    private final String serviceType;   // 서비스 구분(BANK/CARD/INSURANCE)
     
     /**
      * 기관 코드로 BankCode 찾기
@@ -0,0 +1,48 @@
+package com.kftc.bank.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 은행 계좌목록/사용자정보 응답 (/v2.0/account/list, /v2.0/user/me)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InstitutionAccountListResponse(
+        @JsonProperty("rsp_code") String rspCode,
+        @JsonProperty("rsp_message") String rspMessage,
+        @JsonProperty("res_cnt") String resCnt,
+        @JsonProperty("res_list") List<Account> resList) {
+
+    public List<Account> accounts() {
+        return resList != null ? resList : List.of();
+    }
+
+    /**
+     * 계좌 항목 (오픈뱅킹 표준 필드, 기관이 보내지 않은 필드는 응답에서 생략)
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Account(
+            @JsonProperty("fintech_use_num") String fintechUseNum,
+            @JsonProperty("account_alias") String accountAlias,
+            @JsonProperty("bank_code_std") String bankCodeStd,
+            @JsonProperty("bank_code_sub") String bankCodeSub,
+            @JsonProperty("bank_name") String bankName,
+            @JsonProperty("savings_bank_name") String savingsBankName,
+            @JsonProperty("account_num") String accountNum,
+            @JsonProperty("account_num_masked") String accountNumMasked,
+            @JsonProperty("account_seq") String accountSeq,
+            @JsonProperty("account_holder_name") String accountHolderName,
+            @JsonProperty("account_holder_type") String accountHolderType,
+            @JsonProperty("account_type") String accountType,
+            @JsonProperty("inquiry_agree_yn") String inquiryAgreeYn,
+            @JsonProperty("inquiry_agree_dtime") String inquiryAgreeDtime,
+            @JsonProperty("transfer_agree_yn") String transferAgreeYn,
+            @JsonProperty("transfer_agree_dtime") String transferAgreeDtime,
+            @JsonProperty("account_state") String accountState,
+            @JsonProperty("payer_num") String payerNum) {
+    }
+}
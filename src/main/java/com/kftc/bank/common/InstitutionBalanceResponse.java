@@ -0,0 +1,34 @@
+package com.kftc.bank.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 은행 잔액조회/이체 응답
+ * 기관에 따라 값이 최상위 또는 data 아래에 오므로 최상위 값을 먼저 사용한다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InstitutionBalanceResponse(
+        @JsonProperty("rsp_code") String rspCode,
+        @JsonProperty("balance_amt") String balanceAmt,
+        @JsonProperty("account_num_masked") String accountNumMasked,
+        @JsonProperty("account_alias") String accountAlias,
+        @JsonProperty("account_holder_name") String accountHolderName,
+        @JsonProperty("data") InstitutionBalanceResponse data) {
+
+    public String resolvedBalanceAmt() {
+        return balanceAmt != null || data == null ? balanceAmt : data.balanceAmt;
+    }
+
+    public String resolvedAccountNumMasked() {
+        return accountNumMasked != null || data == null ? accountNumMasked : data.accountNumMasked;
+    }
+
+    public String resolvedAccountAlias() {
+        return accountAlias != null || data == null ? accountAlias : data.accountAlias;
+    }
+
+    public String resolvedAccountHolderName() {
+        return accountHolderName != null || data == null ? accountHolderName : data.accountHolderName;
+    }
+}
@@ -0,0 +1,33 @@
+package com.kftc.bank.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 은행 거래내역조회 응답 (/v2.0/account/transaction_list)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InstitutionTransactionListResponse(
+        @JsonProperty("rsp_code") String rspCode,
+        @JsonProperty("res_list") List<Transaction> resList) {
+
+    public List<Transaction> transactions() {
+        return resList != null ? resList : List.of();
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Transaction(
+            @JsonProperty("tran_date") String tranDate,
+            @JsonProperty("tran_time") String tranTime,
+            @JsonProperty("inout_type") String inoutType,
+            @JsonProperty("tran_type") String tranType,
+            @JsonProperty("print_content") String printContent,
+            @JsonProperty("tran_amt") String tranAmt,
+            @JsonProperty("after_balance_amt") String afterBalanceAmt,
+            @JsonProperty("branch_name") String branchName) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.kftc.bank.common;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 금융기관 입금/출금이체 요청 본문 (API 명세서 기준, 값이 없는 선택 필드는 보내지 않음)
+ */
+@Getter
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InstitutionTransferRequest {
+
+    @JsonProperty("bank_tran_id")
+    private final String bankTranId;
+
+    @JsonProperty("cntr_account_type")
+    private final String cntrAccountType;
+
+    @JsonProperty("cntr_account_num")
+    private final String cntrAccountNum;
+
+    @JsonProperty("dps_print_content")
+    private final String dpsPrintContent;
+
+    @JsonProperty("fintech_use_num")
+    private final String fintechUseNum;
+
+    @JsonProperty("wd_print_content")
+    private final String wdPrintContent;
+
+    @JsonProperty("tran_amt")
+    private final String tranAmt;
+
+    @JsonProperty("tran_dtime")
+    private final String tranDtime;
+
+    @JsonProperty("req_client_name")
+    private final String reqClientName;
+
+    @JsonProperty("req_client_num")
+    private final String reqClientNum;
+
+    @JsonProperty("transfer_purpose")
+    private final String transferPurpose;
+
+    @JsonProperty("req_client_bank_code")
+    private final String reqClientBankCode;
+
+    @JsonProperty("req_client_account_num")
+    private final String reqClientAccountNum;
+
+    @JsonProperty("req_client_fintech_use_num")
+    private final String reqClientFintechUseNum;
+
+    @JsonProperty("req_from_offline_yn")
+    private final String reqFromOfflineYn;
+
+    @JsonProperty("sub_fmc_name")
+    private final String subFmcName;
+
+    @JsonProperty("sub_fmc_num")
+    private final String subFmcNum;
+
+    @JsonProperty("sub_fmc_business_num")
+    private final String subFmcBusinessNum;
+
+    @JsonProperty("recv_client_name")
+    private final String recvClientName;
+
+    @JsonProperty("recv_client_bank_code")
+    private final String recvClientBankCode;
+
+    @JsonProperty("recv_client_account_num")
+    private final String recvClientAccountNum;
+}
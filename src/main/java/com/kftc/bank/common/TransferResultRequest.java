@@ -0,0 +1,30 @@
+package com.kftc.bank.common;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 금융기관 이체결과조회 요청 본문 (단건 조회)
+ */
+@Getter
+@Builder
+@ToString
+public class TransferResultRequest {
+
+    @JsonProperty("check_type")
+    private final String checkType;
+
+    @JsonProperty("tran_dtime")
+    private final String tranDtime;
+
+    @JsonProperty("req_cnt")
+    private final String reqCnt;
+
+    @JsonProperty("bank_tran_id")
+    private final String bankTranId;
+
+    @JsonProperty("tran_date")
+    private final String tranDate;
+}
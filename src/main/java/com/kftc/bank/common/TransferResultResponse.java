@@ -0,0 +1,31 @@
+package com.kftc.bank.common;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 은행 이체결과조회 응답 (/v2.0/transfer/result)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record TransferResultResponse(
+        @JsonProperty("rsp_code") String rspCode,
+        @JsonProperty("res_list") List<Result> resList) {
+
+    /**
+     * 단건 조회 결과의 거래 응답코드 (없으면 전체 응답코드)
+     */
+    public String resolvedRspCode() {
+        if (resList != null && !resList.isEmpty() && resList.get(0) != null && resList.get(0).rspCode() != null) {
+            return resList.get(0).rspCode();
+        }
+        return rspCode;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Result(
+            @JsonProperty("bank_tran_id") String bankTranId,
+            @JsonProperty("rsp_code") String rspCode) {
+    }
+}
@@ -3,6 +3,7 @@ package com.kftc.bank.controller;
 import com.kftc.bank.service.BankService;
 import com.kftc.bank.common.BankAccountInfo;
 import com.kftc.bank.common.BankCode;
+import com.kftc.bank.common.InstitutionTransactionListResponse;
 import com.kftc.bank.common.TransferRequest;
 import com.kftc.bank.common.TransferResponse;
 import com.kftc.common.dto.BasicResponse;
@@ -172,7 +173,8 @@ public class OpenBankingProxyController {
             // 인증된 사용자 정보 가져오기
             JwtAuthenticationFilter.JwtAuthenticatedUser authenticatedUser = getAuthenticatedUser();
             
-            List<Object> transactions = bankService.getTransactionList(fintechUseNum, authenticatedUser.getAccessToken());
+            List<InstitutionTransactionListResponse.Transaction> transactions =
+                bankService.getTransactionList(fintechUseNum, authenticatedUser.getAccessToken());
             
             BasicResponse response = BasicResponse.builder()
                 .status(200)
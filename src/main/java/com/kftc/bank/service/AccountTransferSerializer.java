@@ -0,0 +1,126 @@
+package com.kftc.bank.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 계좌(핀테크이용번호) 단위 이체 직렬화기
+ *
+ * 핀테크이용번호 해시로 고정 개수의 공정(fair) 락 중 하나를 골라
+ * 같은 계좌의 이체는 도착 순서대로 하나씩, 다른 계좌의 이체는 병렬로 처리한다.
+ * 계좌별 대기 건수가 상한을 넘으면 대기 없이 즉시 거절한다.
+ */
+@Slf4j
+@Component
+public class AccountTransferSerializer {
+
+    private final ReentrantLock[] stripes;
+    private final ConcurrentHashMap<String, Integer> depthByAccount = new ConcurrentHashMap<>();
+    private final int maxQueueDepth;
+    private final long maxWaitMs;
+
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    public AccountTransferSerializer(@Value("${bank.transfer.serialize.stripes:256}") int stripeCount,
+                                     @Value("${bank.transfer.serialize.max-queue-depth:5}") int maxQueueDepth,
+                                     @Value("${bank.transfer.serialize.max-wait-ms:30000}") long maxWaitMs) {
+        // 2의 거듭제곱으로 맞춰 마스킹으로 스트라이프 선택
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock(true);
+        }
+        this.maxQueueDepth = maxQueueDepth;
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * 계좌 단위로 직렬화하여 작업 실행
+     *
+     * @param fintechUseNum 핀테크이용번호
+     * @param task 이체 작업
+     * @param onRejected 대기 상한 초과 또는 대기 시간 초과 시 반환할 응답
+     */
+    public <T> T execute(String fintechUseNum, Supplier<T> task, Supplier<T> onRejected) {
+        if (fintechUseNum == null) {
+            return task.get();
+        }
+
+        // 계좌별 대기 건수는 compute로 원자적으로 증감 (0이 되면 맵에서 제거)
+        int current = depthByAccount.merge(fintechUseNum, 1, Integer::sum);
+        try {
+            if (current > maxQueueDepth) {
+                rejectedCount.incrementAndGet();
+                log.warn("계좌 이체 대기 한도 초과로 거절: fintechUseNum={}, depth={}", fintechUseNum, current);
+                return onRejected.get();
+            }
+
+            ReentrantLock lock = stripeFor(fintechUseNum);
+            long waitStart = System.nanoTime();
+            boolean locked;
+            try {
+                locked = lock.tryLock(maxWaitMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                locked = false;
+            }
+            recordWait(System.nanoTime() - waitStart);
+
+            if (!locked) {
+                timedOutCount.incrementAndGet();
+                log.warn("계좌 이체 대기 시간 초과로 거절: fintechUseNum={}, maxWaitMs={}", fintechUseNum, maxWaitMs);
+                return onRejected.get();
+            }
+
+            acquiredCount.incrementAndGet();
+            try {
+                return task.get();
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            depthByAccount.computeIfPresent(fintechUseNum, (k, v) -> v <= 1 ? null : v - 1);
+        }
+    }
+
+    private ReentrantLock stripeFor(String fintechUseNum) {
+        int h = fintechUseNum.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * 대기 시간 및 거절 통계
+     */
+    public Map<String, Object> getStats() {
+        long acquired = acquiredCount.get();
+        long waited = acquired + timedOutCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("acquired", acquired);
+        stats.put("rejected_queue_full", rejectedCount.get());
+        stats.put("rejected_timeout", timedOutCount.get());
+        stats.put("avg_wait_ms", waited == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / waited);
+        stats.put("max_wait_ms", maxWaitNanos.get() / 1_000_000.0);
+        stats.put("active_accounts", depthByAccount.size());
+        stats.put("max_queue_depth", maxQueueDepth);
+        return stats;
+    }
+}
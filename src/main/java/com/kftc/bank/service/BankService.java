@@ -1,21 +1,20 @@
 package com.kftc.bank.service;
 
 import com.kftc.bank.common.*;
+import com.kftc.common.client.InstitutionCallException;
+import com.kftc.common.client.InstitutionClient;
 import com.kftc.user.entity.UserConsentFinancialInstitution;
 import com.kftc.user.entity.AccountMapping;
 import com.kftc.user.repository.UserConsentFinancialInstitutionRepository;
 import com.kftc.user.repository.AccountMappingRepository;
+import com.kftc.user.service.FinancialInstitutionCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
 
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.Collectors;
 
 /**
@@ -27,10 +26,12 @@ import java.util.stream.Collectors;
 @Slf4j
 public class BankService {
     
-    private final RestTemplate restTemplate;
+    private final InstitutionClient institutionClient;
     private final UserConsentFinancialInstitutionRepository consentRepository;
     private final AccountMappingRepository accountMappingRepository;
-    private final ExecutorService executor = Executors.newFixedThreadPool(10);
+    private final AccountTransferSerializer accountTransferSerializer;
+    private final TransferReplayCache transferReplayCache;
+    private final FinancialInstitutionCatalog financialInstitutionCatalog;
     
     // 금융기관별 baseUrl 설정
     @Value("${financial.institutions.shinhan-bank.base-url}")
@@ -64,8 +65,7 @@ public class BankService {
      * 기관간 인증 헤더 생성
      */
     private HttpHeaders createInstitutionAuthHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpHeaders headers = InstitutionClient.jsonHeaders();
         headers.set("X-API-KEY", "KFTC_BANK_API_KEY_2024");
         headers.set("X-CLIENT-ID", "KFTC_CENTER");
         return headers;
@@ -149,24 +149,17 @@ public class BankService {
                 return null;
             }
             
-            String url = baseUrl + "/v2.0/user/me?user_seq_no=" + userSeqNo;
+            String path = "/v2.0/user/me?user_seq_no=" + userSeqNo;
             
             HttpHeaders headers = createInstitutionAuthHeaders();
             headers.set("X-BANK-CODE", bankCode);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
             
-            log.info("기관별 요청 시작: bankCode={}, url={}", bankCode, url);
+            log.info("기관별 요청 시작: bankCode={}, url={}", bankCode, baseUrl + path);
             
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, Map.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                log.info("기관별 요청 성공: bankCode={}", bankCode);
-                return new InstitutionResponse(bankCode, true, response.getBody());
-            } else {
-                log.warn("기관별 요청 실패: bankCode={}, status={}", bankCode, response.getStatusCode());
-                return new InstitutionResponse(bankCode, false, null);
-            }
+            InstitutionAccountListResponse body =
+                institutionClient.get(bankCode, baseUrl, path, headers, InstitutionAccountListResponse.class);
+            log.info("기관별 요청 성공: bankCode={}", bankCode);
+            return new InstitutionResponse(bankCode, true, body);
             
         } catch (Exception e) {
             log.warn("기관별 요청 오류: bankCode={}, error={}", bankCode, e.getMessage());
@@ -201,9 +194,9 @@ public class BankService {
                 institutionInfoList.add(institutionInfo);
                 
                 // 계좌 수 집계
-                Object resCnt = response.getData().get("res_cnt");
+                String resCnt = response.getData().resCnt();
                 if (resCnt != null) {
-                    totalAccountCount += Integer.parseInt(resCnt.toString());
+                    totalAccountCount += Integer.parseInt(resCnt);
                 }
             }
         }
@@ -223,15 +216,15 @@ public class BankService {
      */
     private Map<String, Object> createInstitutionInfo(InstitutionResponse response) {
         Map<String, Object> info = new HashMap<>();
-        Map<String, Object> data = response.getData();
+        InstitutionAccountListResponse data = response.getData();
         
         info.put("bank_code_std", response.getBankCode());
-        info.put("bank_name", getBankName(response.getBankCode()));
-        info.put("res_cnt", data.getOrDefault("res_cnt", "0"));
+        info.put("bank_name", financialInstitutionCatalog.getBankName(response.getBankCode(), "기타기관"));
+        info.put("res_cnt", data.resCnt() != null ? data.resCnt() : "0");
         
         // 계좌 목록이 있으면 포함
-        if (data.containsKey("res_list")) {
-            info.put("res_list", data.get("res_list"));
+        if (data.resList() != null) {
+            info.put("res_list", data.resList());
         }
         
         return info;
@@ -291,19 +284,6 @@ public class BankService {
         return result;
     }
     
-    /**
-     * 은행코드별 은행명 반환
-     */
-    private String getBankName(String bankCode) {
-        switch (bankCode) {
-            case "088": return "신한은행";
-            case "301": return "국민카드";
-            case "054": return "현대캐피탈";
-            case "221": return "삼성화재";
-            default: return "기타기관";
-        }
-    }
-    
     /**
      * 빈 응답 생성
      */
@@ -353,9 +333,9 @@ public class BankService {
     private static class InstitutionResponse {
         private final String bankCode;
         private final boolean success;
-        private final Map<String, Object> data;
+        private final InstitutionAccountListResponse data;
         
-        public InstitutionResponse(String bankCode, boolean success, Map<String, Object> data) {
+        public InstitutionResponse(String bankCode, boolean success, InstitutionAccountListResponse data) {
             this.bankCode = bankCode;
             this.success = success;
             this.data = data;
@@ -363,7 +343,7 @@ public class BankService {
         
         public String getBankCode() { return bankCode; }
         public boolean isSuccess() { return success; }
-        public Map<String, Object> getData() { return data; }
+        public InstitutionAccountListResponse getData() { return data; }
     }
     
     /**
@@ -419,34 +399,31 @@ public class BankService {
             String bankTranId = generateBankTranId();
             String tranDtime = getCurrentDateTime();
             
-            String apiUrl = String.format("%s/v2.0/account/balance?account_num=%s&bank_tran_id=%s&tran_dtime=%s", 
-                baseUrl, realAccountNum, bankTranId, tranDtime);
-            log.info("신한은행 API 호출: {}", apiUrl);
+            String path = String.format("/v2.0/account/balance?account_num=%s&bank_tran_id=%s&tran_dtime=%s", 
+                realAccountNum, bankTranId, tranDtime);
+            log.info("신한은행 API 호출: {}", baseUrl + path);
             
             HttpHeaders headers = createBankApiHeaders(accessToken, bankCode);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
             
-            ResponseEntity<Map> response = restTemplate.exchange(
-                apiUrl, HttpMethod.GET, entity, Map.class);
+            InstitutionBalanceResponse responseBody;
+            try {
+                responseBody = institutionClient.get(bankCode, baseUrl, path, headers, InstitutionBalanceResponse.class);
+            } catch (InstitutionCallException e) {
+                log.error("신한은행 API 호출 실패: {}", e.getMessage());
+                throw new RuntimeException("신한은행 API 호출에 실패했습니다");
+            }
+            log.info("신한은행 API 응답 성공: {}", responseBody);
             
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                log.info("신한은행 API 응답 성공: {}", responseBody);
-                
-                // 4. 응답을 BankAccountInfo 객체로 변환
-                BankAccountInfo accountInfo;
-                if (accountMapping != null) {
-                    accountInfo = convertToBankAccountInfo(responseBody, accountMapping);
-                } else {
-                    // 매핑 정보가 없는 경우, 기본값으로 생성
-                    accountInfo = convertToBankAccountInfoWithoutMapping(responseBody, fintechUseNum, bankCode);
-                }
-                log.info("=== 계좌잔액조회 성공 ===");
-                return accountInfo;
+            // 4. 응답을 BankAccountInfo 객체로 변환
+            BankAccountInfo accountInfo;
+            if (accountMapping != null) {
+                accountInfo = convertToBankAccountInfo(responseBody, accountMapping);
             } else {
-                log.error("신한은행 API 호출 실패: status={}, body={}", response.getStatusCode(), response.getBody());
-                throw new RuntimeException("신한은행 API 호출에 실패했습니다");
+                // 매핑 정보가 없는 경우, 기본값으로 생성
+                accountInfo = convertToBankAccountInfoWithoutMapping(responseBody, fintechUseNum, bankCode);
             }
+            log.info("=== 계좌잔액조회 성공 ===");
+            return accountInfo;
             
         } catch (Exception e) {
             log.error("계좌잔액조회 중 오류 발생: {}", e.getMessage(), e);
@@ -477,7 +454,7 @@ public class BankService {
     /**
      * 거래내역조회 - 실제 은행 API 호출
      */
-    public List<Object> getTransactionList(String fintechUseNum, String accessToken) {
+    public List<InstitutionTransactionListResponse.Transaction> getTransactionList(String fintechUseNum, String accessToken) {
         log.info("=== 거래내역조회 시작 ===");
         log.info("핀테크이용번호: {}", fintechUseNum);
         
@@ -513,31 +490,23 @@ public class BankService {
             String bankTranId = generateBankTranId();
             String tranDtime = getCurrentDateTime();
             
-            String apiUrl = String.format("%s/v2.0/account/transaction_list?account_num=%s&bank_tran_id=%s&tran_dtime=%s", 
-                baseUrl, realAccountNum, bankTranId, tranDtime);
-            log.info("은행 API 호출: {}", apiUrl);
+            String path = String.format("/v2.0/account/transaction_list?account_num=%s&bank_tran_id=%s&tran_dtime=%s", 
+                realAccountNum, bankTranId, tranDtime);
+            log.info("은행 API 호출: {}", baseUrl + path);
             
             HttpHeaders headers = createBankApiHeaders(accessToken, bankCode);
-            HttpEntity<String> entity = new HttpEntity<>(headers);
             
-            ResponseEntity<Map> response = restTemplate.exchange(
-                apiUrl, HttpMethod.GET, entity, Map.class);
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                log.info("거래내역조회 API 응답 성공");
-                
-                // 거래내역 리스트 추출
-                Object transactionList = responseBody.get("res_list");
-                if (transactionList instanceof List) {
-                    return (List<Object>) transactionList;
-                } else {
-                    return new ArrayList<>();
-                }
-            } else {
-                log.error("은행 API 호출 실패: status={}", response.getStatusCode());
+            InstitutionTransactionListResponse responseBody;
+            try {
+                responseBody = institutionClient.get(bankCode, baseUrl, path, headers, InstitutionTransactionListResponse.class);
+            } catch (InstitutionCallException e) {
+                log.error("은행 API 호출 실패: {}", e.getMessage());
                 return new ArrayList<>();
             }
+            log.info("거래내역조회 API 응답 성공");
+            
+            // 거래내역 리스트 추출
+            return responseBody.transactions();
             
         } catch (Exception e) {
             log.error("거래내역조회 중 오류 발생: {}", e.getMessage(), e);
@@ -549,8 +518,7 @@ public class BankService {
      * 은행 API 호출을 위한 헤더 생성
      */
     private HttpHeaders createBankApiHeaders(String accessToken, String bankCode) {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpHeaders headers = InstitutionClient.jsonHeaders();
         headers.set("Authorization", "Bearer " + accessToken);
         headers.set("X-API-KEY", "KFTC_BANK_API_KEY_2024");
         headers.set("X-CLIENT-ID", "KFTC_CENTER");
@@ -561,28 +529,7 @@ public class BankService {
     /**
      * 은행 API 응답을 BankAccountInfo로 변환
      */
-    private BankAccountInfo convertToBankAccountInfo(Map<String, Object> responseBody, AccountMapping accountMapping) {
-        // 잔액 정보 추출
-        Long balance = 0L;
-        String balanceStr = null;
-        
-        if (responseBody.containsKey("balance_amt")) {
-            balanceStr = responseBody.get("balance_amt").toString();
-        } else if (responseBody.containsKey("data")) {
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            if (data != null && data.containsKey("balance_amt")) {
-                balanceStr = data.get("balance_amt").toString();
-            }
-        }
-        
-        if (balanceStr != null) {
-            try {
-                balance = Long.parseLong(balanceStr);
-            } catch (NumberFormatException e) {
-                log.warn("잔액 변환 실패: {}", balanceStr);
-            }
-        }
-        
+    private BankAccountInfo convertToBankAccountInfo(InstitutionBalanceResponse responseBody, AccountMapping accountMapping) {
         return BankAccountInfo.builder()
             .fintechUseNum(accountMapping.getFintechUseNum())
             .bankCode(accountMapping.getBankCodeStd())
@@ -590,12 +537,26 @@ public class BankService {
             .accountName(accountMapping.getAccountAlias())
             .accountHolderName(accountMapping.getAccountHolderName())
             .accountType(accountMapping.getAccountType())
-            .balance(balance)
+            .balance(parseBalance(responseBody.resolvedBalanceAmt()))
             .status("ACTIVE")
             .productName(accountMapping.getBankName())
             .build();
     }
     
+    /**
+     * 잔액 문자열 변환 (없거나 형식 오류면 0)
+     */
+    private Long parseBalance(String balanceStr) {
+        if (balanceStr != null) {
+            try {
+                return Long.parseLong(balanceStr);
+            } catch (NumberFormatException e) {
+                log.warn("잔액 변환 실패: {}", balanceStr);
+            }
+        }
+        return 0L;
+    }
+    
     /**
      * AccountMapping을 BankAccountInfo로 변환
      */
@@ -616,60 +577,10 @@ public class BankService {
     /**
      * 매핑 정보 없이 은행 API 응답을 BankAccountInfo로 변환
      */
-    private BankAccountInfo convertToBankAccountInfoWithoutMapping(Map<String, Object> responseBody, String fintechUseNum, String bankCode) {
-        // 잔액 정보 추출
-        Long balance = 0L;
-        String balanceStr = null;
-        
-        if (responseBody.containsKey("balance_amt")) {
-            balanceStr = responseBody.get("balance_amt").toString();
-        } else if (responseBody.containsKey("data")) {
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            if (data != null && data.containsKey("balance_amt")) {
-                balanceStr = data.get("balance_amt").toString();
-            }
-        }
-        
-        if (balanceStr != null) {
-            try {
-                balance = Long.parseLong(balanceStr);
-            } catch (NumberFormatException e) {
-                log.warn("잔액 변환 실패: {}", balanceStr);
-            }
-        }
-        
-        // 계좌번호 추출
-        String accountNumber = null;
-        if (responseBody.containsKey("account_num_masked")) {
-            accountNumber = responseBody.get("account_num_masked").toString();
-        } else if (responseBody.containsKey("data")) {
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            if (data != null && data.containsKey("account_num_masked")) {
-                accountNumber = data.get("account_num_masked").toString();
-            }
-        }
-        
-        // 계좌명 추출
-        String accountName = null;
-        if (responseBody.containsKey("account_alias")) {
-            accountName = responseBody.get("account_alias").toString();
-        } else if (responseBody.containsKey("data")) {
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            if (data != null && data.containsKey("account_alias")) {
-                accountName = data.get("account_alias").toString();
-            }
-        }
-        
-        // 예금주명 추출
-        String accountHolderName = null;
-        if (responseBody.containsKey("account_holder_name")) {
-            accountHolderName = responseBody.get("account_holder_name").toString();
-        } else if (responseBody.containsKey("data")) {
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            if (data != null && data.containsKey("account_holder_name")) {
-                accountHolderName = data.get("account_holder_name").toString();
-            }
-        }
+    private BankAccountInfo convertToBankAccountInfoWithoutMapping(InstitutionBalanceResponse responseBody, String fintechUseNum, String bankCode) {
+        String accountNumber = responseBody.resolvedAccountNumMasked();
+        String accountName = responseBody.resolvedAccountAlias();
+        String accountHolderName = responseBody.resolvedAccountHolderName();
         
         return BankAccountInfo.builder()
             .fintechUseNum(fintechUseNum)
@@ -678,16 +589,26 @@ public class BankService {
             .accountName(accountName != null ? accountName : "신한은행 계좌")
             .accountHolderName(accountHolderName != null ? accountHolderName : "고객")
             .accountType("P")
-            .balance(balance)
+            .balance(parseBalance(responseBody.resolvedBalanceAmt()))
             .status("ACTIVE")
-            .productName(getBankName(bankCode))
+            .productName(financialInstitutionCatalog.getBankName(bankCode, "기타기관"))
             .build();
     }
     
     /**
      * 출금이체 처리
+     * 같은 핀테크이용번호의 출금은 순서대로 하나씩 처리 (다른 계좌는 병렬)
      */
     public TransferResponse withdrawTransfer(String fintechUseNum, TransferRequest request, String accessToken) {
+        // 클라이언트 재시도(동일 bank_tran_id)는 기관 재호출 없이 기존 결과 반환
+        return transferReplayCache.execute("WD", fintechUseNum, request, () ->
+            accountTransferSerializer.execute(fintechUseNum,
+                () -> executeWithdrawTransfer(fintechUseNum, request, accessToken),
+                () -> TransferResponse.error(generateApiTranId(), "A0027", "동일 계좌의 이체 요청이 처리 중입니다. 잠시 후 다시 시도해주세요")),
+            this::duplicateBankTranIdResponse);
+    }
+    
+    private TransferResponse executeWithdrawTransfer(String fintechUseNum, TransferRequest request, String accessToken) {
         log.info("=== 출금이체 시작 ===");
         log.info("핀테크이용번호: {}, 이체금액: {}", fintechUseNum, String.valueOf(request.getTranAmtAsLong()));
         
@@ -709,34 +630,31 @@ public class BankService {
                 return TransferResponse.error(generateApiTranId(), "A0024", "지원하지 않는 금융기관입니다");
             }
             
-            // 3. 이체 요청 데이터 생성
+            // 3. 이체 요청 데이터 생성 (재시도 시 기관이 같은 거래로 인식하도록 클라이언트 거래고유번호 사용)
             String apiTranId = generateApiTranId();
-            String bankTranId = generateBankTranId();
+            String bankTranId = request.getBankTranId() != null ? request.getBankTranId() : generateBankTranId();
             
-            Map<String, Object> transferData = createWithdrawTransferData(request, bankTranId, accountMapping);
+            InstitutionTransferRequest transferData = createWithdrawTransferData(request, bankTranId, accountMapping);
             
             // 4. 금융기관 API 호출
-            String transferUrl = baseUrl + "/v2.0/transfer/withdraw/fin_num";
+            String transferPath = "/v2.0/transfer/withdraw/fin_num";
             
             HttpHeaders headers = createBankApiHeaders(accessToken, bankCode);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(transferData, headers);
             
-            log.info("출금이체 API 호출: url={}, data={}", transferUrl, transferData);
-            
-            ResponseEntity<Map> response = restTemplate.exchange(
-                transferUrl, HttpMethod.POST, entity, Map.class);
+            log.info("출금이체 API 호출: url={}, data={}", baseUrl + transferPath, transferData);
             
             // 5. 응답 처리
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                log.info("출금이체 성공: {}", responseBody);
-                
-                return createSuccessTransferResponse(apiTranId, bankTranId, fintechUseNum, 
-                    request, responseBody, accountMapping);
-            } else {
-                log.error("출금이체 실패: status={}, body={}", response.getStatusCode(), response.getBody());
+            InstitutionBalanceResponse responseBody;
+            try {
+                responseBody = institutionClient.post(bankCode, baseUrl, transferPath, transferData, headers, InstitutionBalanceResponse.class);
+            } catch (InstitutionCallException e) {
+                log.error("출금이체 실패: {}", e.getMessage());
                 return TransferResponse.error(apiTranId, "A0025", "출금이체 처리 실패");
             }
+            log.info("출금이체 성공: {}", responseBody);
+            
+            return createSuccessTransferResponse(apiTranId, bankTranId, fintechUseNum, 
+                request, responseBody, accountMapping);
             
         } catch (Exception e) {
             log.error("출금이체 중 오류 발생: fintechUseNum={}, error={}", fintechUseNum, e.getMessage(), e);
@@ -748,6 +666,16 @@ public class BankService {
      * 입금이체 처리
      */
     public TransferResponse depositTransfer(String fintechUseNum, TransferRequest request, String accessToken) {
+        return transferReplayCache.execute("DP", fintechUseNum, request,
+            () -> executeDepositTransfer(fintechUseNum, request, accessToken),
+            this::duplicateBankTranIdResponse);
+    }
+    
+    private TransferResponse duplicateBankTranIdResponse() {
+        return TransferResponse.error(generateApiTranId(), "A0028", "이미 다른 이체에 사용된 거래고유번호입니다");
+    }
+    
+    private TransferResponse executeDepositTransfer(String fintechUseNum, TransferRequest request, String accessToken) {
         log.info("=== 입금이체 시작 ===");
         log.info("핀테크이용번호: {}, 이체금액: {}", fintechUseNum, String.valueOf(request.getTranAmtAsLong()));
         
@@ -769,34 +697,31 @@ public class BankService {
                 return TransferResponse.error(generateApiTranId(), "A0024", "지원하지 않는 금융기관입니다");
             }
             
-            // 3. 이체 요청 데이터 생성
+            // 3. 이체 요청 데이터 생성 (재시도 시 기관이 같은 거래로 인식하도록 클라이언트 거래고유번호 사용)
             String apiTranId = generateApiTranId();
-            String bankTranId = generateBankTranId();
+            String bankTranId = request.getBankTranId() != null ? request.getBankTranId() : generateBankTranId();
             
-            Map<String, Object> transferData = createDepositTransferData(request, bankTranId, accountMapping);
+            InstitutionTransferRequest transferData = createDepositTransferData(request, bankTranId, accountMapping);
             
             // 4. 금융기관 API 호출
-            String transferUrl = baseUrl + "/v2.0/transfer/deposit/fin_num";
+            String transferPath = "/v2.0/transfer/deposit/fin_num";
             
             HttpHeaders headers = createBankApiHeaders(accessToken, bankCode);
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(transferData, headers);
-            
-            log.info("입금이체 API 호출: url={}, data={}", transferUrl, transferData);
             
-            ResponseEntity<Map> response = restTemplate.exchange(
-                transferUrl, HttpMethod.POST, entity, Map.class);
+            log.info("입금이체 API 호출: url={}, data={}", baseUrl + transferPath, transferData);
             
             // 5. 응답 처리
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                log.info("입금이체 성공: {}", responseBody);
-                
-                return createSuccessTransferResponse(apiTranId, bankTranId, fintechUseNum, 
-                    request, responseBody, accountMapping);
-            } else {
-                log.error("입금이체 실패: status={}, body={}", response.getStatusCode(), response.getBody());
+            InstitutionBalanceResponse responseBody;
+            try {
+                responseBody = institutionClient.post(bankCode, baseUrl, transferPath, transferData, headers, InstitutionBalanceResponse.class);
+            } catch (InstitutionCallException e) {
+                log.error("입금이체 실패: {}", e.getMessage());
                 return TransferResponse.error(apiTranId, "A0025", "입금이체 처리 실패");
             }
+            log.info("입금이체 성공: {}", responseBody);
+            
+            return createSuccessTransferResponse(apiTranId, bankTranId, fintechUseNum, 
+                request, responseBody, accountMapping);
             
         } catch (Exception e) {
             log.error("입금이체 중 오류 발생: fintechUseNum={}, error={}", fintechUseNum, e.getMessage(), e);
@@ -807,149 +732,62 @@ public class BankService {
     /**
      * 출금이체 요청 데이터 생성 (API 명세서 준수)
      */
-    private Map<String, Object> createWithdrawTransferData(TransferRequest request, String bankTranId, AccountMapping accountMapping) {
-        Map<String, Object> data = new HashMap<>();
-        
-        // 헤더 정보
-        data.put("bank_tran_id", bankTranId);
-        
-        // 본체 정보 - 출금이체 API 명세서 기준
-        data.put("cntr_account_type", request.getEffectiveCntrAccountType());
-        data.put("cntr_account_num", request.getCntrAccountNum() != null ? request.getCntrAccountNum() : accountMapping.getAccountNum());
-        data.put("dps_print_content", request.getDpsPrintContent() != null ? request.getDpsPrintContent() : "출금이체");
-        data.put("fintech_use_num", request.getEffectiveFintechUseNum());
-        
-        // 선택 필드
-        if (request.getWdPrintContent() != null) {
-            data.put("wd_print_content", request.getWdPrintContent());
-        }
-        
-        // 필수 필드
-        data.put("tran_amt", String.valueOf(request.getTranAmtAsLong()));
-        data.put("tran_dtime", request.getTranDtime() != null ? request.getTranDtime() : getCurrentDateTime());
-        data.put("req_client_name", request.getReqClientName() != null ? request.getReqClientName() : accountMapping.getAccountHolderName());
-        data.put("req_client_num", request.getReqClientNum() != null ? request.getReqClientNum() : "REQ" + System.currentTimeMillis());
-        data.put("transfer_purpose", request.getEffectiveTransferPurpose());
-        
-        // 선택 필드들
-        if (request.getReqClientBankCode() != null) {
-            data.put("req_client_bank_code", request.getReqClientBankCode());
-        }
-        if (request.getReqClientAccountNum() != null) {
-            data.put("req_client_account_num", request.getReqClientAccountNum());
-        }
-        if (request.getReqClientFintechUseNum() != null) {
-            data.put("req_client_fintech_use_num", request.getReqClientFintechUseNum());
-        }
-        
-        data.put("req_from_offline_yn", request.getEffectiveReqFromOfflineYn());
-        
-        // 하위기관 정보 (선택)
-        if (request.getSubFmcName() != null) {
-            data.put("sub_fmc_name", request.getSubFmcName());
-        }
-        if (request.getSubFmcNum() != null) {
-            data.put("sub_fmc_num", request.getSubFmcNum());
-        }
-        if (request.getSubFmcBusinessNum() != null) {
-            data.put("sub_fmc_business_num", request.getSubFmcBusinessNum());
-        }
-        
-        // 최종수취인 정보 (선택)
-        if (request.getRecvClientName() != null) {
-            data.put("recv_client_name", request.getRecvClientName());
-        }
-        if (request.getRecvClientBankCode() != null) {
-            data.put("recv_client_bank_code", request.getRecvClientBankCode());
-        }
-        if (request.getRecvClientAccountNum() != null) {
-            data.put("recv_client_account_num", request.getRecvClientAccountNum());
-        }
-        
-        return data;
+    private InstitutionTransferRequest createWithdrawTransferData(TransferRequest request, String bankTranId, AccountMapping accountMapping) {
+        return transferDataBuilder(request, bankTranId, accountMapping)
+            .dpsPrintContent(request.getDpsPrintContent() != null ? request.getDpsPrintContent() : "출금이체")
+            .reqClientName(request.getReqClientName() != null ? request.getReqClientName() : accountMapping.getAccountHolderName())
+            .build();
     }
     
     /**
      * 입금이체 요청 데이터 생성 (API 명세서 준수)
      */
-    private Map<String, Object> createDepositTransferData(TransferRequest request, String bankTranId, AccountMapping accountMapping) {
-        Map<String, Object> data = new HashMap<>();
-        
-        // 헤더 정보
-        data.put("bank_tran_id", bankTranId);
-        
-        // 본체 정보 - 입금이체 API 명세서 기준
-        data.put("cntr_account_type", request.getEffectiveCntrAccountType());
-        data.put("cntr_account_num", request.getCntrAccountNum() != null ? request.getCntrAccountNum() : accountMapping.getAccountNum());
-        data.put("dps_print_content", request.getDpsPrintContent() != null ? request.getDpsPrintContent() : "입금이체");
-        data.put("fintech_use_num", request.getEffectiveFintechUseNum());
-        
-        // 선택 필드
-        if (request.getWdPrintContent() != null) {
-            data.put("wd_print_content", request.getWdPrintContent());
-        }
-        
-        // 필수 필드
-        data.put("tran_amt", String.valueOf(request.getTranAmtAsLong()));
-        data.put("tran_dtime", request.getTranDtime() != null ? request.getTranDtime() : getCurrentDateTime());
-        data.put("req_client_name", request.getReqClientName() != null ? request.getReqClientName() : "송금인");
-        data.put("req_client_num", request.getReqClientNum() != null ? request.getReqClientNum() : "REQ" + System.currentTimeMillis());
-        data.put("transfer_purpose", request.getEffectiveTransferPurpose());
-        
-        // 선택 필드들
-        if (request.getReqClientBankCode() != null) {
-            data.put("req_client_bank_code", request.getReqClientBankCode());
-        }
-        if (request.getReqClientAccountNum() != null) {
-            data.put("req_client_account_num", request.getReqClientAccountNum());
-        }
-        if (request.getReqClientFintechUseNum() != null) {
-            data.put("req_client_fintech_use_num", request.getReqClientFintechUseNum());
-        }
-        
-        data.put("req_from_offline_yn", request.getEffectiveReqFromOfflineYn());
-        
-        // 하위기관 정보 (선택)
-        if (request.getSubFmcName() != null) {
-            data.put("sub_fmc_name", request.getSubFmcName());
-        }
-        if (request.getSubFmcNum() != null) {
-            data.put("sub_fmc_num", request.getSubFmcNum());
-        }
-        if (request.getSubFmcBusinessNum() != null) {
-            data.put("sub_fmc_business_num", request.getSubFmcBusinessNum());
-        }
-        
-        // 최종수취인 정보 (선택)
-        if (request.getRecvClientName() != null) {
-            data.put("recv_client_name", request.getRecvClientName());
-        }
-        if (request.getRecvClientBankCode() != null) {
-            data.put("recv_client_bank_code", request.getRecvClientBankCode());
-        }
-        if (request.getRecvClientAccountNum() != null) {
-            data.put("recv_client_account_num", request.getRecvClientAccountNum());
-        }
-        
-        return data;
+    private InstitutionTransferRequest createDepositTransferData(TransferRequest request, String bankTranId, AccountMapping accountMapping) {
+        return transferDataBuilder(request, bankTranId, accountMapping)
+            .dpsPrintContent(request.getDpsPrintContent() != null ? request.getDpsPrintContent() : "입금이체")
+            .reqClientName(request.getReqClientName() != null ? request.getReqClientName() : "송금인")
+            .build();
+    }
+    
+    /**
+     * 입금/출금이체 공통 요청 필드 (선택 필드는 요청에 값이 있을 때만 전송)
+     */
+    private InstitutionTransferRequest.InstitutionTransferRequestBuilder transferDataBuilder(
+            TransferRequest request, String bankTranId, AccountMapping accountMapping) {
+        return InstitutionTransferRequest.builder()
+            // 헤더 정보
+            .bankTranId(bankTranId)
+            // 본체 정보
+            .cntrAccountType(request.getEffectiveCntrAccountType())
+            .cntrAccountNum(request.getCntrAccountNum() != null ? request.getCntrAccountNum() : accountMapping.getAccountNum())
+            .fintechUseNum(request.getEffectiveFintechUseNum())
+            .wdPrintContent(request.getWdPrintContent())
+            .tranAmt(String.valueOf(request.getTranAmtAsLong()))
+            .tranDtime(request.getTranDtime() != null ? request.getTranDtime() : getCurrentDateTime())
+            .reqClientNum(request.getReqClientNum() != null ? request.getReqClientNum() : "REQ" + System.currentTimeMillis())
+            .transferPurpose(request.getEffectiveTransferPurpose())
+            .reqClientBankCode(request.getReqClientBankCode())
+            .reqClientAccountNum(request.getReqClientAccountNum())
+            .reqClientFintechUseNum(request.getReqClientFintechUseNum())
+            .reqFromOfflineYn(request.getEffectiveReqFromOfflineYn())
+            // 하위기관 정보 (선택)
+            .subFmcName(request.getSubFmcName())
+            .subFmcNum(request.getSubFmcNum())
+            .subFmcBusinessNum(request.getSubFmcBusinessNum())
+            // 최종수취인 정보 (선택)
+            .recvClientName(request.getRecvClientName())
+            .recvClientBankCode(request.getRecvClientBankCode())
+            .recvClientAccountNum(request.getRecvClientAccountNum());
     }
     
     /**
      * 성공 응답 생성
      */
     private TransferResponse createSuccessTransferResponse(String apiTranId, String bankTranId, String fintechUseNum, 
-                                                         TransferRequest request, Map<String, Object> responseBody, AccountMapping accountMapping) {
+                                                         TransferRequest request, InstitutionBalanceResponse responseBody, AccountMapping accountMapping) {
         
         // 응답에서 잔액 추출
-        String balanceAmt = "0";
-        if (responseBody.containsKey("balance_amt")) {
-            balanceAmt = responseBody.get("balance_amt").toString();
-        } else if (responseBody.containsKey("data")) {
-            Map<String, Object> data = (Map<String, Object>) responseBody.get("data");
-            if (data != null && data.containsKey("balance_amt")) {
-                balanceAmt = data.get("balance_amt").toString();
-            }
-        }
+        String balanceAmt = responseBody.resolvedBalanceAmt() != null ? responseBody.resolvedBalanceAmt() : "0";
         
         return TransferResponse.builder()
             .apiTranId(apiTranId)
@@ -959,7 +797,7 @@ public class BankService {
             .bankTranId(bankTranId)
             .bankTranDate(getCurrentDate())
             .bankCodeStd(accountMapping.getBankCodeStd())
-            .bankName(getBankName(accountMapping.getBankCodeStd()))
+            .bankName(financialInstitutionCatalog.getBankName(accountMapping.getBankCodeStd(), "기타기관"))
             .fintechUseNum(fintechUseNum)
             .accountNumMasked(accountMapping.getAccountNumMasked())
             .accountHolderName(accountMapping.getAccountHolderName())
@@ -992,6 +830,37 @@ public class BankService {
             java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd"));
     }
     
+    /**
+     * 이체결과조회 (미완료 거래 대사용)
+     * 
+     * @return 기관 응답 본문, 기관이 결과를 알려주지 못하면 null
+     */
+    public TransferResultResponse queryTransferResult(String bankCode, String bankTranId, String tranDate) {
+        String baseUrl = bankCode != null ? getInstitutionBaseUrl(bankCode) : null;
+        if (baseUrl == null) {
+            return null;
+        }
+        
+        TransferResultRequest requestData = TransferResultRequest.builder()
+            .checkType("2")
+            .tranDtime(getCurrentDateTime())
+            .reqCnt("1")
+            .bankTranId(bankTranId)
+            .tranDate(tranDate)
+            .build();
+        
+        try {
+            return institutionClient.post(bankCode, baseUrl, "/v2.0/transfer/result", requestData,
+                createInstitutionAuthHeaders(), TransferResultResponse.class);
+        } catch (InstitutionCallException e) {
+            log.warn("이체결과조회 응답 없음: bankCode={}, bankTranId={}, status={}", 
+                    bankCode, bankTranId, e.getHttpStatus());
+        } catch (Exception e) {
+            log.warn("이체결과조회 실패: bankCode={}, bankTranId={}, error={}", bankCode, bankTranId, e.getMessage());
+        }
+        return null;
+    }
+    
     public BankAccountInfo verifyAccountRealName(String bankCode, String accountNum, String accessToken) {
         log.warn("레거시 verifyAccountRealName 메서드 호출됨 - null 반환");
         return null;
@@ -1023,18 +892,7 @@ public class BankService {
             }
             
             // 간단한 헬스체크 API 호출
-            String healthCheckUrl = baseUrl + "/health";
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("X-API-KEY", "KFTC_BANK_API_KEY_2024");
-            headers.set("X-CLIENT-ID", "KFTC_CENTER");
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            ResponseEntity<Map> response = restTemplate.exchange(
-                healthCheckUrl, HttpMethod.GET, entity, Map.class);
-            
-            boolean isHealthy = response.getStatusCode().is2xxSuccessful();
+            boolean isHealthy = institutionClient.ping(bankCode, baseUrl, "/health", createInstitutionAuthHeaders());
             log.info("은행 연결 상태: bankCode={}, healthy={}", bankCode, isHealthy);
             return isHealthy;
             
@@ -1043,4 +901,4 @@ public class BankService {
         return false;
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,187 @@
+package com.kftc.bank.service;
+
+import com.kftc.bank.common.TransferRequest;
+import com.kftc.bank.common.TransferResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 이체 멱등 처리 캐시 (출금/입금 계좌 + 클라이언트 bank_tran_id 기준)
+ *
+ * - 당일 같은 계좌, 같은 bank_tran_id로 성공한 이체는 저장된 응답을 그대로 돌려준다.
+ * - 같은 키로 요청 내용(금액, 상대 계좌 등)이 다른 이체가 오면 재생하지 않고 거절한다.
+ * - 동시에 들어온 중복 요청은 하나의 기관 호출 결과를 함께 기다린다.
+ * - 실패 응답은 재시도가 가능하도록 호출 완료 후 저장하지 않는다.
+ * - 상한을 넘으면 완료된 항목을 오래된 순서로 제거한다 (새 성공 응답은 항상 저장).
+ */
+@Slf4j
+@Component
+public class TransferReplayCache {
+
+    // 삽입 순서 유지 (상한 초과 시 오래된 항목부터 제거), entries 자체로 동기화
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+    private final int maxEntries;
+    private final long inFlightWaitMs;
+
+    private final AtomicLong replayedCount = new AtomicLong();
+    private final AtomicLong collapsedCount = new AtomicLong();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    public TransferReplayCache(@Value("${bank.transfer.replay.max-entries:100000}") int maxEntries,
+                               @Value("${bank.transfer.replay.in-flight-wait-ms:60000}") long inFlightWaitMs) {
+        this.maxEntries = maxEntries;
+        this.inFlightWaitMs = inFlightWaitMs;
+    }
+
+    /**
+     * 멱등 실행
+     *
+     * @param transferType 이체 구분 (출금/입금 키 분리용)
+     * @param fintechUseNum 이체 대상 핀테크이용번호 (다른 계좌의 응답이 재생되지 않도록 키에 포함)
+     * @param request 이체 요청 (bank_tran_id가 없으면 멱등 처리 없이 실행)
+     * @param transfer 실제 이체 호출
+     * @param conflict 같은 키로 내용이 다른 요청이 왔을 때 반환할 응답
+     */
+    public TransferResponse execute(String transferType, String fintechUseNum, TransferRequest request,
+                                    Supplier<TransferResponse> transfer, Supplier<TransferResponse> conflict) {
+        String bankTranId = request.getBankTranId();
+        if (!StringUtils.hasText(bankTranId)) {
+            return transfer.get();
+        }
+
+        String key = LocalDate.now() + ":" + transferType + ":" + fintechUseNum + ":" + bankTranId;
+        Entry mine = new Entry(fingerprint(request), new CompletableFuture<>());
+        Entry existing;
+        synchronized (entries) {
+            existing = entries.putIfAbsent(key, mine);
+        }
+
+        if (existing != null) {
+            if (!existing.fingerprint().equals(mine.fingerprint())) {
+                conflictCount.incrementAndGet();
+                log.warn("중복 거래고유번호로 다른 이체 요청 - 거절: fintechUseNum={}, bankTranId={}", fintechUseNum, bankTranId);
+                return conflict.get();
+            }
+            return awaitExisting(bankTranId, existing.response());
+        }
+
+        executedCount.incrementAndGet();
+        try {
+            TransferResponse response = transfer.get();
+            mine.response().complete(response);
+            synchronized (entries) {
+                if ("A0000".equals(response.getRspCode())) {
+                    evictOldest();
+                } else {
+                    entries.remove(key, mine);
+                }
+            }
+            return response;
+        } catch (RuntimeException e) {
+            mine.response().completeExceptionally(e);
+            synchronized (entries) {
+                entries.remove(key, mine);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 상한 초과분을 오래된 완료 항목부터 제거 (진행 중인 항목은 남김, entries 잠금 안에서 호출)
+     */
+    private void evictOldest() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().response().isDone()) {
+                iterator.remove();
+                evictedCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 요청 내용 지문 (같은 bank_tran_id 재시도인지, 다른 이체인지 구분)
+     */
+    static String fingerprint(TransferRequest request) {
+        return String.join("|",
+                Objects.toString(request.getTranAmt(), ""),
+                Objects.toString(request.getCntrAccountType(), ""),
+                Objects.toString(request.getCntrAccountNum(), ""),
+                Objects.toString(request.getReqClientNum(), ""),
+                Objects.toString(request.getReqClientFintechUseNum(), ""),
+                Objects.toString(request.getReqClientAccountNum(), ""),
+                Objects.toString(request.getRecvClientBankCode(), ""),
+                Objects.toString(request.getRecvClientAccountNum(), ""),
+                Objects.toString(request.getTransferPurpose(), ""),
+                Objects.toString(request.getDpsPrintContent(), ""),
+                Objects.toString(request.getWdPrintContent(), ""));
+    }
+
+    private TransferResponse awaitExisting(String bankTranId, CompletableFuture<TransferResponse> existing) {
+        if (existing.isDone()) {
+            replayedCount.incrementAndGet();
+            log.info("중복 이체 요청 - 저장된 응답 반환: bankTranId={}", bankTranId);
+        } else {
+            collapsedCount.incrementAndGet();
+            log.info("중복 이체 요청 - 진행 중인 요청 결과 대기: bankTranId={}", bankTranId);
+        }
+
+        try {
+            return existing.get(inFlightWaitMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : new IllegalStateException(cause);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("동일 거래고유번호의 이체가 처리 중입니다: " + bankTranId);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("이체 결과 대기 중 인터럽트 발생", e);
+        }
+    }
+
+    /**
+     * 자정 이후 전일 키 정리 (거래고유번호 유일성은 하루 단위)
+     */
+    @Scheduled(cron = "${bank.transfer.replay.purge-cron:0 1 0 * * *}")
+    public void purgeExpired() {
+        String todayPrefix = LocalDate.now() + ":";
+        int before;
+        int after;
+        synchronized (entries) {
+            before = entries.size();
+            entries.keySet().removeIf(key -> !key.startsWith(todayPrefix));
+            after = entries.size();
+        }
+        log.info("이체 멱등 캐시 정리 - {}건 -> {}건", before, after);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+        }
+        stats.put("executed", executedCount.get());
+        stats.put("replayed", replayedCount.get());
+        stats.put("collapsed_in_flight", collapsedCount.get());
+        stats.put("conflicts", conflictCount.get());
+        stats.put("evicted", evictedCount.get());
+        return stats;
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<TransferResponse> response) {
+    }
+}
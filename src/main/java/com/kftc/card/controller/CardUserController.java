@@ -204,7 +204,9 @@ public class CardUserController {
             @Parameter(description = "페이지 인덱스 (1부터 시작)", required = false)
             @RequestParam(value = "page_index", required = false, defaultValue = "1") String pageIndex,
             @Parameter(description = "직전조회추적정보", required = false)
-            @RequestParam(value = "befor_inquiry_trace_info", required = false) String beforInquiryTraceInfo) {
+            @RequestParam(value = "befor_inquiry_trace_info", required = false) String beforInquiryTraceInfo,
+            @Parameter(description = "다음 페이지 선조회 여부(Y/N)", required = false)
+            @RequestParam(value = "prefetch_yn", required = false, defaultValue = "N") String prefetchYn) {
         
         log.info("카드거래내역조회 API 호출 - bankTranId: {}, cardId: {}, fromDate: {}, toDate: {}", 
                 bankTranId, cardId, fromDate, toDate);
@@ -219,6 +221,7 @@ public class CardUserController {
         request.setToDate(toDate);
         request.setPageIndex(pageIndex);
         request.setBeforInquiryTraceInfo(beforInquiryTraceInfo);
+        request.setPrefetchYn(prefetchYn);
         
         CardTransactionResponse response = cardUserService.getCardTransactions(request, authorization);
         
@@ -0,0 +1,38 @@
+package com.kftc.card.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 카드사 서버 요청 본문 (user_seq_no 대신 user_ci 사용, 카드사 API는 camelCase 필드명)
+ * 엔드포인트별로 필요한 필드만 채우며 값이 없는 필드는 보내지 않는다.
+ */
+@Getter
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CardCompanyRequest {
+
+    private final String bankTranId;
+    private final String bankCodeStd;
+    private final String memberBankCode;
+    private final String userCi;
+    private final String cardId;
+
+    // 청구기본정보조회
+    private final String fromMonth;
+    private final String toMonth;
+
+    // 청구상세정보조회
+    private final String chargeMonth;
+    private final String settlementSeqNo;
+
+    // 거래내역조회
+    private final String fromDate;
+    private final String toDate;
+    private final String pageIndex;
+
+    private final String beforInquiryTraceInfo;
+}
@@ -0,0 +1,34 @@
+package com.kftc.card.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 카드사 카드 보유 확인 응답 (/v2.0/cards?user_ci=)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record CardDiscoveryResponse(
+        @JsonProperty("rsp_code") String rspCode,
+        @JsonProperty("rsp_message") String rspMessage,
+        @JsonProperty("res_cnt") String resCnt,
+        @JsonProperty("res_list") List<Card> resList) {
+
+    public List<Card> cards() {
+        return resList != null ? resList : List.of();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Card(
+            @JsonProperty("bank_code_std") String bankCodeStd,
+            @JsonProperty("card_id") String cardId,
+            @JsonProperty("card_num_masked") String cardNumMasked,
+            @JsonProperty("card_product_name") String cardProductName,
+            @JsonProperty("card_alias") String cardAlias,
+            @JsonProperty("card_holder_name") String cardHolderName,
+            @JsonProperty("card_company_name") String cardCompanyName,
+            @JsonProperty("inquiry_agree_yn") String inquiryAgreeYn,
+            @JsonProperty("bill_agree_yn") String billAgreeYn) {
+    }
+}
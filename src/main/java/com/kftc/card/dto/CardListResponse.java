@@ -106,5 +106,10 @@ public class CardListResponse {
          * 카드 이미지 URL
          */
         private String cardImage;
+
+        /**
+         * 카드사 대표코드 (여러 카드사 통합 조회 시 카드별 출처)
+         */
+        private String bankCodeStd;
     }
 } 
\ No newline at end of file
@@ -51,4 +51,11 @@ public class CardTransactionRequest {
     @JsonProperty("befor_inquiry_trace_info")
     @Schema(description = "직전조회추적정보")
     private String beforInquiryTraceInfo;
-} 
\ No newline at end of file
+    
+    /**
+     * 다음 페이지 선조회 여부 (Y: 현재 페이지 응답 중 다음 페이지를 미리 조회)
+     */
+    @JsonProperty("prefetch_yn")
+    @Schema(description = "다음 페이지 선조회 여부(Y/N)", example = "N")
+    private String prefetchYn = "N";
+}
@@ -0,0 +1,216 @@
+package com.kftc.card.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 카드 청구서(청구기본정보/청구상세정보) 캐시
+ *
+ * 키는 (사용자 CI 다이제스트, 카드사, 청구년월, 결제순번, 직전조회추적정보)이다.
+ * 지난 달 이전 청구서는 내용이 바뀌지 않으므로 길게(closed-ttl-ms), 이번 달 이후는 짧게(open-ttl-ms) 보관한다.
+ * 전체 크기는 응답 직렬화 바이트 합계로 max-bytes 이하로 유지하며 초과 시 오래 쓰이지 않은 항목부터 제거한다.
+ * 값은 호출자 간 공유되므로 불변 객체(거래고유번호/일시가 없는 청구 목록)만 보관하고,
+ * 응답 객체는 호출자가 요청마다 새로 만든다.
+ */
+@Component
+public class CardBillCache {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    // 청구기본정보(기간 조회) 키의 결제순번 자리
+    private static final String ALL_SETTLEMENTS = "*";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final long closedTtlNanos;
+    private final long openTtlNanos;
+    private final long maxBytes;
+    private long totalBytes;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public CardBillCache(@Value("${card.bill-cache.closed-ttl-ms:604800000}") long closedTtlMs,
+                         @Value("${card.bill-cache.open-ttl-ms:300000}") long openTtlMs,
+                         @Value("${card.bill-cache.max-bytes:67108864}") long maxBytes) {
+        this.closedTtlNanos = TimeUnit.MILLISECONDS.toNanos(closedTtlMs);
+        this.openTtlNanos = TimeUnit.MILLISECONDS.toNanos(openTtlMs);
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * 청구기본정보 조회 (fromMonth~toMonth 전체가 지난 달 이전이면 마감 청구서로 취급)
+     */
+    public <T> T getBills(String userCi, String bankCodeStd, String fromMonth, String toMonth, String traceInfo,
+                          Supplier<T> loader, Predicate<T> cacheable) {
+        Key key = new Key(digest(userCi), bankCodeStd, fromMonth + "~" + toMonth, ALL_SETTLEMENTS, nullToEmpty(traceInfo));
+        return get(key, isClosed(toMonth), loader, cacheable);
+    }
+
+    /**
+     * 청구상세정보 조회
+     */
+    public <T> T getBillDetail(String userCi, String bankCodeStd, String chargeMonth, String settlementSeqNo,
+                               String traceInfo, Supplier<T> loader, Predicate<T> cacheable) {
+        Key key = new Key(digest(userCi), bankCodeStd, chargeMonth, settlementSeqNo, nullToEmpty(traceInfo));
+        return get(key, isClosed(chargeMonth), loader, cacheable);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, boolean closed, Supplier<T> loader, Predicate<T> cacheable) {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.expiresAtNanos < 0) {
+                    hitCount.incrementAndGet();
+                    return (T) entry.value;
+                }
+                remove(key);
+            }
+        }
+        missCount.incrementAndGet();
+
+        T value = loader.get();
+        if (value == null || !cacheable.test(value)) {
+            return value;
+        }
+
+        long bytes = sizeOf(value);
+        if (bytes > maxBytes) {
+            return value;
+        }
+        long ttlNanos = closed ? closedTtlNanos : openTtlNanos;
+        synchronized (entries) {
+            Entry previous = entries.put(key, new Entry(value, bytes, System.nanoTime() + ttlNanos));
+            if (previous != null) {
+                totalBytes -= previous.bytes;
+            }
+            totalBytes += bytes;
+            evictOverflow();
+        }
+        return value;
+    }
+
+    /**
+     * 사용자/카드사 단위 제거 (카드조회해지 시)
+     */
+    public void invalidate(String userCi, String bankCodeStd) {
+        String ciDigest = digest(userCi);
+        synchronized (entries) {
+            Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Key, Entry> next = iterator.next();
+                if (next.getKey().ciDigest.equals(ciDigest) && next.getKey().bankCodeStd.equals(bankCodeStd)) {
+                    totalBytes -= next.getValue().bytes;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${card.bill-cache.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (now - entry.expiresAtNanos >= 0) {
+                    totalBytes -= entry.bytes;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    // entries 잠금 안에서 호출
+    private void evictOverflow() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes;
+            iterator.remove();
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    // entries 잠금 안에서 호출
+    private void remove(Key key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= removed.bytes;
+        }
+    }
+
+    /**
+     * 이번 달보다 이전 청구년월이면 마감된 청구서 (형식 오류는 미마감으로 취급)
+     */
+    private static boolean isClosed(String month) {
+        try {
+            return YearMonth.parse(month, MONTH_FORMAT).isBefore(YearMonth.now());
+        } catch (DateTimeParseException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private long sizeOf(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (Exception e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String digest(String userCi) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(userCi.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (entries) {
+            stats.put("entries", entries.size());
+            stats.put("bytes", totalBytes);
+        }
+        stats.put("max_bytes", maxBytes);
+        stats.put("hits", hits);
+        stats.put("misses", missCount.get());
+        stats.put("hit_ratio", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("evictions", evictionCount.get());
+        return stats;
+    }
+
+    private record Key(String ciDigest, String bankCodeStd, String chargeMonth, String settlementSeqNo,
+                       String traceInfo) {
+    }
+
+    private record Entry(Object value, long bytes, long expiresAtNanos) {
+    }
+}
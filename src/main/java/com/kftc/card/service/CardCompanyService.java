@@ -1,42 +1,70 @@
 package com.kftc.card.service;
 
+import com.kftc.bank.common.BankCode;
 import com.kftc.card.dto.*;
+import com.kftc.common.client.InstitutionClient;
 import com.kftc.common.exception.BusinessException;
 import com.kftc.common.exception.ErrorCode;
 import com.kftc.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import java.util.HashMap;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CardCompanyService {
     
-    private final RestTemplate restTemplate;
+    private final InstitutionClient institutionClient;
     private final UserService userService;
+    private final Environment environment;
+    private final CardBillCache cardBillCache;
     
-    @Value("${financial.institutions.kookmin-card.base-url}")
-    private String kbCardServerUrl;
+    // 카드사 코드 → 서버 URL (financial.institutions.{설정키}.base-url 조회 결과)
+    private final Map<String, String> cardCompanyUrls = new ConcurrentHashMap<>();
     
     /**
      * 카드사 코드에 따른 서버 URL 반환
+     * 381(KB카드 대표코드)과 BankCode의 CARD 기관을 설정 키로 매핑한다.
      */
     private String getCardCompanyUrl(String bankCodeStd) {
-        return switch (bankCodeStd) {
-            case "381" -> kbCardServerUrl; // KB카드
-            // 다른 카드사들도 추가 가능
-            default -> {
-                log.error("지원하지 않는 카드사 코드: {}", bankCodeStd);
-                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        String url = cardCompanyUrls.computeIfAbsent(bankCodeStd, code -> {
+            String configKey = resolveCardConfigKey(code);
+            return configKey == null ? null : environment.getProperty("financial.institutions." + configKey + ".base-url");
+        });
+        if (url == null) {
+            log.error("지원하지 않는 카드사 코드: {}", bankCodeStd);
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return url;
+    }
+    
+    private String resolveCardConfigKey(String bankCodeStd) {
+        if ("381".equals(bankCodeStd)) {
+            return BankCode.KOOKMIN_CARD.getConfigKey(); // KB카드
+        }
+        for (BankCode bankCode : BankCode.values()) {
+            if (bankCode.getCode().equals(bankCodeStd) && "CARD".equals(bankCode.getServiceType())) {
+                return bankCode.getConfigKey();
             }
-        };
+        }
+        return null;
+    }
+    
+    /**
+     * 카드목록조회를 지원하는 카드사 코드인지 확인
+     */
+    public boolean isSupportedCardCompany(String bankCodeStd) {
+        return bankCodeStd != null && resolveCardConfigKey(bankCodeStd) != null;
     }
     
     /**
@@ -60,50 +88,32 @@ public class CardCompanyService {
             String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
             log.info("User CI 변환 완료 - userSeqNo: {} → userCi: {}", request.getUserSeqNo(), userCi);
             
-            String cardCompanyUrl = getCardCompanyUrl(request.getBankCodeStd());
-            String apiUrl = cardCompanyUrl + "/v2.0/cards/list";
-            
             // 카드사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> cardCompanyRequest = new HashMap<>();
-            cardCompanyRequest.put("bankTranId", request.getBankTranId());
-            cardCompanyRequest.put("bankCodeStd", request.getBankCodeStd());
-            cardCompanyRequest.put("memberBankCode", request.getMemberBankCode());
-            cardCompanyRequest.put("userCi", userCi); // user_ci 사용
-            cardCompanyRequest.put("beforInquiryTraceInfo", request.getBeforInquiryTraceInfo());
+            CardCompanyRequest cardCompanyRequest = CardCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .memberBankCode(request.getMemberBankCode())
+                    .userCi(userCi)
+                    .beforInquiryTraceInfo(request.getBeforInquiryTraceInfo())
+                    .build();
             
             log.info("카드사에 전송할 요청 데이터: {}", cardCompanyRequest);
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
-            
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(cardCompanyRequest, headers);
-            
-            ResponseEntity<CardListResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    CardListResponse.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                CardListResponse cardListResponse = response.getBody();
-                
-                // 카드사 응답의 cardImage 필드를 KFTC 응답에 포함
-                if (cardListResponse.getCardList() != null) {
-                    cardListResponse.getCardList().forEach(cardInfo -> {
-                        // cardImage 필드가 이미 포함되어 있으므로 추가 처리 필요 없음
-                        log.debug("카드 이미지 정보 포함 - cardId: {}, cardImage: {}", 
-                                cardInfo.getCardId(), cardInfo.getCardImage());
-                    });
-                }
-                
-                return cardListResponse;
-            } else {
-                log.error("카드사 서버 응답 실패 - status: {}", response.getStatusCode());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+            CardListResponse cardListResponse = institutionClient.post(request.getBankCodeStd(),
+                    getCardCompanyUrl(request.getBankCodeStd()), "/v2.0/cards/list",
+                    cardCompanyRequest, InstitutionClient.jsonHeaders(authorization), CardListResponse.class);
+            
+            // 카드사 응답의 cardImage 필드를 KFTC 응답에 포함
+            if (cardListResponse.getCardList() != null) {
+                cardListResponse.getCardList().forEach(cardInfo -> {
+                    // cardImage 필드가 이미 포함되어 있으므로 추가 처리 필요 없음
+                    log.debug("카드 이미지 정보 포함 - cardId: {}, cardImage: {}", 
+                            cardInfo.getCardId(), cardInfo.getCardImage());
+                });
             }
             
+            return cardListResponse;
+            
         } catch (Exception e) {
             log.error("카드목록조회 실패", e);
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
@@ -120,36 +130,21 @@ public class CardCompanyService {
             // user_seq_no를 user_ci로 변환
             String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
             
-            String cardCompanyUrl = getCardCompanyUrl(request.getBankCodeStd());
-            String apiUrl = cardCompanyUrl + "/v2.0/cards/cancel";
-            
             // 카드사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> cardCompanyRequest = new HashMap<>();
-            cardCompanyRequest.put("bankTranId", request.getBankTranId());
-            cardCompanyRequest.put("bankCodeStd", request.getBankCodeStd());
-            cardCompanyRequest.put("memberBankCode", request.getMemberBankCode());
-            cardCompanyRequest.put("userCi", userCi); // user_ci 사용
+            CardCompanyRequest cardCompanyRequest = CardCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .memberBankCode(request.getMemberBankCode())
+                    .userCi(userCi)
+                    .build();
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
+            CardCancelResponse response = institutionClient.post(request.getBankCodeStd(),
+                    getCardCompanyUrl(request.getBankCodeStd()), "/v2.0/cards/cancel",
+                    cardCompanyRequest, InstitutionClient.jsonHeaders(authorization), CardCancelResponse.class);
             
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(cardCompanyRequest, headers);
-            
-            ResponseEntity<CardCancelResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    CardCancelResponse.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("카드조회해지 카드사 연동 성공 - userSeqNo: {} (userCi: {})", request.getUserSeqNo(), userCi);
-                return response.getBody();
-            } else {
-                log.error("카드조회해지 카드사 연동 실패 - HTTP Status: {}", response.getStatusCode());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+            log.info("카드조회해지 카드사 연동 성공 - userSeqNo: {} (userCi: {})", request.getUserSeqNo(), userCi);
+            cardBillCache.invalidate(userCi, request.getBankCodeStd());
+            return response;
             
         } catch (Exception e) {
             log.error("카드조회해지 카드사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
@@ -167,37 +162,21 @@ public class CardCompanyService {
             // user_seq_no를 user_ci로 변환
             String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
             
-            String cardCompanyUrl = getCardCompanyUrl(request.getBankCodeStd());
-            String apiUrl = cardCompanyUrl + "/v2.0/cards/issue_info";
-            
             // 카드사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> cardCompanyRequest = new HashMap<>();
-            cardCompanyRequest.put("bankTranId", request.getBankTranId());
-            cardCompanyRequest.put("bankCodeStd", request.getBankCodeStd());
-            cardCompanyRequest.put("memberBankCode", request.getMemberBankCode());
-            cardCompanyRequest.put("userCi", userCi); // user_ci 사용
-            cardCompanyRequest.put("cardId", request.getCardId());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
+            CardCompanyRequest cardCompanyRequest = CardCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .memberBankCode(request.getMemberBankCode())
+                    .userCi(userCi)
+                    .cardId(request.getCardId())
+                    .build();
             
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(cardCompanyRequest, headers);
+            CardIssueInfoResponse response = institutionClient.post(request.getBankCodeStd(),
+                    getCardCompanyUrl(request.getBankCodeStd()), "/v2.0/cards/issue_info",
+                    cardCompanyRequest, InstitutionClient.jsonHeaders(authorization), CardIssueInfoResponse.class);
             
-            ResponseEntity<CardIssueInfoResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    CardIssueInfoResponse.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("카드기본정보조회 카드사 연동 성공 - cardId: {} (userCi: {})", request.getCardId(), userCi);
-                return response.getBody();
-            } else {
-                log.error("카드기본정보조회 카드사 연동 실패 - HTTP Status: {}", response.getStatusCode());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+            log.info("카드기본정보조회 카드사 연동 성공 - cardId: {} (userCi: {})", request.getCardId(), userCi);
+            return response;
             
         } catch (Exception e) {
             log.error("카드기본정보조회 카드사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
@@ -216,39 +195,40 @@ public class CardCompanyService {
             // user_seq_no를 user_ci로 변환
             String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
             
-            String cardCompanyUrl = getCardCompanyUrl(request.getBankCodeStd());
-            String apiUrl = cardCompanyUrl + "/v2.0/cards/bills";
+            // 마감된 청구월은 캐시에서 응답 (캐시에는 청구 목록만 두고 거래고유번호/일시는 요청마다 새로 채움)
+            BillsPage page = cardBillCache.getBills(userCi, request.getBankCodeStd(), request.getFromMonth(), request.getToMonth(),
+                    request.getBeforInquiryTraceInfo(),
+                    () -> BillsPage.of(requestCardBills(request, userCi, authorization)),
+                    cached -> "A0000".equals(cached.rspCode()));
+            return page.toResponse(request.getBankTranId(), request.getUserSeqNo());
             
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("카드청구기본정보조회 카드사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    private CardBillsResponse requestCardBills(CardBillsRequest request, String userCi, String authorization) {
+        try {
             // 카드사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> cardCompanyRequest = new HashMap<>();
-            cardCompanyRequest.put("bankTranId", request.getBankTranId());
-            cardCompanyRequest.put("bankCodeStd", request.getBankCodeStd());
-            cardCompanyRequest.put("memberBankCode", request.getMemberBankCode());
-            cardCompanyRequest.put("userCi", userCi); // user_ci 사용
-            cardCompanyRequest.put("fromMonth", request.getFromMonth());
-            cardCompanyRequest.put("toMonth", request.getToMonth());
-            cardCompanyRequest.put("beforInquiryTraceInfo", request.getBeforInquiryTraceInfo());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
-            
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(cardCompanyRequest, headers);
-            
-            ResponseEntity<CardBillsResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    CardBillsResponse.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("카드청구기본정보조회 카드사 연동 성공 - billCnt: {} (userCi: {})", response.getBody().getBillCnt(), userCi);
-                return response.getBody();
-            } else {
-                log.error("카드청구기본정보조회 카드사 연동 실패 - HTTP Status: {}", response.getStatusCode());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+            CardCompanyRequest cardCompanyRequest = CardCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .memberBankCode(request.getMemberBankCode())
+                    .userCi(userCi)
+                    .fromMonth(request.getFromMonth())
+                    .toMonth(request.getToMonth())
+                    .beforInquiryTraceInfo(request.getBeforInquiryTraceInfo())
+                    .build();
+            
+            CardBillsResponse response = institutionClient.post(request.getBankCodeStd(),
+                    getCardCompanyUrl(request.getBankCodeStd()), "/v2.0/cards/bills",
+                    cardCompanyRequest, InstitutionClient.jsonHeaders(authorization), CardBillsResponse.class);
+            
+            log.info("카드청구기본정보조회 카드사 연동 성공 - billCnt: {} (userCi: {})", response.getBillCnt(), userCi);
+            return response;
             
         } catch (Exception e) {
             log.error("카드청구기본정보조회 카드사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
@@ -267,39 +247,40 @@ public class CardCompanyService {
             // user_seq_no를 user_ci로 변환
             String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
             
-            String cardCompanyUrl = getCardCompanyUrl(request.getBankCodeStd());
-            String apiUrl = cardCompanyUrl + "/v2.0/cards/bills/detail";
+            // 마감된 청구월은 캐시에서 응답 (캐시에는 청구상세 목록만 두고 거래고유번호/일시는 요청마다 새로 채움)
+            BillDetailPage page = cardBillCache.getBillDetail(userCi, request.getBankCodeStd(), request.getChargeMonth(),
+                    request.getSettlementSeqNo(), request.getBeforInquiryTraceInfo(),
+                    () -> BillDetailPage.of(requestCardBillDetail(request, userCi, authorization)),
+                    cached -> "A0000".equals(cached.rspCode()));
+            return page.toResponse(request.getBankTranId(), request.getUserSeqNo());
             
+        } catch (BusinessException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("카드청구상세정보조회 카드사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
+    private CardBillDetailResponse requestCardBillDetail(CardBillDetailRequest request, String userCi, String authorization) {
+        try {
             // 카드사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> cardCompanyRequest = new HashMap<>();
-            cardCompanyRequest.put("bankTranId", request.getBankTranId());
-            cardCompanyRequest.put("bankCodeStd", request.getBankCodeStd());
-            cardCompanyRequest.put("memberBankCode", request.getMemberBankCode());
-            cardCompanyRequest.put("userCi", userCi); // user_ci 사용
-            cardCompanyRequest.put("chargeMonth", request.getChargeMonth());
-            cardCompanyRequest.put("settlementSeqNo", request.getSettlementSeqNo());
-            cardCompanyRequest.put("beforInquiryTraceInfo", request.getBeforInquiryTraceInfo());
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
-            
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(cardCompanyRequest, headers);
-            
-            ResponseEntity<CardBillDetailResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    CardBillDetailResponse.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("카드청구상세정보조회 카드사 연동 성공 - billDetailCnt: {} (userCi: {})", response.getBody().getBillDetailCnt(), userCi);
-                return response.getBody();
-            } else {
-                log.error("카드청구상세정보조회 카드사 연동 실패 - HTTP Status: {}", response.getStatusCode());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+            CardCompanyRequest cardCompanyRequest = CardCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .memberBankCode(request.getMemberBankCode())
+                    .userCi(userCi)
+                    .chargeMonth(request.getChargeMonth())
+                    .settlementSeqNo(request.getSettlementSeqNo())
+                    .beforInquiryTraceInfo(request.getBeforInquiryTraceInfo())
+                    .build();
+            
+            CardBillDetailResponse response = institutionClient.post(request.getBankCodeStd(),
+                    getCardCompanyUrl(request.getBankCodeStd()), "/v2.0/cards/bills/detail",
+                    cardCompanyRequest, InstitutionClient.jsonHeaders(authorization), CardBillDetailResponse.class);
+            
+            log.info("카드청구상세정보조회 카드사 연동 성공 - billDetailCnt: {} (userCi: {})", response.getBillDetailCnt(), userCi);
+            return response;
             
         } catch (Exception e) {
             log.error("카드청구상세정보조회 카드사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
@@ -319,48 +300,28 @@ public class CardCompanyService {
             String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
             log.info("User CI 변환 완료 - userSeqNo: {} → userCi: {}", request.getUserSeqNo(), userCi);
             
-            String cardCompanyUrl = getCardCompanyUrl(request.getBankCodeStd());
-            String apiUrl = cardCompanyUrl + "/v2.0/cards/transactions";
-            
             // 카드사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> cardCompanyRequest = new HashMap<>();
-            cardCompanyRequest.put("bankTranId", request.getBankTranId());
-            cardCompanyRequest.put("bankCodeStd", request.getBankCodeStd());
-            cardCompanyRequest.put("memberBankCode", request.getMemberBankCode());
-            cardCompanyRequest.put("userCi", userCi); // user_ci 사용
-            cardCompanyRequest.put("cardId", request.getCardId());
-            cardCompanyRequest.put("fromDate", request.getFromDate());
-            cardCompanyRequest.put("toDate", request.getToDate());
-            cardCompanyRequest.put("pageIndex", request.getPageIndex());
-            cardCompanyRequest.put("beforInquiryTraceInfo", request.getBeforInquiryTraceInfo());
+            CardCompanyRequest cardCompanyRequest = CardCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .memberBankCode(request.getMemberBankCode())
+                    .userCi(userCi)
+                    .cardId(request.getCardId())
+                    .fromDate(request.getFromDate())
+                    .toDate(request.getToDate())
+                    .pageIndex(request.getPageIndex())
+                    .beforInquiryTraceInfo(request.getBeforInquiryTraceInfo())
+                    .build();
             
             log.info("카드사에 전송할 거래내역조회 요청 데이터: {}", cardCompanyRequest);
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
-            
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(cardCompanyRequest, headers);
-            
-            ResponseEntity<CardTransactionResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    CardTransactionResponse.class
-            );
-            
-            log.info("카드거래내역조회 카드사 응답 상태: {}", response.getStatusCode());
-            log.info("카드거래내역조회 카드사 응답 본문: {}", response.getBody());
+            CardTransactionResponse response = institutionClient.post(request.getBankCodeStd(),
+                    getCardCompanyUrl(request.getBankCodeStd()), "/v2.0/cards/transactions",
+                    cardCompanyRequest, InstitutionClient.jsonHeaders(authorization), CardTransactionResponse.class);
             
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("카드거래내역조회 카드사 연동 성공 - cardId: {}, tranCnt: {}", 
-                        request.getCardId(), response.getBody().getTranCnt());
-                return response.getBody();
-            } else {
-                log.error("카드거래내역조회 카드사 연동 실패 - HTTP Status: {}, Response: {}", 
-                         response.getStatusCode(), response.getBody());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+            log.info("카드거래내역조회 카드사 연동 성공 - cardId: {}, tranCnt: {}", 
+                    request.getCardId(), response.getTranCnt());
+            return response;
             
         } catch (Exception e) {
             log.error("카드거래내역조회 카드사 연동 중 오류 - bankCodeStd: {}, cardId: {}, error: {}", 
@@ -368,4 +329,119 @@ public class CardCompanyService {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
     }
-} 
\ No newline at end of file
+
+    private static String newApiTranId() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 20);
+    }
+    
+    private static String now(String pattern) {
+        return LocalDateTime.now().format(DateTimeFormatter.ofPattern(pattern));
+    }
+    
+    /**
+     * 청구기본정보 캐시 값 (카드사 응답의 결과/목록만 보관, 불변)
+     * 응답 객체는 요청마다 새로 만들어 다른 요청의 거래고유번호가 나가지 않고 호출자 간 목록을 공유하지 않는다.
+     */
+    record BillsPage(String rspCode, String rspMessage, String bankCodeTran, String bankRspCode, String bankRspMessage,
+                     String nextPageYn, String beforInquiryTraceInfo, String billCnt,
+                     List<CardBillsResponse.BillInfo> billList) {
+        
+        static BillsPage of(CardBillsResponse response) {
+            return new BillsPage(response.getRspCode(), response.getRspMessage(), response.getBankCodeTran(),
+                    response.getBankRspCode(), response.getBankRspMessage(), response.getNextPageYn(),
+                    response.getBeforInquiryTraceInfo(), response.getBillCnt(), copyBills(response.getBillList()));
+        }
+        
+        CardBillsResponse toResponse(String bankTranId, String userSeqNo) {
+            return CardBillsResponse.builder()
+                    .apiTranId(newApiTranId())
+                    .apiTranDtm(now("yyyyMMddHHmmssSSS"))
+                    .rspCode(rspCode)
+                    .rspMessage(rspMessage)
+                    .bankTranId(bankTranId)
+                    .bankTranDate(now("yyyyMMdd"))
+                    .bankCodeTran(bankCodeTran)
+                    .bankRspCode(bankRspCode)
+                    .bankRspMessage(bankRspMessage)
+                    .userSeqNo(userSeqNo)
+                    .nextPageYn(nextPageYn)
+                    .beforInquiryTraceInfo(beforInquiryTraceInfo)
+                    .billCnt(billCnt)
+                    .billList(billList == null ? null : new ArrayList<>(copyBills(billList)))
+                    .build();
+        }
+        
+        private static List<CardBillsResponse.BillInfo> copyBills(List<CardBillsResponse.BillInfo> bills) {
+            if (bills == null) {
+                return null;
+            }
+            List<CardBillsResponse.BillInfo> copies = new ArrayList<>(bills.size());
+            for (CardBillsResponse.BillInfo bill : bills) {
+                copies.add(CardBillsResponse.BillInfo.builder()
+                        .chargeMonth(bill.getChargeMonth())
+                        .settlementSeqNo(bill.getSettlementSeqNo())
+                        .cardId(bill.getCardId())
+                        .chargeAmt(bill.getChargeAmt())
+                        .settlementDay(bill.getSettlementDay())
+                        .settlementDate(bill.getSettlementDate())
+                        .creditCheckType(bill.getCreditCheckType())
+                        .cardImage(bill.getCardImage())
+                        .build());
+            }
+            return List.copyOf(copies);
+        }
+    }
+    
+    /**
+     * 청구상세정보 캐시 값 (카드사 응답의 결과/목록만 보관, 불변)
+     */
+    record BillDetailPage(String rspCode, String rspMessage, String bankCodeTran, String bankRspCode, String bankRspMessage,
+                          String nextPageYn, String beforInquiryTraceInfo, String billDetailCnt,
+                          List<CardBillDetailResponse.BillDetailInfo> billDetailList) {
+        
+        static BillDetailPage of(CardBillDetailResponse response) {
+            return new BillDetailPage(response.getRspCode(), response.getRspMessage(), response.getBankCodeTran(),
+                    response.getBankRspCode(), response.getBankRspMessage(), response.getNextPageYn(),
+                    response.getBeforInquiryTraceInfo(), response.getBillDetailCnt(), copyDetails(response.getBillDetailList()));
+        }
+        
+        CardBillDetailResponse toResponse(String bankTranId, String userSeqNo) {
+            return CardBillDetailResponse.builder()
+                    .apiTranId(newApiTranId())
+                    .apiTranDtm(now("yyyyMMddHHmmssSSS"))
+                    .rspCode(rspCode)
+                    .rspMessage(rspMessage)
+                    .bankTranId(bankTranId)
+                    .bankTranDate(now("yyyyMMdd"))
+                    .bankCodeTran(bankCodeTran)
+                    .bankRspCode(bankRspCode)
+                    .bankRspMessage(bankRspMessage)
+                    .userSeqNo(userSeqNo)
+                    .nextPageYn(nextPageYn)
+                    .beforInquiryTraceInfo(beforInquiryTraceInfo)
+                    .billDetailCnt(billDetailCnt)
+                    .billDetailList(billDetailList == null ? null : new ArrayList<>(copyDetails(billDetailList)))
+                    .build();
+        }
+        
+        private static List<CardBillDetailResponse.BillDetailInfo> copyDetails(List<CardBillDetailResponse.BillDetailInfo> details) {
+            if (details == null) {
+                return null;
+            }
+            List<CardBillDetailResponse.BillDetailInfo> copies = new ArrayList<>(details.size());
+            for (CardBillDetailResponse.BillDetailInfo detail : details) {
+                copies.add(CardBillDetailResponse.BillDetailInfo.builder()
+                        .cardValue(detail.getCardValue())
+                        .paidDate(detail.getPaidDate())
+                        .paidTime(detail.getPaidTime())
+                        .paidAmt(detail.getPaidAmt())
+                        .merchantNameMasked(detail.getMerchantNameMasked())
+                        .creditFeeAmt(detail.getCreditFeeAmt())
+                        .productType(detail.getProductType())
+                        .cardImage(detail.getCardImage())
+                        .build());
+            }
+            return List.copyOf(copies);
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.kftc.card.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kftc.card.dto.CardListRequest;
+import com.kftc.card.dto.CardListResponse;
+import com.kftc.common.client.InstitutionCallDeadline;
+import com.kftc.common.exception.BusinessException;
+import com.kftc.common.exception.ErrorCode;
+import com.kftc.user.entity.UserConsentFinancialInstitution;
+import com.kftc.user.repository.UserConsentFinancialInstitutionRepository;
+import com.kftc.user.service.FinancialInstitutionCatalog;
+import com.kftc.common.tracing.Tracer;
+import com.kftc.common.util.TransactionIdGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 카드사 카드목록 병렬 조회 및 병합 (scatter-gather)
+ *
+ * 사용자가 동의한 카드사 전체에 동시에 요청하고 마감 시간까지 응답한 카드사의 목록만 병합한다.
+ * 카드사별 직전조회추적정보는 하나의 복합 연속조회 토큰으로 묶어 내려주며,
+ * 마감 초과/오류 카드사는 같은 커서로 다음 페이지 요청에서 재시도한다 (최대 max-retries 회).
+ * 응답한 카드사가 하나도 없으면 실패로 처리한다.
+ */
+@Slf4j
+@Component
+public class CardListAggregator {
+
+    // 복합 토큰 접두어 (없으면 단일 카드사 커서로 취급)
+    private static final String TOKEN_PREFIX = "MC1.";
+    private static final String CARD_SERVICE_TYPE = "CARD";
+
+    private final CardCompanyService cardCompanyService;
+    private final UserConsentFinancialInstitutionRepository consentRepository;
+    private final FinancialInstitutionCatalog financialInstitutionCatalog;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor;
+    private final long deadlineMs;
+    private final int maxRetries;
+
+    public CardListAggregator(CardCompanyService cardCompanyService,
+                              UserConsentFinancialInstitutionRepository consentRepository,
+                              FinancialInstitutionCatalog financialInstitutionCatalog,
+                              @Value("${card.aggregation.deadline-ms:3000}") long deadlineMs,
+                              @Value("${card.aggregation.max-retries:2}") int maxRetries,
+                              @Value("${card.aggregation.pool-size:8}") int poolSize) {
+        this.cardCompanyService = cardCompanyService;
+        this.consentRepository = consentRepository;
+        this.financialInstitutionCatalog = financialInstitutionCatalog;
+        this.deadlineMs = deadlineMs;
+        this.maxRetries = maxRetries;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "card-aggregation-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 카드사별 조회 결과 병합
+     *
+     * 연속조회 토큰이 없으면 동의한 카드사 전체(동의 내역이 없으면 요청의 카드사)를,
+     * 토큰이 있으면 토큰에 남은 카드사만 조회한다. 토큰에 동의하지 않은 카드사가 있으면 거절한다.
+     */
+    public Result aggregate(CardListRequest request, String authorization) {
+        Map<String, Cursor> targets = resolveTargets(request);
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        Map<String, CompletableFuture<CardListResponse>> futures = new LinkedHashMap<>();
+        targets.forEach((bankCodeStd, cursor) -> {
+            CardListRequest companyRequest = new CardListRequest();
+            // 카드사별로 별개의 거래이므로 요청마다 새 거래고유번호 사용
+            companyRequest.setBankTranId(TransactionIdGenerator.deriveTransactionId(request.getBankTranId()));
+            companyRequest.setUserSeqNo(request.getUserSeqNo());
+            companyRequest.setBankCodeStd(bankCodeStd);
+            companyRequest.setMemberBankCode(request.getMemberBankCode());
+            companyRequest.setBeforInquiryTraceInfo(cursor.c());
+            // 마감 시각을 HTTP 응답 타임아웃으로 걸어 마감 후에는 작업 스레드가 바로 풀리도록 함
+            futures.put(bankCodeStd, CompletableFuture.supplyAsync(
+                    () -> InstitutionCallDeadline.run(deadlineNanos,
+                            () -> cardCompanyService.getCardList(companyRequest, authorization)),
+                    Tracer.propagating(executor)));
+        });
+
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("카드목록 통합조회 마감 시간 초과: deadlineMs={}, 응답 카드사만 병합", deadlineMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 개별 카드사 오류는 아래에서 카드사별로 처리
+        }
+
+        List<CardListResponse.CardInfo> cards = new ArrayList<>();
+        Map<String, Cursor> remaining = new LinkedHashMap<>();
+        List<String> pending = new ArrayList<>();
+        List<String> abandoned = new ArrayList<>();
+        boolean anySuccess = false;
+
+        for (Map.Entry<String, CompletableFuture<CardListResponse>> entry : futures.entrySet()) {
+            String bankCodeStd = entry.getKey();
+            CompletableFuture<CardListResponse> future = entry.getValue();
+            Cursor cursor = targets.get(bankCodeStd);
+
+            CardListResponse response = null;
+            if (future.isDone() && !future.isCompletedExceptionally()) {
+                response = future.join();
+            } else {
+                // 작업 스레드는 InstitutionCallDeadline 응답 타임아웃으로 곧 풀림 (cancel은 결과만 버림)
+                future.cancel(false);
+            }
+
+            if (response == null) {
+                // 같은 커서로 다음 요청에서 재시도, 재시도 한도 초과 시 제외
+                if (cursor.r() < maxRetries) {
+                    remaining.put(bankCodeStd, new Cursor(cursor.c(), cursor.r() + 1));
+                    pending.add(bankCodeStd);
+                } else {
+                    abandoned.add(bankCodeStd);
+                }
+                log.warn("카드사 카드목록 미응답: bankCodeStd={}, retry={}", bankCodeStd, cursor.r());
+                continue;
+            }
+
+            anySuccess = true;
+            if (response.getCardList() != null) {
+                for (CardListResponse.CardInfo card : response.getCardList()) {
+                    card.setBankCodeStd(bankCodeStd);
+                    cards.add(card);
+                }
+            }
+            if ("Y".equals(response.getNextPageYn())) {
+                remaining.put(bankCodeStd, new Cursor(response.getBeforInquiryTraceInfo(), 0));
+            }
+        }
+
+        if (!anySuccess) {
+            // 응답한 카드사가 없으면 빈 목록을 성공으로 내리지 않음 (같은 요청으로 재시도)
+            log.warn("카드목록 통합조회 전체 미응답 - userSeqNo: {}, 지연: {}, 제외: {}",
+                    request.getUserSeqNo(), pending, abandoned);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "모든 카드사 카드목록 조회 실패");
+        }
+
+        log.info("카드목록 통합조회 완료 - userSeqNo: {}, 대상: {}, 카드: {}, 지연: {}, 제외: {}",
+                request.getUserSeqNo(), targets.keySet(), cards.size(), pending, abandoned);
+        return new Result(cards, remaining.isEmpty() ? "" : encode(remaining), pending, abandoned);
+    }
+
+    private Map<String, Cursor> resolveTargets(CardListRequest request) {
+        // 토큰은 클라이언트가 보내므로 조회 대상은 항상 동의/지원 카드사 안으로 제한
+        Set<String> allowed = allowedCardCompanies(request);
+        String token = request.getBeforInquiryTraceInfo();
+        if (token != null && token.startsWith(TOKEN_PREFIX)) {
+            Map<String, Cursor> decoded = decode(token);
+            boolean valid = !decoded.isEmpty() && allowed.containsAll(decoded.keySet())
+                    && decoded.values().stream().allMatch(cursor -> cursor != null && cursor.r() >= 0 && cursor.r() <= maxRetries);
+            if (!valid) {
+                log.warn("연속조회 토큰 카드사 불일치 - userSeqNo: {}, 토큰: {}, 허용: {}",
+                        request.getUserSeqNo(), decoded.keySet(), allowed);
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "직전조회추적정보가 올바르지 않습니다");
+            }
+            return decoded;
+        }
+
+        Map<String, Cursor> targets = new LinkedHashMap<>();
+        if (token != null && !token.isEmpty()) {
+            // 이전 형식(단일 카드사 커서) 연속조회
+            if (!allowed.contains(request.getBankCodeStd())) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "직전조회추적정보가 올바르지 않습니다");
+            }
+            targets.put(request.getBankCodeStd(), new Cursor(token, 0));
+            return targets;
+        }
+
+        for (String bankCodeStd : allowed) {
+            targets.put(bankCodeStd, new Cursor(null, 0));
+        }
+        return targets;
+    }
+
+    /**
+     * 조회 가능한 카드사 (ACTIVE 동의 중 카드 서비스 지원 카드사, 동의 내역이 없으면 요청의 카드사)
+     */
+    private Set<String> allowedCardCompanies(CardListRequest request) {
+        Set<String> allowed = new LinkedHashSet<>();
+        for (UserConsentFinancialInstitution consent
+                : consentRepository.findByUserSeqNoAndRegStatus(request.getUserSeqNo(), "ACTIVE")) {
+            String bankCodeStd = consent.getBankCodeStd();
+            if (CARD_SERVICE_TYPE.equals(financialInstitutionCatalog.getServiceType(bankCodeStd))
+                    && cardCompanyService.isSupportedCardCompany(bankCodeStd)) {
+                allowed.add(bankCodeStd);
+            }
+        }
+        if (allowed.isEmpty() && request.getBankCodeStd() != null) {
+            allowed.add(request.getBankCodeStd());
+        }
+        return allowed;
+    }
+
+    private String encode(Map<String, Cursor> cursors) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(cursors);
+            return TOKEN_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("연속조회 토큰 생성 실패", e);
+        }
+    }
+
+    private Map<String, Cursor> decode(String token) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.substring(TOKEN_PREFIX.length()));
+            return objectMapper.readValue(new String(json, StandardCharsets.UTF_8),
+                    new TypeReference<LinkedHashMap<String, Cursor>>() { });
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "직전조회추적정보가 올바르지 않습니다");
+        }
+    }
+
+    /**
+     * 카드사별 커서 (c: 카드사 직전조회추적정보, r: 미응답 재시도 횟수)
+     */
+    record Cursor(String c, int r) {
+    }
+
+    /**
+     * 병합 결과
+     *
+     * @param cards 응답한 카드사 카드 목록 (카드사 코드 포함)
+     * @param continuationToken 남은 카드사가 있으면 복합 토큰, 없으면 빈 문자열
+     * @param pendingCompanies 마감 초과/오류로 다음 페이지에서 재시도할 카드사
+     * @param abandonedCompanies 재시도 한도를 넘어 제외된 카드사
+     */
+    public record Result(List<CardListResponse.CardInfo> cards, String continuationToken,
+                         List<String> pendingCompanies, List<String> abandonedCompanies) {
+
+        public boolean hasNextPage() {
+            return !continuationToken.isEmpty();
+        }
+
+        public boolean isPartial() {
+            return !pendingCompanies.isEmpty() || !abandonedCompanies.isEmpty();
+        }
+    }
+}
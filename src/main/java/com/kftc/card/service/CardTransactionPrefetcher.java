@@ -0,0 +1,277 @@
+package com.kftc.card.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kftc.card.dto.CardTransactionRequest;
+import com.kftc.card.dto.CardTransactionResponse;
+import com.kftc.common.util.TransactionIdGenerator;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+/**
+ * 카드거래내역 다음 페이지 선조회 (prefetch)
+ *
+ * 현재 페이지를 돌려주는 동안 카드사에 다음 페이지를 미리 요청해 커서별 버퍼에 잠시 보관한다.
+ * 같은 토큰/사용자/카드/기간/커서로 다음 요청이 오면 버퍼의 결과를 한 번만 사용하고 제거한다.
+ * 선조회 깊이(max-depth), 버퍼 페이지 수(max-pages), 버퍼 크기(max-bytes, 직렬화 기준)를 넘으면 선조회하지 않는다.
+ */
+@Slf4j
+@Component
+public class CardTransactionPrefetcher {
+
+    private final CardCompanyService cardCompanyService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentHashMap<Key, Slot> buffer = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final int maxDepth;
+    private final int maxPages;
+    private final long maxBytes;
+    private final long ttlNanos;
+
+    private final AtomicLong bufferedBytes = new AtomicLong();
+    private final AtomicLong issuedCount = new AtomicLong();
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+    private final AtomicLong expiredCount = new AtomicLong();
+
+    public CardTransactionPrefetcher(CardCompanyService cardCompanyService,
+                                     @Value("${card.transactions.prefetch.max-depth:1}") int maxDepth,
+                                     @Value("${card.transactions.prefetch.max-pages:1000}") int maxPages,
+                                     @Value("${card.transactions.prefetch.max-bytes:33554432}") long maxBytes,
+                                     @Value("${card.transactions.prefetch.ttl-ms:30000}") long ttlMs,
+                                     @Value("${card.transactions.prefetch.pool-size:4}") int poolSize) {
+        this.cardCompanyService = cardCompanyService;
+        this.maxDepth = maxDepth;
+        this.maxPages = maxPages;
+        this.maxBytes = maxBytes;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(poolSize * 16), runnable -> {
+                    Thread thread = new Thread(runnable, "card-tx-prefetch-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 현재 페이지 조회 (선조회 결과가 있으면 사용) 후 다음 페이지 선조회 예약
+     */
+    public CardTransactionResponse fetch(CardTransactionRequest request, String authorization) {
+        Key key = Key.of(request, authorization);
+        CardTransactionResponse response = takeBuffered(key);
+        if (response != null) {
+            // 선조회는 별도 거래고유번호로 호출했으므로 응답에는 이번 요청의 번호를 돌려줌
+            response.setBankTranId(request.getBankTranId());
+        } else {
+            missCount.incrementAndGet();
+            response = cardCompanyService.getCardTransactions(request, authorization);
+        }
+        schedulePrefetch(request, response, authorization, maxDepth);
+        return response;
+    }
+
+    private CardTransactionResponse takeBuffered(Key key) {
+        Slot slot = buffer.remove(key);
+        if (slot == null) {
+            return null;
+        }
+        release(slot);
+        if (slot.isExpired()) {
+            expiredCount.incrementAndGet();
+            slot.future.cancel(true);
+            return null;
+        }
+        try {
+            CardTransactionResponse response = slot.future.join();
+            hitCount.incrementAndGet();
+            return response;
+        } catch (CancellationException | CompletionException e) {
+            // 선조회 실패 시 직접 조회로 대체
+            log.debug("카드거래내역 선조회 결과 사용 불가 - 직접 조회: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void schedulePrefetch(CardTransactionRequest current, CardTransactionResponse response,
+                                  String authorization, int depth) {
+        if (depth <= 0 || response == null || !"Y".equals(response.getNextPageYn())) {
+            return;
+        }
+        if (buffer.size() >= maxPages || bufferedBytes.get() >= maxBytes) {
+            skippedCount.incrementAndGet();
+            return;
+        }
+
+        CardTransactionRequest next = nextPageRequest(current, response);
+        Key key = Key.of(next, authorization);
+        Slot slot = new Slot(new CompletableFuture<>(), System.nanoTime() + ttlNanos);
+        if (buffer.putIfAbsent(key, slot) != null) {
+            return;
+        }
+
+        issuedCount.incrementAndGet();
+        try {
+            executor.execute(() -> load(key, slot, next, authorization, depth));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 차면 선조회를 버림 (응답 경로에 영향 없음)
+            buffer.remove(key, slot);
+            skippedCount.incrementAndGet();
+        }
+    }
+
+    private void load(Key key, Slot slot, CardTransactionRequest request, String authorization, int depth) {
+        CardTransactionResponse response;
+        try {
+            response = cardCompanyService.getCardTransactions(request, authorization);
+        } catch (RuntimeException e) {
+            slot.future.completeExceptionally(e);
+            buffer.remove(key, slot);
+            return;
+        }
+
+        long bytes = sizeOf(response);
+        if (bufferedBytes.addAndGet(bytes) > maxBytes) {
+            bufferedBytes.addAndGet(-bytes);
+            buffer.remove(key, slot);
+            skippedCount.incrementAndGet();
+            slot.future.complete(response);
+            return;
+        }
+        slot.bytes = bytes;
+        slot.future.complete(response);
+        // 소비/정리와 경합해 이미 제거된 경우 반영한 크기를 되돌림
+        if (buffer.get(key) != slot) {
+            release(slot);
+            return;
+        }
+        schedulePrefetch(request, response, authorization, depth - 1);
+    }
+
+    private void release(Slot slot) {
+        long bytes = slot.bytes;
+        if (bytes > 0 && Slot.BYTES.compareAndSet(slot, bytes, 0L)) {
+            bufferedBytes.addAndGet(-bytes);
+        }
+    }
+
+    private static CardTransactionRequest nextPageRequest(CardTransactionRequest current, CardTransactionResponse response) {
+        CardTransactionRequest next = new CardTransactionRequest();
+        // 선조회도 카드사 입장에서는 별개의 거래이므로 현재 요청의 번호를 재사용하지 않음
+        next.setBankTranId(TransactionIdGenerator.deriveTransactionId(current.getBankTranId()));
+        next.setUserSeqNo(current.getUserSeqNo());
+        next.setBankCodeStd(current.getBankCodeStd());
+        next.setMemberBankCode(current.getMemberBankCode());
+        next.setCardId(current.getCardId());
+        next.setFromDate(current.getFromDate());
+        next.setToDate(current.getToDate());
+        next.setPageIndex(nextPageIndex(current.getPageIndex()));
+        next.setBeforInquiryTraceInfo(response.getBeforInquiryTraceInfo());
+        return next;
+    }
+
+    private static String nextPageIndex(String pageIndex) {
+        try {
+            return String.valueOf(Integer.parseInt(pageIndex) + 1);
+        } catch (NumberFormatException e) {
+            return pageIndex;
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 선조회 결과 제거
+     */
+    @Scheduled(fixedDelayString = "${card.transactions.prefetch.purge-interval-ms:10000}")
+    public void purgeExpired() {
+        buffer.forEach((key, slot) -> {
+            if (slot.isExpired() && buffer.remove(key, slot)) {
+                release(slot);
+                slot.future.cancel(true);
+                expiredCount.incrementAndGet();
+            }
+        });
+    }
+
+    private long sizeOf(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (Exception e) {
+            return maxBytes + 1;
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("buffered_pages", buffer.size());
+        stats.put("buffered_bytes", bufferedBytes.get());
+        stats.put("queue_depth", executor.getQueue().size());
+        stats.put("issued", issuedCount.get());
+        stats.put("hits", hits);
+        stats.put("misses", missCount.get());
+        stats.put("hit_ratio", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("skipped", skippedCount.get());
+        stats.put("expired_unused", expiredCount.get());
+        return stats;
+    }
+
+    /**
+     * 선조회 버퍼 키 (Authorization은 다이제스트로만 보관)
+     */
+    private record Key(String authorizationDigest, String userSeqNo, String bankCodeStd, String cardId,
+                       String fromDate, String toDate, String traceInfo) {
+
+        static Key of(CardTransactionRequest request, String authorization) {
+            return new Key(digest(authorization), request.getUserSeqNo(), request.getBankCodeStd(),
+                    request.getCardId(), request.getFromDate(), request.getToDate(),
+                    request.getBeforInquiryTraceInfo() == null ? "" : request.getBeforInquiryTraceInfo());
+        }
+
+        private static String digest(String value) {
+            try {
+                MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+                return HexFormat.of().formatHex(sha256.digest(value.getBytes(StandardCharsets.UTF_8)));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+            }
+        }
+    }
+
+    private static final class Slot {
+        private static final AtomicLongFieldUpdater<Slot> BYTES =
+                AtomicLongFieldUpdater.newUpdater(Slot.class, "bytes");
+
+        private final CompletableFuture<CardTransactionResponse> future;
+        private final long expiresAtNanos;
+        private volatile long bytes;
+
+        Slot(CompletableFuture<CardTransactionResponse> future, long expiresAtNanos) {
+            this.future = future;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos >= 0;
+        }
+    }
+}
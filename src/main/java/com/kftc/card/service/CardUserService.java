@@ -18,6 +18,8 @@ import java.util.UUID;
 public class CardUserService {
     
     private final CardCompanyService cardCompanyService;
+    private final CardListAggregator cardListAggregator;
+    private final CardTransactionPrefetcher cardTransactionPrefetcher;
 
     /**
      * Authorization 헤더 검증
@@ -112,56 +114,71 @@ public class CardUserService {
     
     /**
      * 모든 카드사로부터 카드 목록 수집
+     * 동의한 카드사에 병렬 요청 후 마감 시간 내 응답분을 병합하고, 카드사별 커서는 복합 토큰으로 반환
      */
     private CardListResponse aggregateCardListFromAllProviders(CardListRequest request, String authorization) {
         String apiTranId = UUID.randomUUID().toString().replace("-", "").substring(0, 20);
         String currentDateTime = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS"));
         
         try {
-            // 실제 카드사 API 호출
-            CardListResponse cardCompanyResponse = cardCompanyService.getCardList(request, authorization);
+            CardListAggregator.Result result = cardListAggregator.aggregate(request, authorization);
+            
+            String rspMessage = result.isPartial()
+                    ? "처리 성공 (일부 카드사 미응답: " + String.join(",", result.pendingCompanies())
+                        + (result.abandonedCompanies().isEmpty() ? "" : " / 제외: " + String.join(",", result.abandonedCompanies()))
+                        + ")"
+                    : "처리 성공";
             
-            // 카드사 응답을 오픈뱅킹 형식으로 변환
             return CardListResponse.builder()
                     .apiTranId(apiTranId)
                     .apiTranDtm(currentDateTime)
-                    .rspCode(cardCompanyResponse.getRspCode())
-                    .rspMessage(cardCompanyResponse.getRspMessage())
+                    .rspCode("A0000")
+                    .rspMessage(rspMessage)
                     .bankTranId(request.getBankTranId())
                     .bankTranDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
                     .bankCodeTran("097") // 금융결제원 코드
-                    .bankRspCode(cardCompanyResponse.getBankRspCode())
-                    .bankRspMessage(cardCompanyResponse.getBankRspMessage())
+                    .bankRspCode("000")
+                    .bankRspMessage("")
                     .userSeqNo(request.getUserSeqNo())
-                    .nextPageYn(cardCompanyResponse.getNextPageYn())
-                    .beforInquiryTraceInfo(cardCompanyResponse.getBeforInquiryTraceInfo())
-                    .cardList(cardCompanyResponse.getCardList())
-                    .cardCnt(cardCompanyResponse.getCardCnt())
+                    .nextPageYn(result.hasNextPage() ? "Y" : "N")
+                    .beforInquiryTraceInfo(result.continuationToken())
+                    .cardList(result.cards())
+                    .cardCnt(String.valueOf(result.cards().size()))
                     .build();
                     
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.INVALID_INPUT_VALUE) {
+                throw e;
+            }
+            return failedCardListResponse(request, apiTranId, currentDateTime, e);
         } catch (Exception e) {
-            log.error("카드 목록 조회 중 오류 발생 - userSeqNo: {}, error: {}", 
-                     request.getUserSeqNo(), e.getMessage(), e);
-            
-            return CardListResponse.builder()
-                    .apiTranId(apiTranId)
-                    .apiTranDtm(currentDateTime)
-                    .rspCode("A0001")
-                    .rspMessage("카드 목록 조회 실패: " + e.getMessage())
-                    .bankTranId(request.getBankTranId())
-                    .bankTranDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
-                    .bankCodeTran("097")
-                    .bankRspCode("999")
-                    .bankRspMessage("시스템 오류")
-                    .userSeqNo(request.getUserSeqNo())
-                    .nextPageYn("N")
-                    .beforInquiryTraceInfo("")
-                    .cardList(java.util.List.of())
-                    .cardCnt("0")
-                    .build();
+            return failedCardListResponse(request, apiTranId, currentDateTime, e);
         }
     }
     
+    private CardListResponse failedCardListResponse(CardListRequest request, String apiTranId,
+                                                    String currentDateTime, Exception e) {
+        log.error("카드 목록 조회 중 오류 발생 - userSeqNo: {}, error: {}", 
+                 request.getUserSeqNo(), e.getMessage(), e);
+        
+        return CardListResponse.builder()
+                .apiTranId(apiTranId)
+                .apiTranDtm(currentDateTime)
+                .rspCode("A0001")
+                .rspMessage("카드 목록 조회 실패: " + e.getMessage())
+                .bankTranId(request.getBankTranId())
+                .bankTranDate(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd")))
+                .bankCodeTran("097")
+                .bankRspCode("999")
+                .bankRspMessage("시스템 오류")
+                .userSeqNo(request.getUserSeqNo())
+                .nextPageYn("N")
+                .beforInquiryTraceInfo("")
+                .cardList(java.util.List.of())
+                .cardCnt("0")
+                .build();
+    }
+    
 
     
     /**
@@ -232,8 +249,10 @@ public class CardUserService {
         // 2. 요청 데이터 검증
         validateCardTransactionRequest(request);
         
-        // 3. 카드사로부터 거래내역 조회
-        CardTransactionResponse cardCompanyResponse = cardCompanyService.getCardTransactions(request, authorization);
+        // 3. 카드사로부터 거래내역 조회 (선조회 모드면 다음 페이지를 미리 요청)
+        CardTransactionResponse cardCompanyResponse = "Y".equals(request.getPrefetchYn())
+                ? cardTransactionPrefetcher.fetch(request, authorization)
+                : cardCompanyService.getCardTransactions(request, authorization);
         
         // 4. 카드사 응답을 오픈뱅킹 형식으로 변환
         return transformToTransactionResponse(request, cardCompanyResponse);
@@ -0,0 +1,117 @@
+package com.kftc.common.advice;
+
+import com.kftc.bank.controller.OpenBankingProxyController;
+import com.kftc.card.controller.CardUserController;
+import com.kftc.common.dto.BasicResponse;
+import com.kftc.common.transaction.TransactionContext;
+import com.kftc.insurance.controller.InsuranceController;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+
+/**
+ * 거래 결과(rsp_code) 수집 어드바이스
+ *
+ * 요청 본문에서 거래고유번호/사용자일련번호를, 응답 본문에서 응답코드를 읽어
+ * TransactionContext에 기록한다. 본문 직렬화 전 객체를 그대로 읽으므로 응답 버퍼링이 필요 없다.
+ */
+@RestControllerAdvice(assignableTypes = {
+        OpenBankingProxyController.class, CardUserController.class, InsuranceController.class})
+public class TransactionOutcomeAdvice extends RequestBodyAdviceAdapter implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        TransactionContext context = TransactionContext.current();
+        if (context != null && body != null) {
+            context.fillIdentifiers(readString(body, "bank_tran_id", "bankTranId"),
+                    readString(body, "user_seq_no", "userSeqNo"),
+                    readString(body, "bank_code_std", "bankCodeStd"));
+        }
+        return body;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        TransactionContext context = resolveContext(request);
+        if (context == null || body == null) {
+            return body;
+        }
+
+        Object payload = body;
+        String fallbackCode = null;
+        String fallbackMessage = null;
+        if (body instanceof BasicResponse basicResponse) {
+            payload = basicResponse.getData();
+            fallbackCode = basicResponse.getStatus() == 200 ? "A0000" : "HTTP" + basicResponse.getStatus();
+            fallbackMessage = basicResponse.getMessage();
+        }
+
+        String rspCode = payload != null ? readString(payload, "rsp_code", "rspCode") : null;
+        String rspMessage = payload != null ? readString(payload, "rsp_message", "rspMessage") : null;
+        if (rspCode == null) {
+            rspCode = fallbackCode;
+            rspMessage = fallbackMessage;
+        }
+        if (rspCode != null) {
+            context.setOutcome(rspCode, rspMessage);
+        }
+        if (payload != null) {
+            context.fillIdentifiers(readString(payload, "bank_tran_id", "bankTranId"),
+                    null, readString(payload, "bank_code_std", "bankCodeStd"));
+        }
+        return body;
+    }
+
+    private TransactionContext resolveContext(ServerHttpRequest request) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            return TransactionContext.from(servletRequest.getServletRequest());
+        }
+        return TransactionContext.current();
+    }
+
+    /**
+     * Map 응답은 snake_case 키로, DTO는 camelCase 프로퍼티로 조회
+     * (BeanWrapper가 클래스별 인트로스펙션 결과를 캐시)
+     */
+    private String readString(Object source, String mapKey, String property) {
+        if (source instanceof Map<?, ?> map) {
+            Object value = map.get(mapKey);
+            return value != null ? value.toString() : null;
+        }
+        if (source instanceof CharSequence || source instanceof Iterable<?> || source.getClass().isArray()) {
+            return null;
+        }
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(source);
+        if (!wrapper.isReadableProperty(property)) {
+            return null;
+        }
+        Object value = wrapper.getPropertyValue(property);
+        return value != null ? value.toString() : null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.kftc.common.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 기관 호출 마감 시각 (현재 스레드 단위)
+ *
+ * 병렬 조회 작업 안에서 run()으로 감싸면 그 안의 기관 호출은 남은 시간을 응답/커넥션 대기 타임아웃으로 사용한다.
+ * CompletableFuture.cancel()은 소켓 읽기 중인 스레드를 깨우지 못하므로, 마감 초과 시 작업 스레드가
+ * 기본 read-timeout까지 묶이지 않도록 HTTP 클라이언트 수준에서 끊는다. (RestTemplateConfig 참고)
+ */
+public final class InstitutionCallDeadline {
+
+    // 최소 타임아웃 (마감 직전 호출도 0ms가 아닌 짧은 시간 안에 실패하도록)
+    private static final long MIN_TIMEOUT_MS = 1;
+
+    private static final ThreadLocal<Long> DEADLINE_NANOS = new ThreadLocal<>();
+
+    private InstitutionCallDeadline() {
+    }
+
+    /**
+     * 마감 시각(System.nanoTime 기준)을 걸고 실행
+     */
+    public static <T> T run(long deadlineNanos, Supplier<T> call) {
+        Long previous = DEADLINE_NANOS.get();
+        DEADLINE_NANOS.set(deadlineNanos);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                DEADLINE_NANOS.remove();
+            } else {
+                DEADLINE_NANOS.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 남은 시간 (마감이 없으면 -1)
+     */
+    public static long remainingMillis() {
+        Long deadlineNanos = DEADLINE_NANOS.get();
+        if (deadlineNanos == null) {
+            return -1;
+        }
+        return Math.max(MIN_TIMEOUT_MS, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+}
@@ -0,0 +1,24 @@
+package com.kftc.common.client;
+
+import com.kftc.common.exception.BusinessException;
+import com.kftc.common.exception.ErrorCode;
+import lombok.Getter;
+
+/**
+ * 기관 호출 실패 (연결/타임아웃 오류, 2xx 이외 응답, 빈 응답 본문)
+ */
+@Getter
+public class InstitutionCallException extends BusinessException {
+
+    private final String bankCodeStd;
+    private final String endpoint;
+    // 응답을 받지 못한 경우 0
+    private final int httpStatus;
+
+    public InstitutionCallException(String bankCodeStd, String endpoint, int httpStatus, String message) {
+        super(ErrorCode.INTERNAL_SERVER_ERROR, message);
+        this.bankCodeStd = bankCodeStd;
+        this.endpoint = endpoint;
+        this.httpStatus = httpStatus;
+    }
+}
@@ -0,0 +1,206 @@
+package com.kftc.common.client;
+
+import com.kftc.common.tracing.Span;
+import com.kftc.common.tracing.Tracer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 기관(은행/카드사/보험사) 공통 호출 클라이언트
+ *
+ * 요청 DTO를 그대로 JSON으로 직렬화해 보내고 응답을 지정한 타입으로 받는다.
+ * 커넥션 풀과 응답 압축은 RestTemplateConfig의 HttpClient 설정을 따른다.
+ * 2xx 이외 응답, 빈 응답 본문, 통신 오류는 모두 InstitutionCallException으로 알리며
+ * 기관/엔드포인트별 호출 수, 오류 수, 지연 시간을 집계한다.
+ * 지연 시간은 institution.client.requests 타이머(bank_code_std, method, uri, outcome, status 태그)로도 기록한다.
+ * 호출마다 CLIENT 추적 구간을 열며, 구간 정보는 traceparent 헤더로 기관에 전달된다 (TraceparentInterceptor).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InstitutionClient {
+
+    public static final String METRIC_NAME = "institution.client.requests";
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, EndpointStats> endpointStats = new ConcurrentHashMap<>();
+
+    /**
+     * JSON 요청 기본 헤더
+     */
+    public static HttpHeaders jsonHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        return headers;
+    }
+
+    /**
+     * Authorization을 그대로 전달하는 JSON 요청 헤더
+     */
+    public static HttpHeaders jsonHeaders(String authorization) {
+        HttpHeaders headers = jsonHeaders();
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+        return headers;
+    }
+
+    public <T> T get(String bankCodeStd, String baseUrl, String path, HttpHeaders headers, Class<T> responseType) {
+        return exchange(bankCodeStd, HttpMethod.GET, baseUrl, path, new HttpEntity<>(headers), responseType);
+    }
+
+    public <T> T post(String bankCodeStd, String baseUrl, String path, Object body, HttpHeaders headers,
+                      Class<T> responseType) {
+        return exchange(bankCodeStd, HttpMethod.POST, baseUrl, path, new HttpEntity<>(body, headers), responseType);
+    }
+
+    /**
+     * 응답 본문 없이 2xx 여부만 확인 (헬스체크)
+     */
+    public boolean ping(String bankCodeStd, String baseUrl, String path, HttpHeaders headers) {
+        String endpoint = endpointKey(bankCodeStd, HttpMethod.GET, path);
+        Span span = startSpan(bankCodeStd, HttpMethod.GET, path, endpoint);
+        long start = System.nanoTime();
+        boolean success = false;
+        int status = 0;
+        try {
+            ResponseEntity<Void> response = restTemplate.exchange(baseUrl + path, HttpMethod.GET,
+                    new HttpEntity<>(headers), Void.class);
+            status = response.getStatusCode().value();
+            success = response.getStatusCode().is2xxSuccessful();
+            return success;
+        } catch (RestClientResponseException e) {
+            status = e.getStatusCode().value();
+            log.warn("기관 헬스체크 실패: endpoint={}, status={}", endpoint, status);
+            return false;
+        } catch (RestClientException e) {
+            span.error(e);
+            log.warn("기관 헬스체크 실패: endpoint={}, error={}", endpoint, e.getMessage());
+            return false;
+        } finally {
+            finishSpan(span, status);
+            record(bankCodeStd, HttpMethod.GET, path, endpoint, System.nanoTime() - start, success, status);
+        }
+    }
+
+    private <T> T exchange(String bankCodeStd, HttpMethod method, String baseUrl, String path,
+                           HttpEntity<?> entity, Class<T> responseType) {
+        String endpoint = endpointKey(bankCodeStd, method, path);
+        Span span = startSpan(bankCodeStd, method, path, endpoint);
+        long start = System.nanoTime();
+        boolean success = false;
+        int status = 0;
+        try {
+            ResponseEntity<T> response = restTemplate.exchange(baseUrl + path, method, entity, responseType);
+            status = response.getStatusCode().value();
+            if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+                throw new InstitutionCallException(bankCodeStd, endpoint, response.getStatusCode().value(),
+                        "기관 응답 이상: " + endpoint + " status=" + response.getStatusCode().value());
+            }
+            success = true;
+            return response.getBody();
+        } catch (RestClientResponseException e) {
+            status = e.getStatusCode().value();
+            span.error(e);
+            throw new InstitutionCallException(bankCodeStd, endpoint, status,
+                    "기관 오류 응답: " + endpoint + " status=" + e.getStatusCode().value());
+        } catch (RestClientException e) {
+            span.error(e);
+            throw new InstitutionCallException(bankCodeStd, endpoint, 0,
+                    "기관 호출 실패: " + endpoint + " (" + e.getMessage() + ")");
+        } finally {
+            finishSpan(span, status);
+            record(bankCodeStd, method, path, endpoint, System.nanoTime() - start, success, status);
+        }
+    }
+
+    private static Span startSpan(String bankCodeStd, HttpMethod method, String path, String endpoint) {
+        return Tracer.startSpan("institution " + endpoint, Span.Kind.CLIENT)
+                .tag("bank_code_std", bankCodeStd)
+                .tag("http.method", method.name())
+                .tag("http.path", uriOf(path));
+    }
+
+    private static void finishSpan(Span span, int status) {
+        if (status != 0) {
+            span.tag("http.status_code", status);
+        }
+        span.close();
+    }
+
+    // 쿼리스트링은 집계 키에서 제외
+    private static String endpointKey(String bankCodeStd, HttpMethod method, String path) {
+        return bankCodeStd + " " + method.name() + " " + uriOf(path);
+    }
+
+    private static String uriOf(String path) {
+        int query = path.indexOf('?');
+        return query < 0 ? path : path.substring(0, query);
+    }
+
+    private void record(String bankCodeStd, HttpMethod method, String path, String endpoint,
+                        long elapsedNanos, boolean success, int status) {
+        endpointStats.computeIfAbsent(endpoint, key -> new EndpointStats()).record(elapsedNanos, success);
+        // status 0: 응답을 받지 못함 (연결/타임아웃 오류)
+        Timer.builder(METRIC_NAME)
+                .tag("bank_code_std", bankCodeStd != null ? bankCodeStd : "unknown")
+                .tag("method", method.name())
+                .tag("uri", uriOf(path))
+                .tag("outcome", success ? "SUCCESS" : "ERROR")
+                .tag("status", status == 0 ? "IO_ERROR" : String.valueOf(status))
+                .register(meterRegistry)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        new TreeMap<>(endpointStats).forEach((endpoint, endpointStat) -> stats.put(endpoint, endpointStat.snapshot()));
+        return stats;
+    }
+
+    private static final class EndpointStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long elapsedNanos, boolean success) {
+            calls.increment();
+            if (!success) {
+                errors.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        Map<String, Object> snapshot() {
+            long count = calls.sum();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("calls", count);
+            snapshot.put("errors", errors.sum());
+            snapshot.put("avg_ms", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.sum() / count));
+            snapshot.put("max_ms", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+            return snapshot;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.kftc.common.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 기관 응답 코드만 필요한 경우의 응답 (나머지 필드는 파싱 중 건너뜀)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InstitutionStatusResponse(
+        @JsonProperty("rsp_code") String rspCode,
+        @JsonProperty("rsp_message") String rspMessage) {
+
+    public boolean isSuccess() {
+        return "A0000".equals(rspCode);
+    }
+}
@@ -0,0 +1,49 @@
+package com.kftc.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * MVC 비동기 응답(StreamingResponseBody 등) 실행 설정
+ *
+ * 거래 로그 내보내기처럼 오래 걸리는 스트리밍 응답은 요청마다 스레드를 새로 만드는
+ * SimpleAsyncTaskExecutor 대신 크기가 정해진 전용 풀에서 실행하고, 타임아웃을 명시한다.
+ */
+@Configuration
+public class AsyncWebConfig implements WebMvcConfigurer {
+
+    private final Duration requestTimeout;
+    private final int poolSize;
+    private final int queueCapacity;
+
+    public AsyncWebConfig(@Value("${spring.mvc.async.request-timeout:10m}") Duration requestTimeout,
+                          @Value("${web.async.pool-size:8}") int poolSize,
+                          @Value("${web.async.queue-capacity:16}") int queueCapacity) {
+        this.requestTimeout = requestTimeout;
+        this.poolSize = poolSize;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mvcAsyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        // 대기열이 차면 거절 (내보내기 요청이 몰려도 스레드/DB 커넥션이 무한정 늘지 않도록)
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mvc-async-");
+        return executor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor());
+        configurer.setDefaultTimeout(requestTimeout.toMillis());
+    }
+}
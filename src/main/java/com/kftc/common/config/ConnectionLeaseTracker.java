@@ -0,0 +1,147 @@
+package com.kftc.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.ref.Cleaner;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC 커넥션 점유 시간 측정기 (진단용, 기본 비활성)
+ *
+ * DataSource를 감싸 커넥션 대여~반납 시간을 측정하고, 스레드별 대여 중인 커넥션 수를 추적한다.
+ * 모든 커넥션을 프록시로 감싸므로 운영 기본값에서는 끄고, 점유 문제를 조사할 때만
+ * db.connection-lease-tracking=true로 켠다. 외부 I/O 중 커넥션 점유는 open-in-view 비활성과
+ * 트랜잭션 경계로 막고, 이 클래스는 그것이 지켜지는지 확인하는 용도로만 쓴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "db.connection-lease-tracking", havingValue = "true")
+public class ConnectionLeaseTracker implements BeanPostProcessor {
+
+    private static final ThreadLocal<AtomicInteger> LEASED_BY_THREAD = ThreadLocal.withInitial(AtomicInteger::new);
+
+    // 반납(close)되지 않고 버려진 커넥션 프록시 정리
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final AtomicLong leaseCount = new AtomicLong();
+    private final AtomicLong totalHoldNanos = new AtomicLong();
+    private final AtomicLong maxHoldNanos = new AtomicLong();
+    private final AtomicLong activeLeases = new AtomicLong();
+    private final AtomicLong heldDuringIoCount = new AtomicLong();
+    private final AtomicLong abandonedCount = new AtomicLong();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof TrackingDataSource)) {
+            log.info("DataSource 커넥션 점유 시간 측정 적용: {}", beanName);
+            return new TrackingDataSource(dataSource);
+        }
+        return bean;
+    }
+
+    /**
+     * 현재 스레드가 대여 중인 커넥션 수
+     */
+    public int currentThreadLeaseCount() {
+        return LEASED_BY_THREAD.get().get();
+    }
+
+    /**
+     * 외부 I/O 직전 호출 - 커넥션을 쥔 상태면 카운트하고 경고
+     *
+     * @return 커넥션을 쥐고 있지 않으면 true
+     */
+    public boolean assertNoConnectionHeld(String ioName) {
+        int held = currentThreadLeaseCount();
+        if (held > 0) {
+            heldDuringIoCount.incrementAndGet();
+            log.warn("외부 I/O 중 DB 커넥션 점유 감지: io={}, thread={}, held={}",
+                    ioName, Thread.currentThread().getName(), held);
+            return false;
+        }
+        return true;
+    }
+
+    public Map<String, Object> getStats() {
+        long leases = leaseCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("lease_count", leases);
+        stats.put("active_leases", activeLeases.get());
+        stats.put("avg_hold_ms", leases == 0 ? 0.0 : totalHoldNanos.get() / 1_000_000.0 / leases);
+        stats.put("max_hold_ms", maxHoldNanos.get() / 1_000_000.0);
+        stats.put("held_during_io", heldDuringIoCount.get());
+        stats.put("abandoned", abandonedCount.get());
+        return stats;
+    }
+
+    private Connection track(Connection connection) {
+        long leasedAt = System.nanoTime();
+        AtomicInteger counter = LEASED_BY_THREAD.get();
+        counter.incrementAndGet();
+        leaseCount.incrementAndGet();
+        activeLeases.incrementAndGet();
+        AtomicBoolean closed = new AtomicBoolean(false);
+
+        Connection tracked = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+                        long held = System.nanoTime() - leasedAt;
+                        totalHoldNanos.addAndGet(held);
+                        maxHoldNanos.accumulateAndGet(held, Math::max);
+                        activeLeases.decrementAndGet();
+                        // 다른 스레드에서 반납해도 대여한 스레드의 카운터를 감소
+                        counter.decrementAndGet();
+                    }
+                    if ("unwrap".equals(method.getName()) && args != null
+                            && ((Class<?>) args[0]).isInstance(connection)) {
+                        return connection;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+        // close 없이 버려진 프록시는 GC 시점에 대여 중 집계에서 제외
+        CLEANER.register(tracked, () -> {
+            if (closed.compareAndSet(false, true)) {
+                abandonedCount.incrementAndGet();
+                activeLeases.decrementAndGet();
+                counter.decrementAndGet();
+            }
+        });
+        return tracked;
+    }
+
+    private class TrackingDataSource extends DelegatingDataSource {
+
+        TrackingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return track(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return track(super.getConnection(username, password));
+        }
+    }
+}
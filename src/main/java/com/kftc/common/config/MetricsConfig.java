@@ -0,0 +1,143 @@
+package com.kftc.common.config;
+
+import com.kftc.bank.service.AccountTransferSerializer;
+import com.kftc.bank.service.TransferReplayCache;
+import com.kftc.card.service.CardBillCache;
+import com.kftc.card.service.CardTransactionPrefetcher;
+import com.kftc.common.client.InstitutionClient;
+import com.kftc.common.tracing.Tracer;
+import com.kftc.common.tracing.ZipkinSpanExporter;
+import com.kftc.insurance.service.InsuranceOverviewAggregator;
+import com.kftc.user.service.*;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 메트릭 설정 (/actuator/prometheus)
+ *
+ * 기관 호출(institution.client.requests)과 /v2.0 API 서버 처리 시간(http.server.requests)은
+ * 히스토그램 버킷을 함께 내보내 p99를 histogram_quantile로 계산할 수 있게 한다.
+ * 각 컴포넌트의 getStats() 숫자 항목 중 누적 건수는 kftc_{컴포넌트}_events_total{stat="항목"} 카운터로,
+ * 나머지(현재 크기, 평균/최대 시간 등)는 kftc_{컴포넌트}{stat="항목"} 게이지로 노출한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String SERVER_REQUESTS = "http.server.requests";
+    private static final String API_PREFIX = "/v2.0/";
+
+    // getStats() 항목 중 단조 증가하는 누적 건수 (rate()/increase()로 보도록 카운터로 등록)
+    private static final Set<String> COUNTER_STATS = Set.of(
+            "abandoned", "acquired", "batches", "block_fetches", "collapsed_in_flight", "completed_tasks",
+            "conflicts", "continued_traces", "dropped", "dropped_spans", "enqueued", "evicted", "evicted_keys",
+            "evictions", "executed", "expired_unused", "exported", "failed", "held_during_io", "hits",
+            "invalidations", "issued", "lease_count", "locked", "misses", "overviews", "payment_error",
+            "payment_ok", "payment_timeout", "refreshes", "rejected", "rejected_new_keys", "rejected_queue_full",
+            "rejected_timeout", "replayed", "retried", "send_rejected", "sent", "skipped", "spans", "traces",
+            "verified", "verify_rejected");
+
+    @Bean
+    public MeterFilter latencyHistogramFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (InstitutionClient.METRIC_NAME.equals(id.getName()) || isApiRequest(id)) {
+                    return DistributionStatisticConfig.builder()
+                            .percentilesHistogram(true)
+                            .build()
+                            .merge(config);
+                }
+                return config;
+            }
+        };
+    }
+
+    // 그 외 경로(actuator, swagger, oauth)는 count/sum/max만 유지
+    private static boolean isApiRequest(Meter.Id id) {
+        String uri = id.getTag("uri");
+        return SERVER_REQUESTS.equals(id.getName()) && uri != null && uri.startsWith(API_PREFIX);
+    }
+
+    /**
+     * 컴포넌트별 getStats() 카운터/게이지
+     * TransactionReconciler.getStatus()는 호출마다 미처리 건수를 DB에서 세므로 제외
+     */
+    @Bean
+    public MeterBinder componentStatsMetrics(PhoneVerificationService phoneVerificationService,
+                                             InsuranceOverviewAggregator insuranceOverviewAggregator,
+                                             CardBillCache cardBillCache,
+                                             CardTransactionPrefetcher cardTransactionPrefetcher,
+                                             AccountTransferSerializer accountTransferSerializer,
+                                             TransferReplayCache transferReplayCache,
+                                             SmsOutbox smsOutbox,
+                                             PhoneVerificationThrottle phoneVerificationThrottle,
+                                             DiscoveryResultCache discoveryResultCache,
+                                             UserIdentityCache userIdentityCache,
+                                             UserSeqNoAllocator userSeqNoAllocator,
+                                             FinancialInstitutionCatalog financialInstitutionCatalog,
+                                             Tracer tracer,
+                                             ObjectProvider<InMemoryVerificationCodeStore> verificationCodeStore,
+                                             ObjectProvider<ZipkinSpanExporter> zipkinSpanExporter,
+                                             ObjectProvider<ConnectionLeaseTracker> connectionLeaseTracker) {
+        Map<String, Supplier<Map<String, Object>>> components = new LinkedHashMap<>();
+        // 기관 병렬 호출 스레드 풀
+        components.put("phone_verification_executor", phoneVerificationService::getStats);
+        components.put("insurance_overview", insuranceOverviewAggregator::getStats);
+        components.put("card_bill_cache", cardBillCache::getStats);
+        components.put("card_transaction_prefetch", cardTransactionPrefetcher::getStats);
+        components.put("account_transfer_serializer", accountTransferSerializer::getStats);
+        components.put("transfer_replay_cache", transferReplayCache::getStats);
+        components.put("sms_outbox", smsOutbox::getStats);
+        components.put("phone_verification_throttle", phoneVerificationThrottle::getStats);
+        components.put("discovery_result_cache", discoveryResultCache::getStats);
+        components.put("user_identity_cache", userIdentityCache::getStats);
+        components.put("user_seq_no_allocator", userSeqNoAllocator::getStats);
+        components.put("financial_institution_catalog", financialInstitutionCatalog::getStats);
+        components.put("tracer", tracer::getStats);
+        verificationCodeStore.ifAvailable(store -> components.put("verification_code_store", store::getStats));
+        zipkinSpanExporter.ifAvailable(exporter -> components.put("zipkin_span_exporter", exporter::getStats));
+        connectionLeaseTracker.ifAvailable(tracker -> components.put("connection_lease_tracker", tracker::getStats));
+
+        return registry -> components.forEach((component, stats) -> bindStats(registry, component, stats));
+    }
+
+    private static void bindStats(MeterRegistry registry, String component, Supplier<Map<String, Object>> stats) {
+        // 등록 시점의 항목 중 숫자/불리언만 (문자열, 시각 항목은 제외)
+        // stats 공급자는 components 맵이 강하게 참조하므로 약한 참조로 등록해도 수거되지 않음
+        stats.get().forEach((key, value) -> {
+            if (value instanceof Number && COUNTER_STATS.contains(key)) {
+                FunctionCounter.builder("kftc." + component + ".events", stats, supplier -> toDouble(supplier.get().get(key)))
+                        .tag("stat", key)
+                        .register(registry);
+            } else if (value instanceof Number || value instanceof Boolean) {
+                Gauge.builder("kftc." + component, stats, supplier -> toDouble(supplier.get().get(key)))
+                        .tag("stat", key)
+                        .strongReference(true)
+                        .register(registry);
+            }
+        });
+    }
+
+    private static double toDouble(Object value) {
+        if (value instanceof Number number) {
+            return number.doubleValue();
+        }
+        if (value instanceof Boolean flag) {
+            return flag ? 1 : 0;
+        }
+        return Double.NaN;
+    }
+}
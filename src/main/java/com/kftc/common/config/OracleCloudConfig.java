@@ -2,8 +2,12 @@ package com.kftc.common.config;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import oracle.security.pki.OraclePKIProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,6 +44,9 @@ public class OracleCloudConfig {
     @Value("${oracle.cloud.maximum-pool-size}")
     private int maximumPoolSize;
 
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
     @Bean
     @Primary
     public DataSource dataSource() {
@@ -219,6 +226,12 @@ public class OracleCloudConfig {
         config.setLeakDetectionThreshold(0);  // 비활성화
         config.setInitializationFailTimeout(-1); // 무한 대기
 
+        // 풀 게이지(hikaricp_connections_active/idle/pending 등) 등록
+        // 아래 연결 테스트로 풀이 먼저 시작되므로 Boot 자동 바인딩 대신 생성 시점에 지정
+        config.setPoolName("kftc-oracle");
+        meterRegistry.ifAvailable(registry ->
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+
         // Oracle 연결 속성
         Properties props = new Properties();
         props.setProperty("oracle.jdbc.fanEnabled", "false");
@@ -1,14 +1,89 @@
 package com.kftc.common.config;
 
+import com.kftc.common.client.InstitutionCallDeadline;
+import com.kftc.common.tracing.TraceparentInterceptor;
+import com.kftc.common.transaction.UpstreamLatencyInterceptor;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * 기관 호출용 커넥션 풀 (기관별 keep-alive 커넥션 재사용)
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager institutionConnectionManager(
+            @Value("${institution.client.max-total:100}") int maxTotal,
+            @Value("${institution.client.max-per-route:20}") int maxPerRoute,
+            @Value("${institution.client.connect-timeout-ms:3000}") long connectTimeoutMs,
+            @Value("${institution.client.read-timeout-ms:30000}") long readTimeoutMs,
+            @Value("${institution.client.connection-ttl-ms:300000}") long connectionTtlMs) {
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMilliseconds(connectionTtlMs))
+                        .build())
+                .build();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(PoolingHttpClientConnectionManager institutionConnectionManager,
+                                     @Value("${institution.client.idle-evict-ms:30000}") long idleEvictMs) {
+        // 응답 압축(gzip/deflate)은 HttpClient가 Accept-Encoding 협상과 해제를 기본으로 처리
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(institutionConnectionManager)
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
+
+        RestTemplate restTemplate = new RestTemplate(institutionRequestFactory(httpClient));
+        // 거래 로그의 기관 호출 시간(upstream_time_ms) 측정
+        restTemplate.getInterceptors().add(new UpstreamLatencyInterceptor());
+        // 기관 측 추적과 연결 (traceparent)
+        restTemplate.getInterceptors().add(new TraceparentInterceptor());
+        return restTemplate;
+    }
+
+    /**
+     * 기관 호출 요청 팩토리
+     * InstitutionCallDeadline이 걸린 스레드의 호출은 남은 시간을 응답/커넥션 대기 타임아웃으로 사용한다.
+     */
+    static HttpComponentsClientHttpRequestFactory institutionRequestFactory(HttpClient httpClient) {
+        return new HttpComponentsClientHttpRequestFactory(httpClient) {
+            @Override
+            protected HttpContext createHttpContext(HttpMethod httpMethod, URI uri) {
+                long remainingMs = InstitutionCallDeadline.remainingMillis();
+                if (remainingMs < 0) {
+                    return null;
+                }
+                Timeout timeout = Timeout.ofMilliseconds(remainingMs);
+                HttpClientContext context = HttpClientContext.create();
+                context.setRequestConfig(RequestConfig.custom()
+                        .setResponseTimeout(timeout)
+                        .setConnectionRequestTimeout(timeout)
+                        .build());
+                return context;
+            }
+        };
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,18 @@
+package com.kftc.common.config;
+
+import com.kftc.common.tracing.TracingHandlerInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 요청 추적 구간 등록 (루트 구간은 TransactionLogFilter, 컨트롤러 구간은 인터셉터)
+ */
+@Configuration
+public class TracingConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new TracingHandlerInterceptor()).addPathPatterns("/v2.0/**");
+    }
+}
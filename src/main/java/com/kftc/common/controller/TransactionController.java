@@ -2,6 +2,8 @@ package com.kftc.common.controller;
 
 import com.kftc.common.entity.TransactionLog;
 import com.kftc.common.repository.TransactionLogRepository;
+import com.kftc.common.service.TransactionLogExportService;
+import com.kftc.common.service.TransactionReconciler;
 import com.kftc.common.util.TransactionIdGenerator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,8 +11,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -26,6 +31,8 @@ public class TransactionController {
     
     private final TransactionIdGenerator transactionIdGenerator;
     private final TransactionLogRepository transactionLogRepository;
+    private final TransactionLogExportService transactionLogExportService;
+    private final TransactionReconciler transactionReconciler;
     
     @PostMapping("/generate-id")
     @Operation(
@@ -88,6 +95,41 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/logs/export")
+    @Operation(
+        summary = "거래 로그 정산용 내보내기",
+        description = "기간별 거래 로그를 NDJSON 또는 CSV로 스트리밍합니다. 전체 목록을 메모리에 적재하지 않습니다."
+    )
+    public ResponseEntity<StreamingResponseBody> exportTransactionLogs(
+            @Parameter(description = "시작일자 (YYYY-MM-DD)", required = true)
+            @RequestParam("from_date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "종료일자 (YYYY-MM-DD)", required = true)
+            @RequestParam("to_date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "형식 (ndjson, csv)")
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @Parameter(description = "API명 (예: GET /v2.0/cards)")
+            @RequestParam(value = "api_name", required = false) String apiName,
+            @Parameter(description = "기관대표코드")
+            @RequestParam(value = "bank_code_std", required = false) String bankCodeStd,
+            @Parameter(description = "거래 상태 (PENDING, SUCCESS, FAILED)")
+            @RequestParam(value = "status", required = false) String status) {
+        
+        TransactionLogExportService.ExportFormat exportFormat = TransactionLogExportService.ExportFormat.from(format);
+        transactionLogExportService.validate(fromDate, toDate, status);
+        
+        log.info("거래 로그 내보내기 요청 - 기간: {} ~ {}, 형식: {}, API: {}, 기관: {}, 상태: {}", 
+                fromDate, toDate, exportFormat, apiName, bankCodeStd, status);
+        
+        StreamingResponseBody body = outputStream -> transactionLogExportService.export(
+            fromDate, toDate, apiName, bankCodeStd, status, exportFormat, outputStream);
+        
+        String fileName = "transaction_log_" + fromDate + "_" + toDate + "." + exportFormat.getExtension();
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+            .body(body);
+    }
+    
     @GetMapping("/logs/{transactionId}")
     @Operation(
         summary = "특정 거래고유번호 조회",
@@ -187,6 +229,44 @@ public class TransactionController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/reconcile/status")
+    @Operation(
+        summary = "미완료 거래 대사 현황",
+        description = "PENDING 거래 대사 대기 건수, 누적 처리 결과, 최근 실행 처리량을 조회합니다."
+    )
+    public ResponseEntity<Map<String, Object>> getReconcileStatus() {
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("rsp_code", "A0000");
+        response.put("rsp_message", "조회 성공");
+        response.put("reconcile_status", transactionReconciler.getStatus());
+        
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/reconcile/run")
+    @Operation(
+        summary = "미완료 거래 대사 즉시 실행",
+        description = "스케줄을 기다리지 않고 PENDING 거래 대사를 1회 시작합니다. 진행 상황은 /reconcile/status에서 실행 ID로 확인합니다."
+    )
+    public ResponseEntity<Map<String, Object>> runReconcile() {
+        
+        String runId = transactionReconciler.submitRun();
+        
+        Map<String, Object> response = new HashMap<>();
+        if (runId == null) {
+            response.put("rsp_code", "A0001");
+            response.put("rsp_message", "대사가 이미 실행 중입니다");
+            return ResponseEntity.ok(response);
+        }
+        
+        // 대사는 수 분 걸릴 수 있으므로 요청 스레드에서 기다리지 않고 접수만 응답
+        response.put("rsp_code", "A0000");
+        response.put("rsp_message", "대사 실행 접수");
+        response.put("run_id", runId);
+        return ResponseEntity.accepted().body(response);
+    }
+    
     @PostMapping("/test/generate-multiple")
     @Operation(
         summary = "테스트용 거래고유번호 대량 생성",
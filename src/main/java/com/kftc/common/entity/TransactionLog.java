@@ -23,12 +23,15 @@ import java.time.LocalDateTime;
        indexes = {
            @Index(name = "idx_transaction_date_id", columnList = "transactionDate,transactionId", unique = true),
            @Index(name = "idx_transaction_date", columnList = "transactionDate"),
-           @Index(name = "idx_api_name", columnList = "apiName")
+           @Index(name = "idx_api_name", columnList = "apiName"),
+           @Index(name = "idx_status_reconcile_target", columnList = "transactionStatus,reconcileTarget,id")
        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TransactionLog extends DateTimeEntity {
     
+    private static final String TRANSFER_API = "/transfer/";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -54,6 +57,13 @@ public class TransactionLog extends DateTimeEntity {
     @Column(name = "api_name", nullable = false, length = 100)
     private String apiName;
     
+    /**
+     * 대사 대상 여부 (기관 결과조회 API가 있는 이체 거래)
+     * 생성 시 API명으로 정해 두어 대사 배치가 API명 LIKE 검색 없이 상태 인덱스로 조회하도록 함
+     */
+    @Column(name = "reconcile_target")
+    private Boolean reconcileTarget;
+    
     /**
      * 요청 사용자 일련번호
      */
@@ -85,9 +95,16 @@ public class TransactionLog extends DateTimeEntity {
     @Column(name = "processing_time_ms")
     private Long processingTimeMs;
     
+    /**
+     * 기관(은행/카드사/보험사) 호출 소요 시간 (밀리초)
+     * processingTimeMs 중 외부 기관 응답 대기에 사용된 시간
+     */
+    @Column(name = "upstream_time_ms")
+    private Long upstreamTimeMs;
+    
     /**
      * 거래 상태
-     * SUCCESS, FAILED, PENDING
+     * SUCCESS, FAILED, PENDING, UNKNOWN
      */
     @Enumerated(EnumType.STRING)
     @Column(name = "transaction_status", nullable = false, length = 20)
@@ -96,18 +113,28 @@ public class TransactionLog extends DateTimeEntity {
     @Builder
     public TransactionLog(String transactionId, LocalDate transactionDate, String apiName, 
                          String userSeqNo, String bankCodeStd, String responseCode, 
-                         String responseMessage, Long processingTimeMs, TransactionStatus transactionStatus) {
+                         String responseMessage, Long processingTimeMs, Long upstreamTimeMs,
+                         TransactionStatus transactionStatus) {
         this.transactionId = transactionId;
         this.transactionDate = transactionDate;
         this.apiName = apiName;
+        this.reconcileTarget = isReconcileTarget(apiName);
         this.userSeqNo = userSeqNo;
         this.bankCodeStd = bankCodeStd;
         this.responseCode = responseCode;
         this.responseMessage = responseMessage;
         this.processingTimeMs = processingTimeMs;
+        this.upstreamTimeMs = upstreamTimeMs;
         this.transactionStatus = transactionStatus;
     }
     
+    /**
+     * 결과조회로 대사할 수 있는 거래인지 (이체 API)
+     */
+    public static boolean isReconcileTarget(String apiName) {
+        return apiName != null && apiName.contains(TRANSFER_API);
+    }
+    
     /**
      * 거래 완료 처리
      */
@@ -118,13 +145,22 @@ public class TransactionLog extends DateTimeEntity {
         this.transactionStatus = "A0000".equals(responseCode) ? TransactionStatus.SUCCESS : TransactionStatus.FAILED;
     }
     
+    /**
+     * 거래 완료 처리 (기관 호출 시간 포함)
+     */
+    public void completeTransaction(String responseCode, String responseMessage, long processingTimeMs, long upstreamTimeMs) {
+        completeTransaction(responseCode, responseMessage, processingTimeMs);
+        this.upstreamTimeMs = upstreamTimeMs;
+    }
+    
     /**
      * 거래 상태 열거형
      */
     public enum TransactionStatus {
         PENDING("처리중"),
         SUCCESS("성공"), 
-        FAILED("실패");
+        FAILED("실패"),
+        UNKNOWN("결과불명 - 수동 확인 필요");
         
         private final String description;
         
@@ -10,6 +10,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(400, "C_003", "적절하지 않은 요청 값입니다."),
     INVALID_TYPE_VALUE(400, "C_004", "요청 값의 타입이 잘못되었습니다."),
     ENTITY_NOT_FOUND(400, "C_005", "지정한 Entity를 찾을 수 없습니다."),
+    TOO_MANY_REQUESTS(429, "C_006", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
 
     LOCATION_NOT_FOUND(400, "L_001", "잘못된 위치 정보입니다. 1~17 사이의 숫자를 입력해주세요."),
 
@@ -0,0 +1,220 @@
+package com.kftc.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 슬라이딩 윈도우 요청 제한기 (sliding window counter)
+ *
+ * 직전 윈도우 건수를 경과 비율만큼 가중해 현재 윈도우 건수와 더한 값으로 허용 여부를 판단한다.
+ * 키별 상태(윈도우 번호 32비트 + 직전 건수 16비트 + 현재 건수 16비트)를 AtomicLong 하나에 담아
+ * CAS로만 갱신하므로 잠금이 없고, 키 맵은 stripe로 나눠 정리/상한 검사를 stripe 단위로 수행한다.
+ * 키 수 상한에 도달하면 직전 윈도우 이전에 마지막 요청이 있던 키만 밀어내고, 모든 키가 현재 윈도우에서
+ * 활동 중이면 새 키를 거절한다 (fail closed). 현재 윈도우 키를 밀어내면 버리는 키로 stripe를 채워
+ * 제한에 걸린 키의 건수를 초기화할 수 있기 때문이다.
+ */
+public class SlidingWindowRateLimiter {
+
+    private static final int MAX_COUNT = 0xFFFF;
+
+    private final int limit;
+    private final long windowMs;
+    private final int maxKeysPerStripe;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final AtomicLong evictedCount = new AtomicLong();
+    private final AtomicLong newKeyRejectedCount = new AtomicLong();
+
+    public SlidingWindowRateLimiter(int limit, long windowMs, int maxKeys) {
+        this(limit, windowMs, maxKeys, 16, System::currentTimeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SlidingWindowRateLimiter(int limit, long windowMs, int maxKeys, int stripeCount, LongSupplier clock) {
+        if (limit <= 0 || limit > MAX_COUNT) {
+            throw new IllegalArgumentException("limit은 1~" + MAX_COUNT + " 사이여야 합니다: " + limit);
+        }
+        if (windowMs <= 0) {
+            throw new IllegalArgumentException("windowMs는 0보다 커야 합니다: " + windowMs);
+        }
+        this.limit = limit;
+        this.windowMs = windowMs;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / stripeCount);
+        this.clock = clock;
+        this.stripes = new ConcurrentHashMap[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * 요청 1건 허용 여부 (허용 시 건수 반영)
+     *
+     * 추적 키 수가 상한에 도달한 stripe에서는 만료 키를 정리하고, 그래도 공간이 없으면
+     * 직전 윈도우 이전 키를 밀어낸 뒤 새 키를 받는다. 밀어낼 키가 없으면 새 키는 거절한다.
+     */
+    public boolean tryAcquire(String key) {
+        long now = clock.getAsLong();
+        int nowIndex = windowIndex(now);
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(key);
+        AtomicLong state = stripe.get(key);
+        if (state == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                purge(stripe, now);
+                if (stripe.size() >= maxKeysPerStripe && !evictPreviousWindows(stripe, nowIndex)) {
+                    newKeyRejectedCount.incrementAndGet();
+                    return false;
+                }
+            }
+            state = stripe.computeIfAbsent(key, k -> new AtomicLong(pack(nowIndex, 0, 0)));
+        }
+
+        double elapsedRatio = (double) (now % windowMs) / windowMs;
+        while (true) {
+            long current = state.get();
+            long next = advance(current, nowIndex);
+            int previousCount = (int) ((next >>> 16) & MAX_COUNT);
+            int currentCount = (int) (next & MAX_COUNT);
+
+            double estimated = previousCount * (1.0 - elapsedRatio) + currentCount;
+            if (estimated + 1 > limit) {
+                // 거절된 키도 현재 윈도우로 옮겨 두어 상한 정리 때 밀려나지 않게 함 (건수는 그대로)
+                touch(state, current, next);
+                return false;
+            }
+
+            if (state.compareAndSet(current, pack(nowIndex, previousCount, Math.min(currentCount + 1, MAX_COUNT)))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 건수를 반영하지 않고 지금 1건이 허용될지만 확인 (추적하지 않는 키는 허용)
+     * 여러 제한기를 함께 검사할 때 하나라도 거절되면 나머지 예산을 소모하지 않도록 먼저 확인하는 용도
+     */
+    public boolean wouldAllow(String key) {
+        AtomicLong state = stripeFor(key).get(key);
+        if (state == null) {
+            return true;
+        }
+        long now = clock.getAsLong();
+        long current = state.get();
+        long next = advance(current, windowIndex(now));
+        int previousCount = (int) ((next >>> 16) & MAX_COUNT);
+        int currentCount = (int) (next & MAX_COUNT);
+        double elapsedRatio = (double) (now % windowMs) / windowMs;
+        boolean allowed = previousCount * (1.0 - elapsedRatio) + currentCount + 1 <= limit;
+        if (!allowed) {
+            touch(state, current, next);
+        }
+        return allowed;
+    }
+
+    /**
+     * 윈도우 이동만 반영 (건수 판단은 같음) - 실패해도 다른 요청이 이미 갱신한 것이므로 재시도하지 않음
+     */
+    private static void touch(AtomicLong state, long current, long next) {
+        if (next != current) {
+            state.compareAndSet(current, next);
+        }
+    }
+
+    /**
+     * tryAcquire로 반영한 1건 되돌리기 (같은 윈도우 안에서만, 함께 검사한 다른 제한기가 거절한 경우)
+     */
+    public void release(String key) {
+        AtomicLong state = stripeFor(key).get(key);
+        if (state == null) {
+            return;
+        }
+        int nowIndex = windowIndex(clock.getAsLong());
+        while (true) {
+            long current = state.get();
+            int currentCount = (int) (current & MAX_COUNT);
+            if ((int) (current >>> 32) != nowIndex || currentCount == 0) {
+                return;
+            }
+            if (state.compareAndSet(current, current - 1)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 상태를 지금 윈도우 기준으로 이동 (다음 윈도우로 넘어가면 현재 건수가 직전 건수가 되고, 두 윈도우 이상 지나면 초기화)
+     */
+    private static long advance(long state, int nowIndex) {
+        int index = (int) (state >>> 32);
+        if (index == nowIndex) {
+            return state;
+        }
+        int currentCount = (int) (state & MAX_COUNT);
+        return pack(nowIndex, nowIndex - index == 1 ? currentCount : 0, 0);
+    }
+
+    /**
+     * 두 윈도우 이상 요청이 없던 키 제거
+     */
+    public void purgeExpired() {
+        long now = clock.getAsLong();
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            purge(stripe, now);
+        }
+    }
+
+    private void purge(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        int nowIndex = windowIndex(now);
+        stripe.entrySet().removeIf(entry -> nowIndex - (int) (entry.getValue().get() >>> 32) > 1);
+    }
+
+    /**
+     * 현재 윈도우에 요청이 없던 키 제거 (한 번에 여러 개를 비워 다음 삽입에서 다시 훑지 않게 함)
+     *
+     * @return 하나라도 제거했으면 true
+     */
+    private boolean evictPreviousWindows(ConcurrentHashMap<String, AtomicLong> stripe, int nowIndex) {
+        int before = stripe.size();
+        stripe.entrySet().removeIf(entry -> (int) (entry.getValue().get() >>> 32) < nowIndex);
+        int evicted = before - stripe.size();
+        evictedCount.addAndGet(Math.max(0, evicted));
+        return evicted > 0;
+    }
+
+    /**
+     * 키 수 상한 때문에 밀어낸 키 수 (누적)
+     */
+    public long evictions() {
+        return evictedCount.get();
+    }
+
+    /**
+     * 키 수 상한에 도달했는데 밀어낼 키가 없어 거절한 새 키 요청 수 (누적)
+     */
+    public long newKeyRejections() {
+        return newKeyRejectedCount.get();
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+
+    private int windowIndex(long nowMs) {
+        return (int) (nowMs / windowMs);
+    }
+
+    private static long pack(int index, int previousCount, int currentCount) {
+        return ((long) index << 32) | ((long) previousCount << 16) | currentCount;
+    }
+}
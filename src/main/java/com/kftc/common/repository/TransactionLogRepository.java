@@ -1,12 +1,17 @@
 package com.kftc.common.repository;
 
 import com.kftc.common.entity.TransactionLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +29,11 @@ public interface TransactionLogRepository extends JpaRepository<TransactionLog,
      */
     Optional<TransactionLog> findByTransactionDateAndTransactionId(LocalDate transactionDate, String transactionId);
     
+    /**
+     * 특정 날짜의 거래고유번호 목록 일괄 조회 (비동기 로그 배치 저장용)
+     */
+    List<TransactionLog> findByTransactionDateAndTransactionIdIn(LocalDate transactionDate, Collection<String> transactionIds);
+    
     /**
      * 특정 날짜의 모든 거래 로그 조회
      */
@@ -48,6 +58,40 @@ public interface TransactionLogRepository extends JpaRepository<TransactionLog,
      */
     List<TransactionLog> findByTransactionStatusOrderByCreatedAtDesc(TransactionLog.TransactionStatus status);
     
+    /**
+     * 기준 시각 이전 상태별 대사 대상 거래 로그를 id 순으로 페이지 조회 (keyset 페이징, 대사 배치용)
+     * idx_status_reconcile_target 인덱스 사용
+     */
+    List<TransactionLog> findByTransactionStatusAndReconcileTargetTrueAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+            TransactionLog.TransactionStatus status, LocalDateTime createdAt, Long id, Pageable pageable);
+    
+    /**
+     * 기준 시각 이전 상태별 대사 대상 거래 수 (대사 대기 건수)
+     */
+    long countByTransactionStatusAndReconcileTargetTrueAndCreatedAtBefore(
+            TransactionLog.TransactionStatus status, LocalDateTime createdAt);
+    
+    /**
+     * 상태별 대사 대상 거래 수 (수동 확인 대기 건수)
+     */
+    long countByTransactionStatusAndReconcileTargetTrue(TransactionLog.TransactionStatus status);
+    
+    /**
+     * PENDING 거래 일괄 상태 확정 (대사 결과 반영)
+     * 대사 중 다른 경로로 완료된 건은 덮어쓰지 않도록 PENDING 조건 포함
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TransactionLog tl " +
+           "SET tl.transactionStatus = :status, tl.responseCode = :responseCode, " +
+           "tl.responseMessage = :responseMessage, tl.modifiedAt = :now " +
+           "WHERE tl.id IN :ids AND tl.transactionStatus = com.kftc.common.entity.TransactionLog.TransactionStatus.PENDING")
+    int bulkCompletePending(@Param("ids") Collection<Long> ids,
+                            @Param("status") TransactionLog.TransactionStatus status,
+                            @Param("responseCode") String responseCode,
+                            @Param("responseMessage") String responseMessage,
+                            @Param("now") LocalDateTime now);
+    
     /**
      * 오래된 거래 로그 삭제용 (예: 30일 이전)
      */
@@ -0,0 +1,288 @@
+package com.kftc.common.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.kftc.common.entity.TransactionLog;
+import com.kftc.common.exception.BusinessException;
+import com.kftc.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 거래 로그 정산용 스트리밍 내보내기 서비스
+ *
+ * 엔티티를 힙에 적재하지 않고 forward-only JDBC 커서에서 한 행씩 읽어
+ * 곧바로 NDJSON/CSV로 출력한다. 메모리 사용량은 fetch size 만큼으로 일정하다.
+ */
+@Slf4j
+@Service
+public class TransactionLogExportService {
+
+    private static final String[] COLUMNS = {
+            "transaction_id", "transaction_date", "api_name", "user_seq_no", "bank_code_std",
+            "response_code", "response_message", "processing_time_ms", "upstream_time_ms",
+            "transaction_status", "created_at"
+    };
+
+    private enum ColumnType { STRING, NUMBER, DATE, TIMESTAMP }
+
+    private static final ColumnType[] COLUMN_TYPES = {
+            ColumnType.STRING, ColumnType.DATE, ColumnType.STRING, ColumnType.STRING, ColumnType.STRING,
+            ColumnType.STRING, ColumnType.STRING, ColumnType.NUMBER, ColumnType.NUMBER,
+            ColumnType.STRING, ColumnType.TIMESTAMP
+    };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JsonFactory jsonFactory = new JsonFactory()
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    private final int maxRangeDays;
+
+    public TransactionLogExportService(DataSource dataSource,
+                                       @Value("${transaction-log.export.fetch-size:1000}") int fetchSize,
+                                       @Value("${transaction-log.export.max-range-days:31}") int maxRangeDays) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        // Oracle 드라이버 기본 fetch size(10)로는 왕복 횟수가 병목이 되므로 크게 설정
+        template.setFetchSize(fetchSize);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.extension.equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 요청 파라미터 검증 (스트리밍 시작 전에 호출해 오류를 일반 응답으로 돌려준다)
+     */
+    public void validate(LocalDate fromDate, LocalDate toDate, String status) {
+        if (fromDate == null || toDate == null || fromDate.isAfter(toDate)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "조회 기간이 올바르지 않습니다.");
+        }
+        if (ChronoUnit.DAYS.between(fromDate, toDate) >= maxRangeDays) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                    "조회 기간은 최대 " + maxRangeDays + "일까지 가능합니다.");
+        }
+        if (StringUtils.hasText(status)) {
+            try {
+                TransactionLog.TransactionStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "유효하지 않은 거래 상태입니다: " + status);
+            }
+        }
+    }
+
+    /**
+     * 기간/조건에 해당하는 거래 로그를 출력 스트림으로 내보내기
+     *
+     * @return 내보낸 행 수
+     */
+    public long export(LocalDate fromDate, LocalDate toDate, String apiName, String bankCodeStd, String status,
+                       ExportFormat format, OutputStream outputStream) throws IOException {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(String.join(", ", COLUMNS))
+                .append(" FROM transaction_log WHERE transaction_date BETWEEN :fromDate AND :toDate");
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("fromDate", Date.valueOf(fromDate))
+                .addValue("toDate", Date.valueOf(toDate));
+
+        if (StringUtils.hasText(apiName)) {
+            sql.append(" AND api_name = :apiName");
+            params.addValue("apiName", apiName);
+        }
+        if (StringUtils.hasText(bankCodeStd)) {
+            sql.append(" AND bank_code_std = :bankCodeStd");
+            params.addValue("bankCodeStd", bankCodeStd);
+        }
+        if (StringUtils.hasText(status)) {
+            sql.append(" AND transaction_status = :status");
+            params.addValue("status", status.toUpperCase());
+        }
+        sql.append(" ORDER BY transaction_date, id");
+
+        long startTime = System.currentTimeMillis();
+        RowWriter rowWriter = format == ExportFormat.NDJSON
+                ? new NdjsonRowWriter(jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8))
+                : new CsvRowWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+
+        long[] count = {0};
+        try {
+            rowWriter.begin();
+            jdbcTemplate.query(sql.toString(), params, (RowCallbackHandler) rs -> {
+                try {
+                    rowWriter.write(rs);
+                    count[0]++;
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 출력 실패 시 커서를 즉시 닫기 위해 중단
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            rowWriter.close();
+        }
+
+        log.info("거래 로그 내보내기 완료 - 기간: {} ~ {}, 형식: {}, 건수: {}, 소요: {}ms",
+                fromDate, toDate, format, count[0], System.currentTimeMillis() - startTime);
+        return count[0];
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        void close() throws IOException;
+    }
+
+    private static class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(JsonGenerator generator) {
+            this.generator = generator;
+            // 행 사이 구분자를 줄바꿈으로 설정 (NDJSON)
+            generator.setRootValueSeparator(new SerializedString("\n"));
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (COLUMN_TYPES[i] == ColumnType.NUMBER) {
+                    long number = rs.getLong(i + 1);
+                    if (rs.wasNull()) {
+                        generator.writeNullField(COLUMNS[i]);
+                    } else {
+                        generator.writeNumberField(COLUMNS[i], number);
+                    }
+                } else {
+                    String value = readText(rs, i);
+                    if (value == null) {
+                        generator.writeNullField(COLUMNS[i]);
+                    } else {
+                        generator.writeStringField(COLUMNS[i], value);
+                    }
+                }
+            }
+            generator.writeEndObject();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.writeRaw('\n');
+            generator.close();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                String value = readText(rs, i);
+                if (value != null) {
+                    writeEscaped(value);
+                }
+            }
+            writer.write('\n');
+        }
+
+        private void writeEscaped(String value) throws IOException {
+            boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!needsQuote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush();
+        }
+    }
+
+    /**
+     * 컬럼 타입별로 문자열 변환 (Oracle DATE 컬럼이 Timestamp로 반환되는 문제 방지)
+     */
+    private static String readText(ResultSet rs, int index) throws SQLException {
+        switch (COLUMN_TYPES[index]) {
+            case DATE:
+                Date date = rs.getDate(index + 1);
+                return date != null ? date.toLocalDate().toString() : null;
+            case TIMESTAMP:
+                Timestamp timestamp = rs.getTimestamp(index + 1);
+                return timestamp != null ? timestamp.toLocalDateTime().toString() : null;
+            case NUMBER:
+                long number = rs.getLong(index + 1);
+                return rs.wasNull() ? null : String.valueOf(number);
+            default:
+                return rs.getString(index + 1);
+        }
+    }
+}
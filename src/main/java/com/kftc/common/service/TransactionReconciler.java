@@ -0,0 +1,312 @@
+package com.kftc.common.service;
+
+import com.kftc.bank.common.TransferResultResponse;
+import com.kftc.bank.service.BankService;
+import com.kftc.common.entity.TransactionLog;
+import com.kftc.common.repository.TransactionLogRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 미완료(PENDING) 이체 대사기
+ *
+ * 일정 시간 이상 PENDING으로 남은 이체 거래 로그를 id 순으로 배치 조회하여
+ * 기관에 이체결과를 조회(병렬 + 초당 호출 수 제한)한다. 만료 시간이 지나도록 결과를 알 수 없는 이체는
+ * 실제로 출금되었을 수 있으므로 실패로 확정하지 않고 UNKNOWN(수동 확인 대상)으로 옮긴다.
+ * 기관에 결과를 확인할 방법이 없는 조회성 거래는 대사 대상(reconcileTarget)이 아니므로 상태를 바꾸지 않는다.
+ * 상태 반영은 결과별 일괄 UPDATE로 처리한다.
+ */
+@Slf4j
+@Service
+public class TransactionReconciler {
+
+    private static final String EXPIRED_CODE = "TIMEOUT";
+    private static final String EXPIRED_MESSAGE = "결과 미확인 거래 - 수동 확인 필요";
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final DateTimeFormatter TRAN_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final TransactionLogRepository transactionLogRepository;
+    private final BankService bankService;
+    private final ExecutorService executor;
+    // 수동 실행 요청을 받는 단일 스레드 (대사 중 executor 작업을 기다리므로 같은 풀을 쓰면 병렬도가 줄어듦)
+    private final ExecutorService runExecutor;
+    private final RateLimiter rateLimiter;
+
+    private final long staleAfterMinutes;
+    private final long giveUpAfterMinutes;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final AtomicLong totalScanned = new AtomicLong();
+    private final AtomicLong totalSucceeded = new AtomicLong();
+    private final AtomicLong totalFailed = new AtomicLong();
+    private final AtomicLong totalUnknown = new AtomicLong();
+    private final AtomicLong totalUnresolved = new AtomicLong();
+    private final AtomicLong runSequence = new AtomicLong();
+    private final AtomicLong institutionQueries = new AtomicLong();
+
+    private volatile String currentRunId;
+    private volatile String lastRunId;
+    private volatile LocalDateTime lastRunStartedAt;
+    private volatile LocalDateTime lastRunFinishedAt;
+    private volatile long lastRunProcessed;
+    private volatile double lastRunThroughput;
+    private volatile long currentRunProcessed;
+
+    public TransactionReconciler(TransactionLogRepository transactionLogRepository,
+                                 BankService bankService,
+                                 @Value("${transaction-log.reconcile.stale-after-minutes:10}") long staleAfterMinutes,
+                                 @Value("${transaction-log.reconcile.give-up-after-minutes:1440}") long giveUpAfterMinutes,
+                                 @Value("${transaction-log.reconcile.batch-size:500}") int batchSize,
+                                 @Value("${transaction-log.reconcile.max-batches-per-run:20}") int maxBatchesPerRun,
+                                 @Value("${transaction-log.reconcile.parallelism:4}") int parallelism,
+                                 @Value("${transaction-log.reconcile.institution-rate-per-second:20}") int ratePerSecond) {
+        this.transactionLogRepository = transactionLogRepository;
+        this.bankService = bankService;
+        this.staleAfterMinutes = staleAfterMinutes;
+        this.giveUpAfterMinutes = giveUpAfterMinutes;
+        // Oracle IN 절 제한(1000) 이내로 유지
+        this.batchSize = Math.min(batchSize, 1000);
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.executor = Executors.newFixedThreadPool(parallelism);
+        this.runExecutor = Executors.newSingleThreadExecutor();
+        this.rateLimiter = new RateLimiter(ratePerSecond);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Scheduled(initialDelayString = "${transaction-log.reconcile.initial-delay-ms:60000}",
+               fixedDelayString = "${transaction-log.reconcile.interval-ms:300000}")
+    public void scheduledRun() {
+        run();
+    }
+
+    /**
+     * 대사 1회 실행 (이미 실행 중이면 건너뜀)
+     *
+     * @return 이번 실행에서 처리한 건수, 실행하지 않았으면 -1
+     */
+    public long run() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("거래 대사 이미 실행 중 - 건너뜀");
+            return -1;
+        }
+        return runClaimed(nextRunId());
+    }
+
+    /**
+     * 대사 1회를 백그라운드로 시작 (수동 실행용, 진행 상황은 getStatus()로 확인)
+     *
+     * @return 실행 ID, 이미 실행 중이면 null
+     */
+    public String submitRun() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("거래 대사 이미 실행 중 - 건너뜀");
+            return null;
+        }
+        String runId = nextRunId();
+        try {
+            runExecutor.execute(() -> runClaimed(runId));
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            throw e;
+        }
+        return runId;
+    }
+
+    private String nextRunId() {
+        return LocalDateTime.now().format(RUN_ID_FORMAT) + "-" + runSequence.incrementAndGet();
+    }
+
+    /**
+     * 실행 권한(running)을 얻은 뒤 대사 수행
+     */
+    private long runClaimed(String runId) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        currentRunId = runId;
+        lastRunStartedAt = startedAt;
+        currentRunProcessed = 0;
+
+        try {
+            LocalDateTime staleBefore = startedAt.minusMinutes(staleAfterMinutes);
+            LocalDateTime giveUpBefore = startedAt.minusMinutes(giveUpAfterMinutes);
+            long lastId = 0L;
+
+            for (int batchNo = 0; batchNo < maxBatchesPerRun; batchNo++) {
+                List<TransactionLog> batch = transactionLogRepository
+                        .findByTransactionStatusAndReconcileTargetTrueAndCreatedAtBeforeAndIdGreaterThanOrderByIdAsc(
+                                TransactionLog.TransactionStatus.PENDING, staleBefore, lastId,
+                                PageRequest.of(0, batchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                reconcileBatch(batch, giveUpBefore);
+                lastId = batch.get(batch.size() - 1).getId();
+                currentRunProcessed += batch.size();
+
+                if (batch.size() < batchSize) {
+                    break;
+                }
+            }
+
+            return currentRunProcessed;
+
+        } catch (Exception e) {
+            log.error("거래 대사 중 오류 발생: {}", e.getMessage(), e);
+            return currentRunProcessed;
+        } finally {
+            long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+            lastRunProcessed = currentRunProcessed;
+            lastRunThroughput = currentRunProcessed * 1000.0 / elapsedMs;
+            lastRunFinishedAt = LocalDateTime.now();
+            lastRunId = runId;
+            currentRunId = null;
+            running.set(false);
+            if (lastRunProcessed > 0) {
+                log.info("거래 대사 완료 - 실행: {}, 처리: {}건, 소요: {}ms, 처리량: {}/s",
+                        runId, lastRunProcessed, elapsedMs, String.format("%.1f", lastRunThroughput));
+            }
+        }
+    }
+
+    private void reconcileBatch(List<TransactionLog> batch, LocalDateTime giveUpBefore) {
+        List<CompletableFuture<Outcome>> futures = new ArrayList<>(batch.size());
+        for (TransactionLog transactionLog : batch) {
+            futures.add(CompletableFuture.supplyAsync(() -> resolve(transactionLog, giveUpBefore), executor)
+                    .exceptionally(e -> null));
+        }
+
+        // 결과별로 묶어서 일괄 UPDATE
+        Map<Outcome, List<Long>> idsByOutcome = new HashMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Outcome outcome = futures.get(i).join();
+            totalScanned.incrementAndGet();
+            if (outcome == null) {
+                totalUnresolved.incrementAndGet();
+                continue;
+            }
+            idsByOutcome.computeIfAbsent(outcome, o -> new ArrayList<>()).add(batch.get(i).getId());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        idsByOutcome.forEach((outcome, ids) -> {
+            int updated = transactionLogRepository.bulkCompletePending(
+                    ids, outcome.status(), outcome.responseCode(), outcome.responseMessage(), now);
+            if (outcome.status() == TransactionLog.TransactionStatus.SUCCESS) {
+                totalSucceeded.addAndGet(updated);
+            } else if (outcome.status() == TransactionLog.TransactionStatus.UNKNOWN) {
+                totalUnknown.addAndGet(updated);
+                log.warn("이체 결과 미확인 거래 수동 확인 대상으로 전환: {}건", updated);
+            } else {
+                totalFailed.addAndGet(updated);
+            }
+        });
+    }
+
+    /**
+     * 거래 결과 판정 (null이면 이번 실행에서 판정 불가 - 다음 실행에서 재시도)
+     */
+    private Outcome resolve(TransactionLog transactionLog, LocalDateTime giveUpBefore) {
+        if (transactionLog.getBankCodeStd() != null) {
+            rateLimiter.acquire();
+            institutionQueries.incrementAndGet();
+            TransferResultResponse result = bankService.queryTransferResult(
+                    transactionLog.getBankCodeStd(),
+                    transactionLog.getTransactionId(),
+                    transactionLog.getTransactionDate().format(TRAN_DATE_FORMAT));
+
+            String rspCode = result != null ? result.resolvedRspCode() : null;
+            if (rspCode != null) {
+                return new Outcome(
+                        "A0000".equals(rspCode) ? TransactionLog.TransactionStatus.SUCCESS : TransactionLog.TransactionStatus.FAILED,
+                        rspCode, "이체결과조회 대사 확정");
+            }
+        }
+
+        // 만료 시간이 지나도록 결과를 알 수 없는 이체는 출금 여부를 모르므로 수동 확인 대상으로 전환
+        if (transactionLog.getCreatedAt() != null && transactionLog.getCreatedAt().isBefore(giveUpBefore)) {
+            return new Outcome(TransactionLog.TransactionStatus.UNKNOWN, EXPIRED_CODE, EXPIRED_MESSAGE);
+        }
+        return null;
+    }
+
+    /**
+     * 대사 진행 상황 (대기 건수, 누적 처리량, 최근 실행 처리량)
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("running", running.get());
+        status.put("current_run_id", currentRunId);
+        status.put("backlog", transactionLogRepository.countByTransactionStatusAndReconcileTargetTrueAndCreatedAtBefore(
+                TransactionLog.TransactionStatus.PENDING, LocalDateTime.now().minusMinutes(staleAfterMinutes)));
+        status.put("manual_review", transactionLogRepository.countByTransactionStatusAndReconcileTargetTrue(
+                TransactionLog.TransactionStatus.UNKNOWN));
+        status.put("current_run_processed", running.get() ? currentRunProcessed : 0);
+        status.put("last_run_id", lastRunId);
+        status.put("last_run_started_at", lastRunStartedAt);
+        status.put("last_run_finished_at", lastRunFinishedAt);
+        status.put("last_run_processed", lastRunProcessed);
+        status.put("last_run_throughput_per_sec", lastRunThroughput);
+        status.put("total_scanned", totalScanned.get());
+        status.put("total_succeeded", totalSucceeded.get());
+        status.put("total_failed", totalFailed.get());
+        status.put("total_unknown", totalUnknown.get());
+        status.put("total_unresolved", totalUnresolved.get());
+        status.put("institution_queries", institutionQueries.get());
+        return status;
+    }
+
+    private record Outcome(TransactionLog.TransactionStatus status, String responseCode, String responseMessage) {
+    }
+
+    /**
+     * 기관 호출 간격을 일정하게 유지하는 단순 rate limiter
+     */
+    private static class RateLimiter {
+        private final long intervalNanos;
+        private long nextFreeNanos = System.nanoTime();
+
+        RateLimiter(int permitsPerSecond) {
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, permitsPerSecond);
+        }
+
+        void acquire() {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long slot = Math.max(now, nextFreeNanos);
+                nextFreeNanos = slot + intervalNanos;
+                waitNanos = slot - now;
+            }
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+}
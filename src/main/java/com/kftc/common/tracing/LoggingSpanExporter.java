@@ -0,0 +1,71 @@
+package com.kftc.common.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구간 트리를 로그로 출력 (기본 내보내기)
+ *
+ * 루트 구간이 min-duration-ms 이상 걸린 요청만 들여쓰기한 트리로 한 번에 남긴다.
+ * 예:
+ *   HTTP GET /v2.0/user/me 182ms
+ *     jwt.authenticate 4ms
+ *     controller OpenBankingProxyController.getUserInfo 170ms
+ *       repository AccountMappingRepository.findByUserSeqNo 9ms
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tracing.exporter", havingValue = "log", matchIfMissing = true)
+public class LoggingSpanExporter implements SpanExporter {
+
+    private final long minDurationMs;
+
+    public LoggingSpanExporter(@Value("${tracing.log.min-duration-ms:500}") long minDurationMs) {
+        this.minDurationMs = minDurationMs;
+    }
+
+    @Override
+    public void export(Span root, List<Span> spans) {
+        if (root.getDurationMillis() < minDurationMs || !log.isInfoEnabled()) {
+            return;
+        }
+
+        Map<String, List<Span>> children = new HashMap<>();
+        Set<String> spanIds = new HashSet<>();
+        for (Span span : spans) {
+            spanIds.add(span.getSpanId());
+        }
+        for (Span span : spans) {
+            if (span == root) {
+                continue;
+            }
+            // 부모가 상한 초과로 버려진 구간은 루트 아래에 표시
+            String parentId = spanIds.contains(span.getParentId()) ? span.getParentId() : root.getSpanId();
+            children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(span);
+        }
+
+        StringBuilder tree = new StringBuilder();
+        append(tree, root, children, 1);
+        log.info("요청 추적 - traceId: {}, 구간: {}{}", root.getTraceId(), spans.size(), tree);
+    }
+
+    private void append(StringBuilder tree, Span span, Map<String, List<Span>> children, int depth) {
+        tree.append('\n').append("  ".repeat(depth))
+                .append(span.getName()).append(' ').append(span.getDurationMillis()).append("ms");
+        if (!span.getTags().isEmpty()) {
+            tree.append(' ').append(span.getTags());
+        }
+        for (Span child : children.getOrDefault(span.getSpanId(), List.of())) {
+            append(tree, child, children, depth + 1);
+        }
+    }
+}
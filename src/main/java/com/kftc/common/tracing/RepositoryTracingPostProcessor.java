@@ -0,0 +1,44 @@
+package com.kftc.common.tracing;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리포지토리 구간 추적
+ *
+ * Spring Data 리포지토리 프록시에 메서드 단위 구간(repository AccountMappingRepository.findByUserSeqNo 등)을 붙인다.
+ * 요청 추적 밖에서 호출되면 빈 구간이라 비용이 없다.
+ */
+@Component
+public class RepositoryTracingPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        // 팩토리 빈 초기화(afterPropertiesSet) 전에 등록해야 프록시 생성에 반영됨
+        if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+            factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                    (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                            tracingInterceptor(repositoryInformation.getRepositoryInterface().getSimpleName()))));
+        }
+        return bean;
+    }
+
+    private static MethodInterceptor tracingInterceptor(String repositoryName) {
+        return invocation -> {
+            if (!Tracer.currentSpan().isRecording()) {
+                return invocation.proceed();
+            }
+            Span span = Tracer.startSpan("repository " + repositoryName + "." + invocation.getMethod().getName());
+            try {
+                return invocation.proceed();
+            } catch (Throwable e) {
+                span.error(e);
+                throw e;
+            } finally {
+                span.close();
+            }
+        };
+    }
+}
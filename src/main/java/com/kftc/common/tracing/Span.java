@@ -0,0 +1,115 @@
+package com.kftc.common.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추적 구간 (try-with-resources로 닫으면 종료되고 현재 구간이 부모로 돌아간다)
+ *
+ * 구간은 시작한 스레드에서만 태그를 추가하고 닫는다.
+ */
+public class Span implements AutoCloseable {
+
+    public enum Kind { SERVER, CLIENT, INTERNAL }
+
+    /**
+     * 추적 중이 아닐 때 반환하는 빈 구간 (태그/종료 무시)
+     */
+    static final Span NOOP = new Span(null, null, null, "noop", Kind.INTERNAL, null);
+
+    private final Trace trace;
+    private final String spanId;
+    private final String parentId;
+    private volatile String name;
+    private final Kind kind;
+    // 이 구간이 시작되기 전 스레드의 현재 구간 (종료 시 복원)
+    private final Span previous;
+    private final long startEpochMicros;
+    private final long startNanos;
+    private final Map<String, String> tags = new LinkedHashMap<>();
+    private volatile long durationNanos = -1;
+    private boolean error;
+
+    Span(Trace trace, String spanId, String parentId, String name, Kind kind, Span previous) {
+        this.trace = trace;
+        this.spanId = spanId;
+        this.parentId = parentId;
+        this.name = name;
+        this.kind = kind;
+        this.previous = previous;
+        this.startEpochMicros = TimeUnit.MILLISECONDS.toMicros(System.currentTimeMillis());
+        this.startNanos = System.nanoTime();
+    }
+
+    public boolean isRecording() {
+        return trace != null;
+    }
+
+    public Span tag(String key, Object value) {
+        if (trace != null && value != null) {
+            tags.put(key, value.toString());
+        }
+        return this;
+    }
+
+    /**
+     * 구간 이름 변경 (요청 루트 구간은 매핑 패턴이 정해진 뒤 이름을 바꾼다)
+     */
+    public Span rename(String name) {
+        if (trace != null) {
+            this.name = name;
+        }
+        return this;
+    }
+
+    public Span error(Throwable throwable) {
+        if (trace != null) {
+            error = true;
+            tags.put("error", throwable.getClass().getSimpleName() + ": " + throwable.getMessage());
+        }
+        return this;
+    }
+
+    /**
+     * 하위 호출에 전달할 W3C traceparent 헤더 값
+     */
+    public String traceparent() {
+        return trace == null ? null : "00-" + trace.traceId() + "-" + spanId + "-01";
+    }
+
+    @Override
+    public void close() {
+        if (trace == null || durationNanos >= 0) {
+            return;
+        }
+        durationNanos = System.nanoTime() - startNanos;
+        Tracer.finish(this);
+    }
+
+    public String getTraceId() {
+        return trace == null ? null : trace.traceId();
+    }
+
+    public String getSpanId() { return spanId; }
+    public String getParentId() { return parentId; }
+    public String getName() { return name; }
+    public Kind getKind() { return kind; }
+    public long getStartEpochMicros() { return startEpochMicros; }
+    public boolean isError() { return error; }
+    public Map<String, String> getTags() { return Collections.unmodifiableMap(tags); }
+
+    public long getDurationMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(Math.max(0, durationNanos));
+    }
+
+    public long getDurationMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(Math.max(0, durationNanos));
+    }
+
+    Trace trace() { return trace; }
+    long startNanos() { return startNanos; }
+    Span previous() { return previous; }
+    boolean isRoot() { return trace != null && trace.root() == this; }
+}
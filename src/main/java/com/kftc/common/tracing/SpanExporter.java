@@ -0,0 +1,17 @@
+package com.kftc.common.tracing;
+
+import java.util.List;
+
+/**
+ * 구간 트리 내보내기 (tracing.exporter로 선택)
+ *
+ * 루트 구간이 닫히는 요청 스레드에서 호출되므로 오래 걸리는 전송은 비동기로 처리해야 한다.
+ */
+public interface SpanExporter {
+
+    /**
+     * @param root 요청 루트 구간
+     * @param spans 루트를 포함해 종료된 구간 (시작 순)
+     */
+    void export(Span root, List<Span> spans);
+}
@@ -0,0 +1,57 @@
+package com.kftc.common.tracing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 요청 하나의 추적 (루트 구간이 닫힐 때까지 종료된 구간을 모은다)
+ *
+ * 병렬 조회 스레드에서도 구간이 종료되므로 동시 추가를 허용한다.
+ */
+final class Trace {
+
+    private final String traceId;
+    private final Tracer tracer;
+    private final int maxSpans;
+    private final ConcurrentLinkedQueue<Span> finished = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private volatile Span root;
+    private volatile boolean completed;
+
+    Trace(String traceId, Tracer tracer, int maxSpans) {
+        this.traceId = traceId;
+        this.tracer = tracer;
+        this.maxSpans = maxSpans;
+    }
+
+    String traceId() { return traceId; }
+    Tracer tracer() { return tracer; }
+    Span root() { return root; }
+
+    void setRoot(Span root) {
+        this.root = root;
+    }
+
+    /**
+     * @return 상한 초과 또는 루트 종료 후 도착해 버려진 경우 false
+     */
+    boolean add(Span span) {
+        if (completed || size.incrementAndGet() > maxSpans) {
+            return false;
+        }
+        finished.add(span);
+        return true;
+    }
+
+    /**
+     * 루트 종료 시점까지 모인 구간 (시작 순)
+     */
+    List<Span> complete() {
+        completed = true;
+        List<Span> spans = new ArrayList<>(finished);
+        spans.sort((a, b) -> Long.compare(a.startNanos(), b.startNanos()));
+        return spans;
+    }
+}
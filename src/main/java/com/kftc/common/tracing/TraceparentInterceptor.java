@@ -0,0 +1,26 @@
+package com.kftc.common.tracing;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 기관 호출에 W3C traceparent 헤더 전달
+ *
+ * 현재 스레드의 구간(InstitutionClient의 기관 호출 구간)을 부모로 넘겨 기관 측 추적과 이어지게 한다.
+ */
+public class TraceparentInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        String traceparent = Tracer.currentSpan().traceparent();
+        if (traceparent != null) {
+            request.getHeaders().set(Tracer.TRACEPARENT_HEADER, traceparent);
+        }
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,220 @@
+package com.kftc.common.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 단위 구간 추적기 (W3C Trace Context)
+ *
+ * TransactionLogFilter가 요청마다 루트 구간을 열고, 하위 계층(JWT 필터, 컨트롤러, 리포지토리, 기관 호출)은
+ * startSpan()으로 현재 스레드의 구간 아래에 자식 구간을 연다. 루트 구간이 닫히면 구간 트리를 SpanExporter로 넘긴다.
+ * 요청 밖(스케줄러 등)에서는 startSpan()이 빈 구간을 반환하므로 추적 비용이 없다.
+ */
+@Slf4j
+@Component
+public class Tracer {
+
+    public static final String TRACEPARENT_HEADER = "traceparent";
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final SpanExporter exporter;
+    private final boolean enabled;
+    private final int maxSpansPerTrace;
+
+    private final AtomicLong traceCount = new AtomicLong();
+    private final AtomicLong spanCount = new AtomicLong();
+    private final AtomicLong droppedSpanCount = new AtomicLong();
+    private final AtomicLong continuedCount = new AtomicLong();
+
+    public Tracer(ObjectProvider<SpanExporter> exporter,
+                  @Value("${tracing.enabled:true}") boolean enabled,
+                  @Value("${tracing.max-spans-per-trace:256}") int maxSpansPerTrace) {
+        this.exporter = exporter.getIfAvailable();
+        this.enabled = enabled;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+    }
+
+    /**
+     * 요청 루트 구간 시작 (유효한 traceparent가 오면 그 추적을 이어감)
+     */
+    public Span startTrace(String name, String traceparent) {
+        if (!enabled) {
+            return Span.NOOP;
+        }
+        traceCount.incrementAndGet();
+
+        String traceId = null;
+        String parentId = null;
+        String[] incoming = parseTraceparent(traceparent);
+        if (incoming != null) {
+            traceId = incoming[0];
+            parentId = incoming[1];
+            continuedCount.incrementAndGet();
+        }
+        Trace trace = new Trace(traceId != null ? traceId : randomHex(16), this, maxSpansPerTrace);
+        Span root = new Span(trace, randomHex(8), parentId, name, Span.Kind.SERVER, null);
+        trace.setRoot(root);
+        CURRENT.set(root);
+        return root;
+    }
+
+    /**
+     * 현재 구간 아래에 내부 구간 시작 (추적 중이 아니면 빈 구간)
+     */
+    public static Span startSpan(String name) {
+        return startSpan(name, Span.Kind.INTERNAL);
+    }
+
+    public static Span startSpan(String name, Span.Kind kind) {
+        Span parent = CURRENT.get();
+        if (parent == null || !parent.isRecording()) {
+            return Span.NOOP;
+        }
+        Span span = new Span(parent.trace(), randomHex(8), parent.getSpanId(), name, kind, parent);
+        CURRENT.set(span);
+        return span;
+    }
+
+    /**
+     * 현재 스레드의 구간 (없으면 빈 구간)
+     */
+    public static Span currentSpan() {
+        Span span = CURRENT.get();
+        return span != null ? span : Span.NOOP;
+    }
+
+    /**
+     * 작업 제출 시점의 구간을 실행 스레드의 부모 구간으로 이어주는 Executor
+     * (기관 병렬 조회의 구간이 요청 트리 아래에 붙도록)
+     */
+    public static Executor propagating(Executor delegate) {
+        return command -> {
+            Span parent = CURRENT.get();
+            if (parent == null || !parent.isRecording()) {
+                delegate.execute(command);
+                return;
+            }
+            delegate.execute(() -> {
+                Span previous = CURRENT.get();
+                CURRENT.set(parent);
+                try {
+                    command.run();
+                } finally {
+                    restore(previous);
+                }
+            });
+        };
+    }
+
+    static void finish(Span span) {
+        // 루트 구간은 닫히지 않은 하위 구간이 남아 있어도 스레드 상태를 비움 (요청 스레드 재사용 대비)
+        if (CURRENT.get() == span || span.isRoot()) {
+            restore(span.previous());
+        }
+        Trace trace = span.trace();
+        trace.tracer().collect(trace, span);
+    }
+
+    private void collect(Trace trace, Span span) {
+        spanCount.incrementAndGet();
+        if (!trace.add(span)) {
+            droppedSpanCount.incrementAndGet();
+        }
+        if (span.isRoot()) {
+            List<Span> spans = trace.complete();
+            if (exporter != null) {
+                try {
+                    exporter.export(span, spans);
+                } catch (RuntimeException e) {
+                    log.warn("추적 구간 내보내기 실패 - traceId: {}, error: {}", trace.traceId(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static void restore(Span previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * traceparent 파싱 (version-traceId-parentId-flags)
+     *
+     * @return [traceId, parentId], 형식이 맞지 않거나 ID가 모두 0이면 null
+     */
+    static String[] parseTraceparent(String value) {
+        if (value == null) {
+            return null;
+        }
+        String[] parts = value.trim().split("-");
+        if (parts.length < 4 || !isHex(parts[0], 2) || "ff".equals(parts[0])
+                || !isHex(parts[1], 32) || !isHex(parts[2], 16) || !isHex(parts[3], 2)
+                || isZero(parts[1]) || isZero(parts[2])) {
+            return null;
+        }
+        return new String[]{parts[1], parts[2]};
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String randomHex(int bytes) {
+        char[] chars = new char[bytes * 2];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long bits = 0;
+        for (int i = 0; i < chars.length; i++) {
+            if (i % 16 == 0) {
+                // 0만으로 된 ID는 W3C 규격상 무효
+                do {
+                    bits = random.nextLong();
+                } while (bits == 0);
+            }
+            chars[i] = HEX[(int) (bits >>> 60)];
+            bits <<= 4;
+        }
+        return new String(chars);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("traces", traceCount.get());
+        stats.put("continued_traces", continuedCount.get());
+        stats.put("spans", spanCount.get());
+        stats.put("dropped_spans", droppedSpanCount.get());
+        return stats;
+    }
+}
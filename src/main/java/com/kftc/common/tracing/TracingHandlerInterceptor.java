@@ -0,0 +1,47 @@
+package com.kftc.common.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 컨트롤러 구간 추적
+ *
+ * 핸들러 호출 전에 컨트롤러 구간을 열고, 응답 본문 직렬화 직전(TracingResponseBodyAdvice)에 닫는다.
+ * 직렬화 구간과 본문이 없는 응답의 컨트롤러 구간은 요청 완료 시 닫는다.
+ */
+public class TracingHandlerInterceptor implements HandlerInterceptor {
+
+    static final String CONTROLLER_SPAN = TracingHandlerInterceptor.class.getName() + ".CONTROLLER";
+    static final String SERIALIZE_SPAN = TracingHandlerInterceptor.class.getName() + ".SERIALIZE";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            Span span = Tracer.startSpan("controller " + handlerMethod.getBeanType().getSimpleName()
+                    + "." + handlerMethod.getMethod().getName());
+            if (span.isRecording()) {
+                request.setAttribute(CONTROLLER_SPAN, span);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        close(request, SERIALIZE_SPAN, null);
+        close(request, CONTROLLER_SPAN, ex);
+    }
+
+    static void close(HttpServletRequest request, String attribute, Exception ex) {
+        if (request.getAttribute(attribute) instanceof Span span) {
+            request.removeAttribute(attribute);
+            if (ex != null) {
+                span.error(ex);
+            }
+            span.close();
+        }
+    }
+}
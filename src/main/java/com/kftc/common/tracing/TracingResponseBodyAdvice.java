@@ -0,0 +1,41 @@
+package com.kftc.common.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 응답 본문 직렬화 구간 추적
+ *
+ * 본문 쓰기 직전에 컨트롤러 구간을 닫고 직렬화 구간(json.serialize)을 연다.
+ */
+@RestControllerAdvice
+public class TracingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            HttpServletRequest httpRequest = servletRequest.getServletRequest();
+            TracingHandlerInterceptor.close(httpRequest, TracingHandlerInterceptor.CONTROLLER_SPAN, null);
+            Span span = Tracer.startSpan("json.serialize");
+            if (span.isRecording()) {
+                span.tag("converter", selectedConverterType.getSimpleName());
+                httpRequest.setAttribute(TracingHandlerInterceptor.SERIALIZE_SPAN, span);
+            }
+        }
+        return body;
+    }
+}
@@ -0,0 +1,126 @@
+package com.kftc.common.tracing;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구간 트리를 수집기로 전송 (Zipkin v2 JSON, POST /api/v2/spans)
+ *
+ * Zipkin, Jaeger, OpenTelemetry Collector(zipkin receiver) 모두 같은 형식을 받는다.
+ * 전송은 전용 스레드에서 하며, 대기열이 가득 차면 해당 추적은 버린다.
+ * 전송용 RestTemplate은 기관 호출용과 분리해 전송 자체가 추적/거래 로그에 잡히지 않게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "tracing.exporter", havingValue = "zipkin")
+public class ZipkinSpanExporter implements SpanExporter {
+
+    private final String endpoint;
+    private final String serviceName;
+    private final RestTemplate restTemplate;
+    private final ThreadPoolExecutor executor;
+
+    private final AtomicLong exportedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public ZipkinSpanExporter(@Value("${tracing.zipkin.endpoint:http://localhost:9411/api/v2/spans}") String endpoint,
+                              @Value("${spring.application.name:kftc}") String serviceName,
+                              @Value("${tracing.zipkin.queue-size:1000}") int queueSize,
+                              @Value("${tracing.zipkin.timeout-ms:2000}") int timeoutMs) {
+        this.endpoint = endpoint;
+        this.serviceName = serviceName;
+
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(timeoutMs);
+        requestFactory.setReadTimeout(timeoutMs);
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "trace-export");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public void export(Span root, List<Span> spans) {
+        // 요청 스레드에서는 변환만 하고 전송은 전용 스레드로
+        List<Map<String, Object>> payload = new ArrayList<>(spans.size());
+        for (Span span : spans) {
+            payload.add(toZipkin(span));
+        }
+        try {
+            executor.execute(() -> send(root.getTraceId(), payload));
+        } catch (RejectedExecutionException e) {
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    private void send(String traceId, List<Map<String, Object>> payload) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        try {
+            restTemplate.postForLocation(endpoint, new HttpEntity<>(payload, headers));
+            exportedCount.incrementAndGet();
+        } catch (RestClientException e) {
+            failedCount.incrementAndGet();
+            log.debug("추적 전송 실패 - traceId: {}, error: {}", traceId, e.getMessage());
+        }
+    }
+
+    private Map<String, Object> toZipkin(Span span) {
+        Map<String, Object> zipkin = new LinkedHashMap<>();
+        zipkin.put("traceId", span.getTraceId());
+        zipkin.put("id", span.getSpanId());
+        if (span.getParentId() != null) {
+            zipkin.put("parentId", span.getParentId());
+        }
+        zipkin.put("name", span.getName().toLowerCase(Locale.ROOT));
+        zipkin.put("timestamp", span.getStartEpochMicros());
+        zipkin.put("duration", Math.max(1, span.getDurationMicros()));
+        if (span.getKind() != Span.Kind.INTERNAL) {
+            zipkin.put("kind", span.getKind().name());
+        }
+        zipkin.put("localEndpoint", Map.of("serviceName", serviceName));
+        if (!span.getTags().isEmpty()) {
+            zipkin.put("tags", new LinkedHashMap<>(span.getTags()));
+        }
+        return zipkin;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("queue_depth", executor.getQueue().size());
+        stats.put("exported", exportedCount.get());
+        stats.put("dropped", droppedCount.get());
+        stats.put("failed", failedCount.get());
+        return stats;
+    }
+}
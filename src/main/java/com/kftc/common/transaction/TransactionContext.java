@@ -0,0 +1,76 @@
+package com.kftc.common.transaction;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 단위 거래 측정 컨텍스트
+ *
+ * TransactionLogFilter가 요청 속성으로 등록하고,
+ * 기관 호출 인터셉터와 응답 어드바이스가 값을 채운다.
+ */
+@Getter
+public class TransactionContext {
+
+    public static final String ATTRIBUTE_NAME = TransactionContext.class.getName();
+
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * 기관 호출 누적 시간 (비동기 스레드에서 호출될 수 있으므로 Atomic)
+     */
+    private final AtomicLong upstreamNanos = new AtomicLong();
+
+    private volatile String bankTranId;
+    private volatile String userSeqNo;
+    private volatile String bankCodeStd;
+    private volatile String responseCode;
+    private volatile String responseMessage;
+
+    public void addUpstreamNanos(long nanos) {
+        upstreamNanos.addAndGet(nanos);
+    }
+
+    public long getElapsedMillis() {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    public long getUpstreamMillis() {
+        return upstreamNanos.get() / 1_000_000;
+    }
+
+    /**
+     * 아직 채워지지 않은 식별자만 설정 (쿼리 파라미터 > 요청 본문 > 응답 본문 순 우선)
+     */
+    public void fillIdentifiers(String bankTranId, String userSeqNo, String bankCodeStd) {
+        if (this.bankTranId == null) this.bankTranId = bankTranId;
+        if (this.userSeqNo == null) this.userSeqNo = userSeqNo;
+        if (this.bankCodeStd == null) this.bankCodeStd = bankCodeStd;
+    }
+
+    public void setOutcome(String responseCode, String responseMessage) {
+        this.responseCode = responseCode;
+        this.responseMessage = responseMessage;
+    }
+
+    public static TransactionContext from(HttpServletRequest request) {
+        Object value = request.getAttribute(ATTRIBUTE_NAME);
+        return value instanceof TransactionContext ? (TransactionContext) value : null;
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 요청의 컨텍스트 조회 (요청 스레드가 아니면 null)
+     */
+    public static TransactionContext current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return from(servletAttributes.getRequest());
+        }
+        return null;
+    }
+}
@@ -0,0 +1,118 @@
+package com.kftc.common.transaction;
+
+import com.kftc.common.tracing.Span;
+import com.kftc.common.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+/**
+ * /v2.0 API 거래 결과 자동 기록 필터
+ *
+ * 요청 전 구간(인증 필터 포함) 처리 시간과 기관 호출 시간을 측정하고,
+ * 응답코드(rsp_code)와 함께 TransactionLogWriter에 비동기로 넘긴다.
+ * 요청의 추적 루트 구간도 여기서 열며, 처리 시간은 루트 구간 소요 시간을 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class TransactionLogFilter extends OncePerRequestFilter {
+
+    private static final String TRACKED_PREFIX = "/v2.0/";
+    private static final String EXCLUDED_PREFIX = "/v2.0/transaction";
+    private static final int TRANSACTION_ID_LENGTH = 20;
+    private static final int MAX_API_NAME_LENGTH = 100;
+
+    private final TransactionLogWriter transactionLogWriter;
+    private final Tracer tracer;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        // 거래 로그 조회/관리 API 자체는 기록하지 않음
+        return !uri.startsWith(TRACKED_PREFIX) || uri.startsWith(EXCLUDED_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        TransactionContext context = new TransactionContext();
+        context.fillIdentifiers(request.getParameter("bank_tran_id"),
+                request.getParameter("user_seq_no"),
+                request.getParameter("bank_code_std"));
+        request.setAttribute(TransactionContext.ATTRIBUTE_NAME, context);
+
+        Span root = tracer.startTrace("HTTP " + request.getMethod(), request.getHeader(Tracer.TRACEPARENT_HEADER));
+        boolean failed = false;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failed = true;
+            root.error(e);
+            throw e;
+        } finally {
+            String apiName = resolveApiName(request);
+            // 경로 변수가 들어간 URI 대신 매핑 패턴으로 이름을 붙임
+            root.rename("HTTP " + apiName)
+                    .tag("http.status_code", failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus())
+                    .tag("bank_code_std", context.getBankCodeStd());
+            root.close();
+            long processingTimeMs = root.isRecording() ? root.getDurationMillis() : context.getElapsedMillis();
+            record(request, response, context, failed, apiName, processingTimeMs);
+        }
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response,
+                        TransactionContext context, boolean failed, String apiName, long processingTimeMs) {
+        try {
+            String responseCode = context.getResponseCode();
+            String responseMessage = context.getResponseMessage();
+            if (responseCode == null) {
+                // 응답 본문에서 rsp_code를 얻지 못한 경우 HTTP 상태로 대체
+                int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+                responseCode = status >= 200 && status < 300 ? "A0000" : "HTTP" + status;
+                responseMessage = "HTTP " + status;
+            }
+
+            String bankTranId = context.getBankTranId();
+            TransactionLogWriter.Entry entry = TransactionLogWriter.Entry.builder()
+                    .transactionId(bankTranId != null && bankTranId.length() == TRANSACTION_ID_LENGTH ? bankTranId : null)
+                    .transactionDate(LocalDate.now())
+                    .apiName(apiName)
+                    .userSeqNo(context.getUserSeqNo())
+                    .bankCodeStd(context.getBankCodeStd())
+                    .responseCode(responseCode)
+                    .responseMessage(responseMessage)
+                    .processingTimeMs(processingTimeMs)
+                    .upstreamTimeMs(context.getUpstreamMillis())
+                    .build();
+
+            transactionLogWriter.submit(entry);
+        } catch (Exception e) {
+            log.warn("거래 로그 적재 실패 - uri: {}, error: {}", request.getRequestURI(), e.getMessage());
+        }
+    }
+
+    /**
+     * 경로 변수로 인한 카디널리티 증가를 막기 위해 매핑 패턴 기준 API명 생성
+     * 예: GET /v2.0/account/balance/{fintech_use_num}
+     */
+    private String resolveApiName(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String path = pattern != null ? pattern.toString() : request.getRequestURI();
+        String apiName = request.getMethod() + " " + path;
+        return apiName.length() > MAX_API_NAME_LENGTH ? apiName.substring(0, MAX_API_NAME_LENGTH) : apiName;
+    }
+}
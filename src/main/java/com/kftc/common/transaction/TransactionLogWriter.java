@@ -0,0 +1,238 @@
+package com.kftc.common.transaction;
+
+import com.kftc.common.entity.TransactionLog;
+import com.kftc.common.repository.TransactionLogRepository;
+import com.kftc.common.util.TransactionIdGenerator;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 거래 로그 비동기 저장기
+ *
+ * 요청 스레드는 bounded 큐에 적재만 하고(DB 왕복 없음),
+ * 전용 스레드가 배치 단위로 기존 PENDING 로그를 완료 처리하거나 신규 로그를 저장한다.
+ * 큐가 가득 차면 요청 처리를 지연시키지 않도록 해당 로그는 버린다.
+ */
+@Slf4j
+@Component
+public class TransactionLogWriter {
+
+    private static final int MAX_MESSAGE_LENGTH = 200;
+
+    private final TransactionLogRepository transactionLogRepository;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public TransactionLogWriter(TransactionLogRepository transactionLogRepository,
+                                TransactionIdGenerator transactionIdGenerator,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${transaction-log.async.queue-capacity:10000}") int queueCapacity,
+                                @Value("${transaction-log.async.batch-size:200}") int batchSize,
+                                @Value("${transaction-log.async.flush-interval-ms:500}") long flushIntervalMs) {
+        this.transactionLogRepository = transactionLogRepository;
+        this.transactionIdGenerator = transactionIdGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::runLoop, "transaction-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("거래 로그 비동기 저장기 시작 - capacity: {}, batchSize: {}", queue.remainingCapacity(), batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 시 남은 로그 저장
+        List<Entry> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            flush(remaining);
+        }
+        log.info("거래 로그 비동기 저장기 종료 - written: {}, dropped: {}, failed: {}",
+                writtenCount.get(), droppedCount.get(), failedCount.get());
+    }
+
+    /**
+     * 거래 결과 적재 (논블로킹)
+     *
+     * @return 큐 적재 성공 여부
+     */
+    public boolean submit(Entry entry) {
+        if (queue.offer(entry)) {
+            return true;
+        }
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped % 1000 == 1) {
+            log.warn("거래 로그 큐 포화로 로그 유실 - 누적 유실: {}", dropped);
+        }
+        return false;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    private void runLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Entry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("거래 로그 저장 루프 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> writeBatch(batch));
+            writtenCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            failedCount.addAndGet(batch.size());
+            log.error("거래 로그 배치 저장 실패 - size: {}, error: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 한 번의 IN 조회로 기존 로그를 찾아 완료 처리하고, 없는 건은 신규 생성
+     */
+    private void writeBatch(List<Entry> batch) {
+        Map<LocalDate, Map<String, Entry>> byDate = new HashMap<>();
+        List<Entry> withoutId = new ArrayList<>();
+        for (Entry entry : batch) {
+            if (entry.getTransactionId() == null) {
+                withoutId.add(entry);
+            } else {
+                byDate.computeIfAbsent(entry.getTransactionDate(), d -> new LinkedHashMap<>())
+                        .put(entry.getTransactionId(), entry);
+            }
+        }
+
+        List<TransactionLog> toSave = new ArrayList<>(batch.size());
+        for (Map.Entry<LocalDate, Map<String, Entry>> dateGroup : byDate.entrySet()) {
+            Map<String, Entry> entries = dateGroup.getValue();
+            List<TransactionLog> existingLogs = transactionLogRepository
+                    .findByTransactionDateAndTransactionIdIn(dateGroup.getKey(), entries.keySet());
+
+            for (TransactionLog existing : existingLogs) {
+                Entry entry = entries.remove(existing.getTransactionId());
+                if (entry != null) {
+                    existing.completeTransaction(entry.getResponseCode(), truncate(entry.getResponseMessage()),
+                            entry.getProcessingTimeMs(), entry.getUpstreamTimeMs());
+                    toSave.add(existing);
+                }
+            }
+            entries.values().forEach(entry -> toSave.add(toNewLog(entry, entry.getTransactionId())));
+        }
+
+        // 거래고유번호가 없는 요청은 저장 스레드에서 발급 (요청 경로의 DB 중복검사 회피)
+        for (Entry entry : withoutId) {
+            toSave.add(toNewLog(entry, transactionIdGenerator.generateTransactionId()));
+        }
+
+        transactionLogRepository.saveAll(toSave);
+    }
+
+    private TransactionLog toNewLog(Entry entry, String transactionId) {
+        return TransactionLog.builder()
+                .transactionId(transactionId)
+                .transactionDate(entry.getTransactionDate())
+                .apiName(entry.getApiName())
+                .userSeqNo(entry.getUserSeqNo())
+                .bankCodeStd(entry.getBankCodeStd())
+                .responseCode(entry.getResponseCode())
+                .responseMessage(truncate(entry.getResponseMessage()))
+                .processingTimeMs(entry.getProcessingTimeMs())
+                .upstreamTimeMs(entry.getUpstreamTimeMs())
+                .transactionStatus("A0000".equals(entry.getResponseCode())
+                        ? TransactionLog.TransactionStatus.SUCCESS
+                        : TransactionLog.TransactionStatus.FAILED)
+                .build();
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_MESSAGE_LENGTH);
+    }
+
+    /**
+     * 저장 대기 중인 거래 결과
+     */
+    @Getter
+    @Builder
+    public static class Entry {
+        private final String transactionId;
+        private final LocalDate transactionDate;
+        private final String apiName;
+        private final String userSeqNo;
+        private final String bankCodeStd;
+        private final String responseCode;
+        private final String responseMessage;
+        private final long processingTimeMs;
+        private final long upstreamTimeMs;
+    }
+}
@@ -0,0 +1,32 @@
+package com.kftc.common.transaction;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * 기관(은행/카드사/보험사) 호출 시간 측정 인터셉터
+ *
+ * 요청 스레드에서 호출된 경우 TransactionContext에 기관 호출 시간을 누적한다.
+ */
+public class UpstreamLatencyInterceptor implements ClientHttpRequestInterceptor {
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        TransactionContext context = TransactionContext.current();
+        if (context == null) {
+            return execution.execute(request, body);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return execution.execute(request, body);
+        } finally {
+            context.addUpstreamNanos(System.nanoTime() - start);
+        }
+    }
+}
@@ -6,12 +6,21 @@ import org.springframework.stereotype.Component;
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * KISA 규격에 따른 CI(Connecting Information) 생성 유틸리티
  * CI = HMAC sk ((RN || Padding) ⊕ SA)
+ *
+ * 패딩된 RN의 14번째 바이트부터는 0이므로 (RN || Padding) ⊕ SA 는
+ * SA 블록 앞 13바이트에만 RN을 XOR한 값과 같다. SA 블록과 SK로 초기화된 Mac은
+ * 스레드별로 재사용하여 호출마다 Mac 조회/키 설정과 중간 배열 할당을 하지 않는다.
  */
 @Slf4j
 @Component
@@ -21,6 +30,17 @@ public class CiGenerator {
     private static final String SECRET_KEY_SA = "KISA_MOCK_SECRET_SA_64BYTES_FOR_CI_GENERATION_TEST_ENVIRONMENT_2024";
     private static final String SECRET_KEY_SK = "KISA_MOCK_SECRET_SK_64BYTES_FOR_CI_GENERATION_TEST_ENVIRONMENT_2024";
     
+    private static final String HMAC_ALGORITHM = "HmacSHA512";
+    private static final int BLOCK_SIZE = 64; // 512bit
+    private static final int RN_LENGTH = 13;
+    
+    // SA를 512bit 블록으로 자른 값 (XOR 결과 길이는 min(64, SA 길이))
+    private static final byte[] SA_BLOCK = Arrays.copyOf(SECRET_KEY_SA.getBytes(StandardCharsets.UTF_8),
+            Math.min(BLOCK_SIZE, SECRET_KEY_SA.getBytes(StandardCharsets.UTF_8).length));
+    
+    // 스레드별 SK 키 설정이 끝난 Mac과 XOR 작업 버퍼 (doFinal 후 Mac은 같은 키로 재사용 가능)
+    private static final ThreadLocal<HmacWorker> WORKER = ThreadLocal.withInitial(HmacWorker::new);
+    
     /**
      * 휴대폰 번호를 기반으로 KISA 규격에 맞는 CI를 생성합니다.
      * 실제 주민등록번호 대신 휴대폰 번호를 이용한 목업 구현
@@ -31,17 +51,8 @@ public class CiGenerator {
             String mockRn = generateMockRnFromPhone(phoneNumber);
             log.debug("목업 주민등록번호 생성: {}", maskRn(mockRn));
             
-            // 2. RN + Padding (512bit로 맞추기)
-            byte[] rnWithPadding = createRnWithPadding(mockRn);
-            
-            // 3. SA (비밀정보) 
-            byte[] sa = SECRET_KEY_SA.getBytes(StandardCharsets.UTF_8);
-            
-            // 4. (RN || Padding) ⊕ SA (XOR 연산)
-            byte[] xorResult = xorBytes(rnWithPadding, sa);
-            
-            // 5. HMAC-SHA512로 CI 생성
-            String ci = generateHmacSha512(xorResult, SECRET_KEY_SK);
+            // 2. HMAC sk ((RN || Padding) ⊕ SA)
+            String ci = computeCi(mockRn);
             
             log.info("CI 생성 완료: phoneNumber={}, ci={}", 
                     maskPhoneNumber(phoneNumber), maskCi(ci));
@@ -62,24 +73,15 @@ public class CiGenerator {
     public String generateCiWithRealRn(String realRn) {
         try {
             // 1. 실제 주민등록번호 검증
-            if (realRn == null || realRn.replaceAll("[^0-9]", "").length() != 13) {
+            String cleanRn = realRn == null ? null : digitsOnly(realRn);
+            if (cleanRn == null || cleanRn.length() != RN_LENGTH) {
                 throw new IllegalArgumentException("올바르지 않은 주민등록번호입니다.");
             }
-            
-            String cleanRn = realRn.replaceAll("[^0-9]", "");
+
             log.debug("실제 주민등록번호 사용: {}", maskRn(cleanRn));
             
-            // 2. RN + Padding (512bit로 맞추기)
-            byte[] rnWithPadding = createRnWithPadding(cleanRn);
-            
-            // 3. SA (비밀정보) 
-            byte[] sa = SECRET_KEY_SA.getBytes(StandardCharsets.UTF_8);
-            
-            // 4. (RN || Padding) ⊕ SA (XOR 연산)
-            byte[] xorResult = xorBytes(rnWithPadding, sa);
-            
-            // 5. HMAC-SHA512로 CI 생성
-            String ci = generateHmacSha512(xorResult, SECRET_KEY_SK);
+            // 2. HMAC sk ((RN || Padding) ⊕ SA)
+            String ci = computeCi(cleanRn);
             
             log.info("실제 주민등록번호로 CI 생성 완료: rn={}, ci={}", 
                     maskRn(cleanRn), maskCi(ci));
@@ -129,45 +131,94 @@ public class CiGenerator {
     }
     
     /**
-     * RN을 512bit로 패딩
+     * 실제 주민등록번호 목록으로 CI 일괄 생성 (기존 고객 이관용)
+     *
+     * 입력 순서대로 결과를 돌려주며, 형식이 올바르지 않은 항목은 전체를 중단하지 않고 null로 둔다.
+     * 항목별 로그 없이 공용 ForkJoinPool에서 코어 수만큼 병렬 처리한다.
      */
-    private byte[] createRnWithPadding(String rn) {
-        byte[] rnBytes = rn.getBytes(StandardCharsets.UTF_8);
-        byte[] padded = new byte[64]; // 512bit = 64byte
+    public List<String> generateCis(Collection<String> realRns) {
+        String[] rns = realRns.toArray(new String[0]);
+        String[] cis = new String[rns.length];
         
-        // RN 복사 (최대 13바이트)
-        System.arraycopy(rnBytes, 0, padded, 0, Math.min(rnBytes.length, 13));
+        IntStream.range(0, rns.length).parallel().forEach(i -> {
+            String cleanRn = rns[i] == null ? null : digitsOnly(rns[i]);
+            if (cleanRn != null && cleanRn.length() == RN_LENGTH) {
+                cis[i] = computeCi(cleanRn);
+            }
+        });
         
-        // 나머지는 0x00으로 패딩 (이미 배열 초기화 시 0으로 설정됨)
-        return padded;
+        long invalid = Arrays.stream(cis).filter(ci -> ci == null).count();
+        log.info("CI 일괄 생성 완료: total={}, invalid={}", rns.length, invalid);
+        return Arrays.asList(cis);
     }
     
     /**
-     * 두 바이트 배열의 XOR 연산
+     * HMAC-SHA512(SK, (RN || Padding) ⊕ SA) 를 Base64(88자)로 반환
+     * (검증/로그 없는 계산부 - 벤치마크에서 직접 호출하므로 package-private)
      */
-    private byte[] xorBytes(byte[] a, byte[] b) {
-        int length = Math.min(a.length, b.length);
-        byte[] result = new byte[length];
+    String computeCi(String rn) {
+        HmacWorker worker = WORKER.get();
+        byte[] block = worker.block;
+        System.arraycopy(SA_BLOCK, 0, block, 0, block.length);
         
-        for (int i = 0; i < length; i++) {
-            result[i] = (byte) (a[i] ^ b[i]);
+        int rnLength = Math.min(rn.length(), Math.min(RN_LENGTH, block.length));
+        for (int i = 0; i < rnLength; i++) {
+            char c = rn.charAt(i);
+            if (c >= 0x80) {
+                // 숫자 외 문자는 UTF-8 바이트 기준으로 처리 (기존 동작 유지)
+                return computeCi(rn.getBytes(StandardCharsets.UTF_8), worker);
+            }
+            block[i] ^= (byte) c;
         }
-        
-        return result;
+        return Base64.getEncoder().encodeToString(worker.mac.doFinal(block));
+    }
+    
+    private String computeCi(byte[] rnBytes, HmacWorker worker) {
+        byte[] block = worker.block;
+        System.arraycopy(SA_BLOCK, 0, block, 0, block.length);
+        int rnLength = Math.min(rnBytes.length, Math.min(RN_LENGTH, block.length));
+        for (int i = 0; i < rnLength; i++) {
+            block[i] ^= rnBytes[i];
+        }
+        return Base64.getEncoder().encodeToString(worker.mac.doFinal(block));
     }
     
     /**
-     * HMAC-SHA512로 최종 CI 생성
+     * 숫자만 추출 (정규식 없이)
      */
-    private String generateHmacSha512(byte[] data, String secretKey) throws Exception {
-        Mac mac = Mac.getInstance("HmacSHA512");
-        SecretKeySpec secretKeySpec = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8), "HmacSHA512");
-        mac.init(secretKeySpec);
-        
-        byte[] hmacBytes = mac.doFinal(data);
+    private static String digitsOnly(String value) {
+        StringBuilder digits = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean digit = c >= '0' && c <= '9';
+            if (digits == null) {
+                if (digit) {
+                    continue;
+                }
+                digits = new StringBuilder(value.length());
+                digits.append(value, 0, i);
+            } else if (digit) {
+                digits.append(c);
+            }
+        }
+        return digits == null ? value : digits.toString();
+    }
+    
+    /**
+     * 스레드 전용 Mac(SK 키 설정 완료)과 512bit 작업 버퍼
+     */
+    private static final class HmacWorker {
+        private final Mac mac;
+        private final byte[] block = new byte[SA_BLOCK.length];
         
-        // Base64 인코딩하여 88바이트 문자열로 생성
-        return Base64.getEncoder().encodeToString(hmacBytes);
+        private HmacWorker() {
+            try {
+                mac = Mac.getInstance(HMAC_ALGORITHM);
+                mac.init(new SecretKeySpec(SECRET_KEY_SK.getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM));
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HMAC-SHA512 초기화 실패", e);
+            }
+        }
     }
     
     /**
@@ -70,6 +70,19 @@ public class TransactionIdGenerator {
         throw new RuntimeException("거래고유번호 생성 실패: " + MAX_RETRY_ATTEMPTS + "회 시도 후 모두 중복 발생");
     }
     
+    /**
+     * 하위 기관 호출용 거래고유번호 (DB 중복 검사 없음)
+     * 
+     * 하나의 요청이 여러 기관 호출로 나뉠 때(병렬 조회, 다음 페이지 선조회) 호출마다 새 번호를 쓴다.
+     * 원 거래고유번호의 이용기관코드(앞 10자리)를 유지하고 이용기관부여번호만 새로 만든다.
+     * 
+     * @param bankTranId 원 요청의 거래고유번호
+     */
+    public static String deriveTransactionId(String bankTranId) {
+        String institutionCode = bankTranId != null && bankTranId.length() >= 10 ? bankTranId.substring(0, 10) : "";
+        return institutionCode + GENERATION_CODE + generateInstitutionNumber();
+    }
+    
     /**
      * 거래고유번호 생성 및 DB 저장
      * 
@@ -102,7 +115,7 @@ public class TransactionIdGenerator {
      * 구성: 시간 기반(6자리) + 시퀀스(1자리) + 랜덤(2자리)
      * 하루 동안 유일성 보장
      */
-    private String generateInstitutionNumber() {
+    private static String generateInstitutionNumber() {
         // 1. 현재 시간 기반 6자리 (시분초밀리초)
         LocalDateTime now = LocalDateTime.now();
         int timeValue = (now.getHour() * 3600 + now.getMinute() * 60 + now.getSecond()) * 1000 + (now.getNano() / 1000000);
@@ -121,7 +134,7 @@ public class TransactionIdGenerator {
     /**
      * 숫자를 Base36으로 변환 (지정된 자릿수)
      */
-    private String toBase36(int value, int digits) {
+    private static String toBase36(int value, int digits) {
         StringBuilder sb = new StringBuilder();
         int temp = Math.abs(value);
         
@@ -50,6 +50,36 @@ public class InsuranceController {
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/insurances/overview")
+    @Operation(
+        summary = "보험 종합조회 API",
+        description = "보험 계약 목록과 계약별 납입 정보를 한 번에 조회합니다. 납입 정보 조회에 실패한 계약은 payment_status로 구분합니다."
+    )
+    public ResponseEntity<InsuranceOverviewResponse> getInsuranceOverview(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authorization,
+            @Parameter(description = "거래고유번호(참가기관)", required = true)
+            @RequestParam("bank_tran_id") String bankTranId,
+            @Parameter(description = "사용자일련번호", required = true)
+            @RequestParam("user_seq_no") String userSeqNo,
+            @Parameter(description = "보험사 대표코드", required = true)
+            @RequestParam("bank_code_std") String bankCodeStd,
+            @Parameter(description = "직전조회추적정보", required = false)
+            @RequestParam(value = "befor_inquiry_trace_info", required = false) String beforInquiryTraceInfo) {
+        
+        log.info("보험 종합조회 API 호출 - bankTranId: {}, userSeqNo: {}, bankCodeStd: {}", 
+                bankTranId, userSeqNo, bankCodeStd);
+        
+        InsuranceListRequest request = new InsuranceListRequest();
+        request.setBankTranId(bankTranId);
+        request.setUserSeqNo(userSeqNo);
+        request.setBankCodeStd(bankCodeStd);
+        request.setBeforInquiryTraceInfo(beforInquiryTraceInfo);
+        
+        InsuranceOverviewResponse response = insuranceService.getInsuranceOverview(request, authorization);
+        
+        return ResponseEntity.ok(response);
+    }
+    
     @PostMapping("/insurances/payment")
     @Operation(
         summary = "보험납입정보조회 API",
@@ -0,0 +1,38 @@
+package com.kftc.insurance.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 보험사 서버 요청 본문 (user_seq_no 대신 user_ci 사용)
+ * 엔드포인트별로 필요한 필드만 채우며 값이 없는 필드는 보내지 않는다.
+ */
+@Getter
+@Builder
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InsuranceCompanyRequest {
+
+    @JsonProperty("bank_tran_id")
+    private final String bankTranId;
+
+    @JsonProperty("bank_code_std")
+    private final String bankCodeStd;
+
+    @JsonProperty("user_ci")
+    private final String userCi;
+
+    // 보험납입정보조회
+    @JsonProperty("insu_num")
+    private final String insuNum;
+
+    // 보험목록조회
+    @JsonProperty("befor_inquiry_trace_info")
+    private final String beforInquiryTraceInfo;
+
+    @JsonProperty("search_timestamp")
+    private final Long searchTimestamp;
+}
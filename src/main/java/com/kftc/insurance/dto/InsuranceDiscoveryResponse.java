@@ -0,0 +1,33 @@
+package com.kftc.insurance.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * 보험사 보험 계약 보유 확인 응답 (/v2.0/insurance/contracts?user_ci=)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record InsuranceDiscoveryResponse(
+        @JsonProperty("rsp_code") String rspCode,
+        @JsonProperty("rsp_message") String rspMessage,
+        @JsonProperty("res_cnt") String resCnt,
+        @JsonProperty("res_list") List<Contract> resList) {
+
+    public List<Contract> contracts() {
+        return resList != null ? resList : List.of();
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Contract(
+            @JsonProperty("bank_code_std") String bankCodeStd,
+            @JsonProperty("contract_id") String contractId,
+            @JsonProperty("contract_num_masked") String contractNumMasked,
+            @JsonProperty("product_name") String productName,
+            @JsonProperty("contract_holder_name") String contractHolderName,
+            @JsonProperty("insurance_company_name") String insuranceCompanyName,
+            @JsonProperty("inquiry_agree_yn") String inquiryAgreeYn,
+            @JsonProperty("claim_agree_yn") String claimAgreeYn) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.kftc.insurance.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 보험 종합조회 응답 (보험목록 + 계약별 납입정보)
+ */
+@Data
+@Builder
+public class InsuranceOverviewResponse {
+
+    /**
+     * API 거래고유번호
+     */
+    @JsonProperty("api_tran_id")
+    private String apiTranId;
+
+    /**
+     * API 거래일시
+     */
+    @JsonProperty("api_tran_dtm")
+    private String apiTranDtm;
+
+    /**
+     * 응답코드
+     */
+    @JsonProperty("rsp_code")
+    private String rspCode;
+
+    /**
+     * 응답메시지
+     */
+    @JsonProperty("rsp_message")
+    private String rspMessage;
+
+    /**
+     * 은행거래고유번호
+     */
+    @JsonProperty("bank_tran_id")
+    private String bankTranId;
+
+    /**
+     * 사용자일련번호
+     */
+    @JsonProperty("user_seq_no")
+    private String userSeqNo;
+
+    /**
+     * 다음페이지 존재여부 (보험목록 기준)
+     */
+    @JsonProperty("next_page_yn")
+    private String nextPageYn;
+
+    /**
+     * 직전조회추적정보 (보험목록 기준)
+     */
+    @JsonProperty("befor_inquiry_trace_info")
+    private String beforInquiryTraceInfo;
+
+    /**
+     * 보험 건수
+     */
+    @JsonProperty("insu_cnt")
+    private String insuCnt;
+
+    /**
+     * 납입정보 조회 실패 건수 (오류/마감 초과)
+     */
+    @JsonProperty("payment_error_cnt")
+    private int paymentErrorCnt;
+
+    /**
+     * 계약별 보험 정보와 납입 정보
+     */
+    @JsonProperty("insu_list")
+    private List<InsuranceOverviewItem> insuList;
+
+    @Data
+    @Builder
+    public static class InsuranceOverviewItem {
+
+        /**
+         * 보험 계약 정보
+         */
+        @JsonProperty("insurance")
+        private InsuranceListResponse.InsuranceInfo insurance;
+
+        /**
+         * 납입정보 조회 결과 (OK, ERROR, TIMEOUT)
+         */
+        @JsonProperty("payment_status")
+        private String paymentStatus;
+
+        /**
+         * 납입정보 조회 실패 사유
+         */
+        @JsonProperty("payment_error_message")
+        private String paymentErrorMessage;
+
+        /**
+         * 납입 정보 (보험납입정보조회 응답과 같은 형식, 조회 실패 시 null)
+         */
+        @JsonProperty("payment")
+        private InsurancePaymentResponse payment;
+    }
+}
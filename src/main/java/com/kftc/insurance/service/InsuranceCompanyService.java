@@ -1,25 +1,21 @@
 package com.kftc.insurance.service;
 
 import com.kftc.insurance.dto.*;
+import com.kftc.common.client.InstitutionClient;
 import com.kftc.common.exception.BusinessException;
 import com.kftc.common.exception.ErrorCode;
 import com.kftc.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-
-import java.util.HashMap;
-import java.util.Map;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class InsuranceCompanyService {
     
-    private final RestTemplate restTemplate;
+    private final InstitutionClient institutionClient;
     private final UserService userService;
     
     @Value("${financial.institutions.samsung-fire.base-url}")
@@ -39,6 +35,20 @@ public class InsuranceCompanyService {
         };
     }
     
+    /**
+     * user_seq_no를 user_ci로 변환
+     */
+    public String resolveUserCi(String userSeqNo, String bankCodeStd) {
+        try {
+            String userCi = userService.getUserCiByUserSeqNo(userSeqNo);
+            log.info("User CI 변환 완료 - userSeqNo: {} → userCi: {}", userSeqNo, userCi);
+            return userCi;
+        } catch (Exception e) {
+            log.error("User CI 변환 중 오류 - bankCodeStd: {}, userSeqNo: {}, error: {}", bankCodeStd, userSeqNo, e.getMessage(), e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+    
     /**
      * 보험사별 유효한 보험 목록 확인
      */
@@ -53,48 +63,34 @@ public class InsuranceCompanyService {
      * 보험사 서버로 보험목록조회 요청
      */
     public InsuranceListResponse getInsuranceList(InsuranceListRequest request, String authorization) {
+        return getInsuranceList(request, resolveUserCi(request.getUserSeqNo(), request.getBankCodeStd()), authorization);
+    }
+    
+    /**
+     * 보험사 서버로 보험목록조회 요청 (user_ci 변환이 끝난 경우)
+     */
+    public InsuranceListResponse getInsuranceList(InsuranceListRequest request, String userCi, String authorization) {
         log.info("보험목록조회 보험사 연동 - bankCodeStd: {}, userSeqNo: {}", request.getBankCodeStd(), request.getUserSeqNo());
         
         try {
-            // user_seq_no를 user_ci로 변환
-            String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
-            log.info("User CI 변환 완료 - userSeqNo: {} → userCi: {}", request.getUserSeqNo(), userCi);
-            
-            String insuranceCompanyUrl = getInsuranceCompanyUrl(request.getBankCodeStd());
-            String apiUrl = insuranceCompanyUrl + "/v2.0/insurances";
-            
             // 보험사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> insuranceCompanyRequest = new HashMap<>();
-            insuranceCompanyRequest.put("bank_tran_id", request.getBankTranId());
-            insuranceCompanyRequest.put("bank_code_std", request.getBankCodeStd());
-            insuranceCompanyRequest.put("user_ci", userCi); // user_ci 사용
-            insuranceCompanyRequest.put("befor_inquiry_trace_info", request.getBeforInquiryTraceInfo());
-            insuranceCompanyRequest.put("search_timestamp", System.currentTimeMillis());
+            InsuranceCompanyRequest insuranceCompanyRequest = InsuranceCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .userCi(userCi)
+                    .beforInquiryTraceInfo(request.getBeforInquiryTraceInfo())
+                    .searchTimestamp(System.currentTimeMillis())
+                    .build();
             
             log.info("보험사에 전송할 요청 데이터: {}", insuranceCompanyRequest);
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
-            
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(insuranceCompanyRequest, headers);
+            InsuranceListResponse response = institutionClient.post(request.getBankCodeStd(),
+                    getInsuranceCompanyUrl(request.getBankCodeStd()), "/v2.0/insurances",
+                    insuranceCompanyRequest, InstitutionClient.jsonHeaders(authorization), InsuranceListResponse.class);
             
-            ResponseEntity<InsuranceListResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    InsuranceListResponse.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("보험목록조회 보험사 연동 성공 - userSeqNo: {}, insuCnt: {}", 
-                        request.getUserSeqNo(), response.getBody().getInsuCnt());
-                return response.getBody();
-            } else {
-                log.error("보험목록조회 보험사 연동 실패 - HTTP Status: {}, Response: {}", 
-                         response.getStatusCode(), response.getBody());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+            log.info("보험목록조회 보험사 연동 성공 - userSeqNo: {}, insuCnt: {}", 
+                    request.getUserSeqNo(), response.getInsuCnt());
+            return response;
             
         } catch (Exception e) {
             log.error("보험목록조회 보험사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
@@ -106,43 +102,31 @@ public class InsuranceCompanyService {
      * 보험사 서버로 보험납입정보조회 요청
      */
     public InsurancePaymentResponse getInsurancePayment(InsurancePaymentRequest request, String authorization) {
+        return getInsurancePayment(request, resolveUserCi(request.getUserSeqNo(), request.getBankCodeStd()), authorization);
+    }
+    
+    /**
+     * 보험사 서버로 보험납입정보조회 요청 (user_ci 변환이 끝난 경우)
+     */
+    public InsurancePaymentResponse getInsurancePayment(InsurancePaymentRequest request, String userCi, String authorization) {
         log.info("보험납입정보조회 보험사 연동 - bankCodeStd: {}, insuNum: {}", request.getBankCodeStd(), request.getInsuNum());
         
         try {
-            // user_seq_no를 user_ci로 변환
-            String userCi = userService.getUserCiByUserSeqNo(request.getUserSeqNo());
-            
-            String insuranceCompanyUrl = getInsuranceCompanyUrl(request.getBankCodeStd());
-            String apiUrl = insuranceCompanyUrl + "/v2.0/insurances/payment";
-            
             // 보험사용 요청 데이터 생성 (user_ci로 변환)
-            Map<String, Object> insuranceCompanyRequest = new HashMap<>();
-            insuranceCompanyRequest.put("bank_tran_id", request.getBankTranId());
-            insuranceCompanyRequest.put("bank_code_std", request.getBankCodeStd());
-            insuranceCompanyRequest.put("user_ci", userCi); // user_ci 사용
-            insuranceCompanyRequest.put("insu_num", request.getInsuNum());
-            insuranceCompanyRequest.put("search_timestamp", System.currentTimeMillis());
+            InsuranceCompanyRequest insuranceCompanyRequest = InsuranceCompanyRequest.builder()
+                    .bankTranId(request.getBankTranId())
+                    .bankCodeStd(request.getBankCodeStd())
+                    .userCi(userCi)
+                    .insuNum(request.getInsuNum())
+                    .searchTimestamp(System.currentTimeMillis())
+                    .build();
             
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Authorization", authorization);
+            InsurancePaymentResponse response = institutionClient.post(request.getBankCodeStd(),
+                    getInsuranceCompanyUrl(request.getBankCodeStd()), "/v2.0/insurances/payment",
+                    insuranceCompanyRequest, InstitutionClient.jsonHeaders(authorization), InsurancePaymentResponse.class);
             
-            HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(insuranceCompanyRequest, headers);
-            
-            ResponseEntity<InsurancePaymentResponse> response = restTemplate.exchange(
-                    apiUrl, 
-                    HttpMethod.POST, 
-                    requestEntity, 
-                    InsurancePaymentResponse.class
-            );
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                log.info("보험납입정보조회 보험사 연동 성공 - insuNum: {} (userCi: {})", request.getInsuNum(), userCi);
-                return response.getBody();
-            } else {
-                log.error("보험납입정보조회 보험사 연동 실패 - HTTP Status: {}", response.getStatusCode());
-                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
-            }
+            log.info("보험납입정보조회 보험사 연동 성공 - insuNum: {} (userCi: {})", request.getInsuNum(), userCi);
+            return response;
             
         } catch (Exception e) {
             log.error("보험납입정보조회 보험사 연동 중 오류 - bankCodeStd: {}, error: {}", request.getBankCodeStd(), e.getMessage(), e);
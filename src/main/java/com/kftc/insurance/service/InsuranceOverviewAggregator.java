@@ -0,0 +1,214 @@
+package com.kftc.insurance.service;
+
+import com.kftc.common.client.InstitutionCallDeadline;
+import com.kftc.common.util.TransactionIdGenerator;
+import com.kftc.insurance.dto.InsuranceListRequest;
+import com.kftc.insurance.dto.InsuranceListResponse;
+import com.kftc.insurance.dto.InsuranceOverviewResponse;
+import com.kftc.insurance.dto.InsurancePaymentRequest;
+import com.kftc.insurance.dto.InsurancePaymentResponse;
+import com.kftc.common.tracing.Tracer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 보험 종합조회 (보험목록 조회 후 계약별 납입정보 병렬 조회 및 병합)
+ *
+ * 사용자 CI는 요청당 한 번만 변환해 목록/납입정보 조회에 함께 쓴다.
+ * 납입정보는 요청당 최대 max-concurrency-per-request 건씩 공용 풀에서 조회하며,
+ * 계약별 오류는 해당 계약에만 ERROR로 표시하고 마감 시간까지 끝나지 않은 계약은 TIMEOUT으로 표시한다.
+ * 모든 보험사 호출은 마감 시각을 HTTP 응답 타임아웃으로 걸어 실행하고, 공용 풀 대기열이 차면
+ * 작업을 더 받지 않는다 (받지 못한 계약은 ERROR).
+ */
+@Slf4j
+@Component
+public class InsuranceOverviewAggregator {
+
+    static final String STATUS_OK = "OK";
+    static final String STATUS_ERROR = "ERROR";
+    static final String STATUS_TIMEOUT = "TIMEOUT";
+
+    private final InsuranceCompanyService insuranceCompanyService;
+    private final ThreadPoolExecutor executor;
+    private final int maxConcurrencyPerRequest;
+    private final long deadlineMs;
+
+    private final AtomicLong overviewCount = new AtomicLong();
+    private final AtomicLong paymentOkCount = new AtomicLong();
+    private final AtomicLong paymentErrorCount = new AtomicLong();
+    private final AtomicLong paymentTimeoutCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public InsuranceOverviewAggregator(InsuranceCompanyService insuranceCompanyService,
+                                       @Value("${insurance.overview.pool-size:8}") int poolSize,
+                                       @Value("${insurance.overview.max-concurrency-per-request:4}") int maxConcurrencyPerRequest,
+                                       @Value("${insurance.overview.deadline-ms:5000}") long deadlineMs) {
+        this.insuranceCompanyService = insuranceCompanyService;
+        this.maxConcurrencyPerRequest = Math.max(1, maxConcurrencyPerRequest);
+        this.deadlineMs = deadlineMs;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(poolSize * 16), runnable -> {
+                    Thread thread = new Thread(runnable, "insurance-overview-" + threadIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 보험목록과 계약별 납입정보 병합 (목록 조회 실패는 그대로 전파)
+     */
+    public Result aggregate(InsuranceListRequest request, String authorization) {
+        overviewCount.incrementAndGet();
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+        String userCi = insuranceCompanyService.resolveUserCi(request.getUserSeqNo(), request.getBankCodeStd());
+
+        InsuranceListResponse list = InstitutionCallDeadline.run(deadlineNanos,
+                () -> insuranceCompanyService.getInsuranceList(request, userCi, authorization));
+        List<InsuranceListResponse.InsuranceInfo> contracts =
+                list.getInsuList() == null ? Collections.emptyList() : list.getInsuList();
+        if (contracts.isEmpty()) {
+            return new Result(list, Collections.emptyList(), 0);
+        }
+
+        // 계약별 결과 슬롯 (작업자가 다음 계약 번호를 가져가 조회)
+        AtomicReferenceArray<InsuranceOverviewResponse.InsuranceOverviewItem> slots =
+                new AtomicReferenceArray<>(contracts.size());
+        AtomicInteger nextIndex = new AtomicInteger();
+        AtomicBoolean stopped = new AtomicBoolean();
+        int workerCount = Math.min(maxConcurrencyPerRequest, contracts.size());
+
+        List<CompletableFuture<Void>> workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            try {
+                workers.add(CompletableFuture.runAsync(() -> {
+                    int index;
+                    while (!stopped.get() && (index = nextIndex.getAndIncrement()) < contracts.size()) {
+                        InsuranceListResponse.InsuranceInfo contract = contracts.get(index);
+                        slots.set(index, InstitutionCallDeadline.run(deadlineNanos,
+                                () -> fetchPayment(request, userCi, authorization, contract)));
+                    }
+                }, Tracer.propagating(executor)));
+            } catch (RejectedExecutionException e) {
+                // 공용 풀 대기열이 차면 이미 받은 작업자만으로 진행
+                rejectedCount.incrementAndGet();
+                break;
+            }
+        }
+        boolean saturated = workers.isEmpty();
+
+        try {
+            CompletableFuture.allOf(workers.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("보험 종합조회 마감 시간 초과: deadlineMs={}, 완료된 납입정보만 병합", deadlineMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 계약별 오류는 fetchPayment에서 슬롯에 기록
+        }
+        stopped.set(true);
+        // 작업 스레드는 InstitutionCallDeadline 응답 타임아웃으로 곧 풀림 (cancel은 결과만 버림)
+        workers.forEach(worker -> worker.cancel(false));
+
+        List<InsuranceOverviewResponse.InsuranceOverviewItem> items = new ArrayList<>(contracts.size());
+        int failed = 0;
+        for (int i = 0; i < contracts.size(); i++) {
+            InsuranceOverviewResponse.InsuranceOverviewItem item = slots.get(i);
+            if (item == null && saturated) {
+                paymentErrorCount.incrementAndGet();
+                item = InsuranceOverviewResponse.InsuranceOverviewItem.builder()
+                        .insurance(contracts.get(i))
+                        .paymentStatus(STATUS_ERROR)
+                        .paymentErrorMessage("납입정보 조회 대기열 초과")
+                        .build();
+            } else if (item == null) {
+                paymentTimeoutCount.incrementAndGet();
+                item = InsuranceOverviewResponse.InsuranceOverviewItem.builder()
+                        .insurance(contracts.get(i))
+                        .paymentStatus(STATUS_TIMEOUT)
+                        .paymentErrorMessage("납입정보 조회 마감 시간 초과")
+                        .build();
+            }
+            if (!STATUS_OK.equals(item.getPaymentStatus())) {
+                failed++;
+            }
+            items.add(item);
+        }
+
+        log.info("보험 종합조회 완료 - userSeqNo: {}, 계약: {}, 납입정보 실패: {}",
+                request.getUserSeqNo(), contracts.size(), failed);
+        return new Result(list, items, failed);
+    }
+
+    private InsuranceOverviewResponse.InsuranceOverviewItem fetchPayment(InsuranceListRequest request, String userCi,
+                                                                         String authorization,
+                                                                         InsuranceListResponse.InsuranceInfo contract) {
+        InsurancePaymentRequest paymentRequest = new InsurancePaymentRequest();
+        // 계약별 납입정보 조회는 보험사 입장에서 별개의 거래이므로 호출마다 새 거래고유번호 사용
+        paymentRequest.setBankTranId(TransactionIdGenerator.deriveTransactionId(request.getBankTranId()));
+        paymentRequest.setBankCodeStd(request.getBankCodeStd());
+        paymentRequest.setUserSeqNo(request.getUserSeqNo());
+        paymentRequest.setInsuNum(contract.getInsuNum());
+
+        try {
+            InsurancePaymentResponse payment =
+                    insuranceCompanyService.getInsurancePayment(paymentRequest, userCi, authorization);
+            paymentOkCount.incrementAndGet();
+            return InsuranceOverviewResponse.InsuranceOverviewItem.builder()
+                    .insurance(contract)
+                    .paymentStatus(STATUS_OK)
+                    .payment(payment)
+                    .build();
+        } catch (RuntimeException e) {
+            paymentErrorCount.incrementAndGet();
+            log.warn("보험납입정보 조회 실패 - insuNum: {}, error: {}", contract.getInsuNum(), e.getMessage());
+            return InsuranceOverviewResponse.InsuranceOverviewItem.builder()
+                    .insurance(contract)
+                    .paymentStatus(STATUS_ERROR)
+                    .paymentErrorMessage(e.getMessage())
+                    .build();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("active_threads", executor.getActiveCount());
+        stats.put("queue_depth", executor.getQueue().size());
+        stats.put("overviews", overviewCount.get());
+        stats.put("payment_ok", paymentOkCount.get());
+        stats.put("payment_error", paymentErrorCount.get());
+        stats.put("payment_timeout", paymentTimeoutCount.get());
+        stats.put("rejected", rejectedCount.get());
+        return stats;
+    }
+
+    /**
+     * 병합 결과
+     *
+     * @param list 보험사 보험목록 응답
+     * @param items 계약별 보험/납입정보 (목록 순서 유지)
+     * @param paymentErrorCount 납입정보 조회 실패(오류/마감 초과) 건수
+     */
+    public record Result(InsuranceListResponse list, List<InsuranceOverviewResponse.InsuranceOverviewItem> items,
+                         int paymentErrorCount) {
+    }
+}
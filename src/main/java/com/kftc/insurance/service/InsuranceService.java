@@ -15,6 +15,7 @@ import java.util.UUID;
 public class InsuranceService {
     
     private final InsuranceCompanyService insuranceCompanyService;
+    private final InsuranceOverviewAggregator insuranceOverviewAggregator;
     
     /**
      * Authorization 헤더 검증
@@ -68,6 +69,56 @@ public class InsuranceService {
         return transformToInsurancePaymentResponse(request, insuranceCompanyResponse);
     }
     
+    /**
+     * 보험 종합조회 (보험목록 + 계약별 납입정보)
+     */
+    public InsuranceOverviewResponse getInsuranceOverview(InsuranceListRequest request, String authorization) {
+        log.info("보험 종합조회 요청 - bankTranId: {}, userSeqNo: {}, bankCodeStd: {}", 
+                request.getBankTranId(), request.getUserSeqNo(), request.getBankCodeStd());
+        
+        // 1. Authorization 헤더 검증
+        validateAuthorization(authorization);
+        
+        // 2. 보험목록 조회 후 계약별 납입정보 병렬 조회
+        InsuranceOverviewAggregator.Result result = insuranceOverviewAggregator.aggregate(request, authorization);
+        InsuranceListResponse list = result.list();
+        
+        // 계약별 납입정보는 보험납입정보조회(/insurance/payment)와 같은 형식으로 변환
+        for (InsuranceOverviewResponse.InsuranceOverviewItem item : result.items()) {
+            if (item.getPayment() != null) {
+                item.setPayment(transformToInsurancePaymentResponse(
+                        toPaymentRequest(request, item.getInsurance()), item.getPayment()));
+            }
+        }
+        
+        // 3. 오픈뱅킹 형식으로 병합
+        return InsuranceOverviewResponse.builder()
+                .apiTranId(UUID.randomUUID().toString().replace("-", "").substring(0, 20))
+                .apiTranDtm(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS")))
+                .rspCode(list.getRspCode())
+                .rspMessage(list.getRspMessage())
+                .bankTranId(request.getBankTranId())
+                .userSeqNo(request.getUserSeqNo())
+                .nextPageYn(list.getNextPageYn())
+                .beforInquiryTraceInfo(list.getBeforInquiryTraceInfo())
+                .insuCnt(String.valueOf(result.items().size()))
+                .paymentErrorCnt(result.paymentErrorCount())
+                .insuList(result.items())
+                .build();
+    }
+    
+    /**
+     * 종합조회 요청의 계약별 납입정보조회 요청 (응답 변환용 - 클라이언트 거래고유번호 유지)
+     */
+    private InsurancePaymentRequest toPaymentRequest(InsuranceListRequest request, InsuranceListResponse.InsuranceInfo contract) {
+        InsurancePaymentRequest paymentRequest = new InsurancePaymentRequest();
+        paymentRequest.setBankTranId(request.getBankTranId());
+        paymentRequest.setBankCodeStd(request.getBankCodeStd());
+        paymentRequest.setUserSeqNo(request.getUserSeqNo());
+        paymentRequest.setInsuNum(contract.getInsuNum());
+        return paymentRequest;
+    }
+    
     /**
      * 보험목록조회 응답 변환
      */
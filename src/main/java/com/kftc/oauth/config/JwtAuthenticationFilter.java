@@ -1,5 +1,7 @@
 package com.kftc.oauth.config;
 
+import com.kftc.common.tracing.Span;
+import com.kftc.common.tracing.Tracer;
 import com.kftc.oauth.util.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -33,6 +35,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         log.info("=== JWT 인증 필터 시작 ===");
         log.info("요청 경로: {}", requestPath);
         
+        // 토큰 파싱/검증 구간 (이후 필터 체인은 포함하지 않음)
+        Span span = Tracer.startSpan("jwt.authenticate");
         try {
             // Authorization 헤더에서 토큰 추출
             String token = extractTokenFromRequest(request);
@@ -51,6 +55,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     // SecurityContext에 인증 정보 설정
                     Authentication authentication = createAuthentication(userId, clientId, scope, token);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    span.tag("authenticated", true);
                     
                     log.info("SecurityContext에 인증 정보 설정 완료");
                 } else {
@@ -63,6 +68,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         } catch (Exception e) {
             log.error("JWT 인증 처리 중 오류 발생: {}", e.getMessage(), e);
             SecurityContextHolder.clearContext();
+            span.error(e);
+        } finally {
+            span.close();
         }
         
         log.info("=== JWT 인증 필터 종료 ===");
@@ -7,10 +7,12 @@ import com.kftc.oauth.dto.TokenRequest;
 import com.kftc.oauth.dto.TokenResponse;
 import com.kftc.oauth.service.OAuthService;
 import com.kftc.user.service.PhoneVerificationService;
+import com.kftc.user.service.PhoneVerificationThrottle;
 import com.kftc.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -38,6 +40,7 @@ public class OAuthController {
     private final OAuthService oAuthService;
     private final UserService userService;
     private final PhoneVerificationService phoneVerificationService;
+    private final PhoneVerificationThrottle phoneVerificationThrottle;
     private final PasswordEncoder passwordEncoder;
     private final CiGenerator ciGenerator;
     
@@ -110,7 +113,11 @@ public class OAuthController {
             @RequestParam("user_email") String userEmail,
             
             @Parameter(description = "주민등록번호", required = true)
-            @RequestParam("social_security_number") String socialSecurityNumber) {
+            @RequestParam("social_security_number") String socialSecurityNumber,
+            
+            HttpServletRequest httpRequest) {
+        
+        phoneVerificationThrottle.checkSend(phoneNumber, httpRequest.getRemoteAddr());
         
         log.info("휴대폰 인증 코드 발송: sessionId={}, phoneNumber={}, userName={}, userEmail={}, socialSecurityNumber={}", 
                 sessionId, phoneNumber, userName, userEmail, socialSecurityNumber.substring(0, 6) + "******");
@@ -152,7 +159,11 @@ public class OAuthController {
             @RequestParam("phone_number") String phoneNumber,
             
             @Parameter(description = "인증 코드", required = true)
-            @RequestParam("verification_code") String verificationCode) {
+            @RequestParam("verification_code") String verificationCode,
+            
+            HttpServletRequest httpRequest) {
+        
+        phoneVerificationThrottle.checkVerify(phoneNumber, httpRequest.getRemoteAddr());
         
         log.info("휴대폰 인증 코드 확인: sessionId={}, phoneNumber={}", sessionId, phoneNumber);
         
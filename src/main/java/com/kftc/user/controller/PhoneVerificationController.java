@@ -4,8 +4,10 @@ import com.kftc.common.dto.BasicResponse;
 import com.kftc.user.dto.PhoneVerificationConfirmRequest;
 import com.kftc.user.dto.PhoneVerificationRequest;
 import com.kftc.user.service.PhoneVerificationService;
+import com.kftc.user.service.PhoneVerificationThrottle;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,12 +25,15 @@ import java.util.Map;
 public class PhoneVerificationController {
     
     private final PhoneVerificationService phoneVerificationService;
+    private final PhoneVerificationThrottle phoneVerificationThrottle;
     
     @Operation(summary = "휴대폰 인증 코드 발송", description = "입력한 휴대폰번호로 인증 코드를 발송합니다.")
     @PostMapping("/send")
     public ResponseEntity<BasicResponse> sendVerificationCode(
-            @Valid @RequestBody PhoneVerificationRequest request) {
+            @Valid @RequestBody PhoneVerificationRequest request,
+            HttpServletRequest httpRequest) {
         
+        phoneVerificationThrottle.checkSend(request.getPhoneNumber(), httpRequest.getRemoteAddr());
         phoneVerificationService.sendVerificationCode(request.getPhoneNumber());
         
         BasicResponse response = BasicResponse.builder()
@@ -44,7 +49,10 @@ public class PhoneVerificationController {
                description = "발송된 인증 코드를 확인합니다. 사용자 정보(이름, 주민등록번호)가 포함된 경우 PASS 인증으로 처리하여 CI를 반환합니다.")
     @PostMapping("/verify")
     public ResponseEntity<BasicResponse> verifyCode(
-            @Valid @RequestBody PhoneVerificationConfirmRequest request) {
+            @Valid @RequestBody PhoneVerificationConfirmRequest request,
+            HttpServletRequest httpRequest) {
+        
+        phoneVerificationThrottle.checkVerify(request.getPhoneNumber(), httpRequest.getRemoteAddr());
         
         log.info("📱 ============= 휴대폰 인증 코드 확인 엔드포인트 호출됨 =============");
         log.info("📱 요청 데이터: phoneNumber={}, userName={}, socialSecurityNumber={}***", 
@@ -138,8 +146,10 @@ public class PhoneVerificationController {
             userSeqNo, userCi != null ? userCi.substring(0, 10) : "null");
         log.info("🎯 전체 요청 데이터: {}", request);
         
+        boolean refresh = Boolean.parseBoolean(String.valueOf(request.get("refresh")));
+        
         List<Map<String, Object>> institutions = phoneVerificationService.discoverAvailableFinancialInstitutions(
-            userSeqNo, userCi);
+            userSeqNo, userCi, refresh);
         
         log.info("🎯 컨트롤러에서 받은 기관 목록: 크기={}, 내용={}", 
             institutions != null ? institutions.size() : 0, institutions);
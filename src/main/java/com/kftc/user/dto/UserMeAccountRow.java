@@ -0,0 +1,24 @@
+package com.kftc.user.dto;
+
+/**
+ * 사용자정보조회용 사용자+계좌 projection (계좌가 없으면 계좌 컬럼은 null)
+ */
+public record UserMeAccountRow(
+        String userSeqNo,
+        String userCi,
+        String userName,
+        String fintechUseNum,
+        String accountAlias,
+        String bankCodeStd,
+        String bankName,
+        String savingsBankName,
+        String accountNumMasked,
+        String accountSeq,
+        String accountHolderName,
+        String accountType,
+        String inquiryAgreeYn,
+        String inquiryAgreeDtime,
+        String transferAgreeYn,
+        String transferAgreeDtime,
+        String payerNum) {
+}
@@ -0,0 +1,7 @@
+package com.kftc.user.dto;
+
+/**
+ * 사용자정보조회용 금융기관 동의 projection
+ */
+public record UserMeConsentRow(String bankCodeStd, String infoPrvdAgmtDtime) {
+}
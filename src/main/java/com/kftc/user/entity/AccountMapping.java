@@ -6,12 +6,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "kftc_account_mapping")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class AccountMapping extends DateTimeEntity {
+public class AccountMapping extends DateTimeEntity implements Persistable<String> {
     
     @Id
     @Column(name = "fintech_use_num", length = 30)
@@ -68,6 +69,9 @@ public class AccountMapping extends DateTimeEntity {
     @Column(name = "transfer_agree_dtime", length = 14)
     private String transferAgreeDtime; // 이체동의일시
     
+    @Transient
+    private boolean isNew = true; // 할당 키라서 save() 시 merge(SELECT) 대신 persist 하도록 신규 여부 보관
+    
     @Builder
     public AccountMapping(String fintechUseNum, String userSeqNo, String orgCode, String bankCodeStd,
                          String accountNum, String accountNumMasked, String accountAlias, String accountSeq,
@@ -104,4 +108,20 @@ public class AccountMapping extends DateTimeEntity {
     public void updateRegState(String regState) {
         this.regState = regState;
     }
-} 
\ No newline at end of file
+    
+    @Override
+    public String getId() {
+        return fintechUseNum;
+    }
+    
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -1,8 +1,11 @@
 package com.kftc.user.repository;
 
+import com.kftc.user.dto.UserMeConsentRow;
 import com.kftc.user.entity.UserConsentFinancialInstitution;
 import com.kftc.user.entity.UserConsentFinancialInstitutionId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -20,4 +23,9 @@ public interface UserConsentFinancialInstitutionRepository extends JpaRepository
     List<UserConsentFinancialInstitution> findByUserSeqNoAndRegStatus(String userSeqNo, String regStatus);
     
     boolean existsByUserSeqNoAndBankCodeStd(String userSeqNo, String bankCodeStd);
+    
+    // 사용자정보조회(user/me)용 동의 projection
+    @Query("SELECT new com.kftc.user.dto.UserMeConsentRow(c.bankCodeStd, c.infoPrvdAgmtDtime) " +
+           "FROM UserConsentFinancialInstitution c WHERE c.userSeqNo = :userSeqNo")
+    List<UserMeConsentRow> findUserMeConsentRows(@Param("userSeqNo") String userSeqNo);
 } 
\ No newline at end of file
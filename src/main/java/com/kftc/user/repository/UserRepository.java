@@ -1,5 +1,6 @@
 package com.kftc.user.repository;
 
+import com.kftc.user.dto.UserMeAccountRow;
 import com.kftc.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -33,9 +34,14 @@ public interface UserRepository extends JpaRepository<User, String> {
     long countByUserTypeAndUserStatus(@Param("userType") String userType, 
                                      @Param("userStatus") String userStatus);
     
-    // 다음 사용자 일련번호 생성을 위한 최대값 조회
-    @Query("SELECT MAX(u.userSeqNo) FROM User u WHERE u.userSeqNo IS NOT NULL")
-    Optional<String> findMaxUserSeqNo();
+    // 사용자정보조회(user/me)용 사용자+계좌 projection (엔티티 적재 없이 한 번에 조회)
+    @Query("SELECT new com.kftc.user.dto.UserMeAccountRow(" +
+           "u.userSeqNo, u.userCi, u.userName, a.fintechUseNum, a.accountAlias, a.bankCodeStd, a.bankName, " +
+           "a.savingsBankName, a.accountNumMasked, a.accountSeq, a.accountHolderName, a.accountType, " +
+           "a.inquiryAgreeYn, a.inquiryAgreeDtime, a.transferAgreeYn, a.transferAgreeDtime, a.payerNum) " +
+           "FROM User u LEFT JOIN AccountMapping a ON a.userSeqNo = u.userSeqNo " +
+           "WHERE u.userSeqNo = :userSeqNo")
+    java.util.List<UserMeAccountRow> findUserMeAccountRows(@Param("userSeqNo") String userSeqNo);
     
     // 활성 사용자 조회
     @Query("SELECT u FROM User u WHERE u.userStatus = :status")
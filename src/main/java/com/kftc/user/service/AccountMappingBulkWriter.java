@@ -0,0 +1,95 @@
+package com.kftc.user.service;
+
+import com.kftc.user.entity.AccountMapping;
+import com.kftc.user.repository.AccountMappingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 계좌/카드/보험 매핑 일괄 저장기
+ *
+ * 핀테크이용번호 전체를 한 번의 IN 조회로 존재 여부를 확인한 뒤,
+ * 기존 행은 변경 감지로, 신규 행은 persist로 모아 한 번에 flush 한다.
+ * (hibernate.jdbc.batch_size 설정으로 INSERT/UPDATE가 배치 전송됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountMappingBulkWriter {
+
+    // Oracle IN 절 제한(1000) 이내로 분할 조회
+    private static final int IN_CLAUSE_LIMIT = 1000;
+
+    /** 기존 행 갱신: 계좌 정보 + 활성화 */
+    public static final BiConsumer<AccountMapping, AccountMapping> UPDATE_ACCOUNT_INFO = (existing, incoming) -> {
+        existing.updateAccountInfo(
+                incoming.getAccountNum(),
+                incoming.getAccountAlias(),
+                incoming.getInquiryAgreeYn(),
+                incoming.getTransferAgreeYn());
+        existing.updateRegState("ACTIVE");
+    };
+
+    private final AccountMappingRepository accountMappingRepository;
+
+    /**
+     * 일괄 upsert
+     *
+     * @param rows 저장할 매핑 (같은 핀테크이용번호가 여러 번 오면 마지막 값 사용)
+     * @param onExisting 이미 존재하는 행에 적용할 갱신
+     * @return 신규/갱신 건수
+     */
+    @Transactional
+    public Result upsert(Collection<AccountMapping> rows, BiConsumer<AccountMapping, AccountMapping> onExisting) {
+        if (rows == null || rows.isEmpty()) {
+            return new Result(0, 0);
+        }
+
+        Map<String, AccountMapping> incomingById = new LinkedHashMap<>();
+        for (AccountMapping row : rows) {
+            incomingById.put(row.getFintechUseNum(), row);
+        }
+
+        Map<String, AccountMapping> existingById = findExisting(incomingById.keySet());
+
+        List<AccountMapping> toInsert = new ArrayList<>();
+        int updated = 0;
+        for (AccountMapping incoming : incomingById.values()) {
+            AccountMapping existing = existingById.get(incoming.getFintechUseNum());
+            if (existing == null) {
+                toInsert.add(incoming);
+            } else {
+                onExisting.accept(existing, incoming);
+                updated++;
+            }
+        }
+
+        accountMappingRepository.saveAll(toInsert);
+        accountMappingRepository.flush();
+
+        log.info("계좌 매핑 일괄 저장 완료: 요청={}건, 신규={}건, 갱신={}건",
+                incomingById.size(), toInsert.size(), updated);
+        return new Result(toInsert.size(), updated);
+    }
+
+    private Map<String, AccountMapping> findExisting(Set<String> ids) {
+        List<String> idList = new ArrayList<>(ids);
+        Map<String, AccountMapping> existing = new HashMap<>();
+        for (int from = 0; from < idList.size(); from += IN_CLAUSE_LIMIT) {
+            List<String> chunk = idList.subList(from, Math.min(from + IN_CLAUSE_LIMIT, idList.size()));
+            existing.putAll(accountMappingRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(AccountMapping::getFintechUseNum, Function.identity())));
+        }
+        return existing;
+    }
+
+    public record Result(int inserted, int updated) {
+    }
+}
@@ -2,9 +2,10 @@ package com.kftc.user.service;
 
 import lombok.extern.slf4j.Slf4j;
 import net.nurigo.sdk.NurigoApp;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
 import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
-import net.nurigo.sdk.message.response.SingleMessageSentResponse;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
 import net.nurigo.sdk.message.service.DefaultMessageService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,10 +14,18 @@ import jakarta.annotation.PostConstruct;
 import javax.net.ssl.*;
 import java.security.SecureRandom;
 import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Service
-public class CoolSmsService {
+public class CoolSmsService implements SmsProvider {
+    
+    // 실패 응답과 요청 메시지를 짝짓는 식별값 (customFields로 보내면 failedMessageList에 그대로 돌아옴)
+    private static final String MESSAGE_KEY_FIELD = "outbox_key";
     
     @Value("${coolsms.api-key}")
     private String apiKey;
@@ -29,6 +38,7 @@ public class CoolSmsService {
     
     private DefaultMessageService messageService;
     private final SecureRandom random = new SecureRandom();
+    private final AtomicLong batchSequence = new AtomicLong();
     
     @PostConstruct
     public void init() {
@@ -85,22 +95,74 @@ public class CoolSmsService {
     }
     
     /**
-     * SMS 인증번호 발송
+     * SMS 인증번호 문구
      */
-    public boolean sendVerificationSms(String phoneNumber, String verificationCode) {
-        try {
+    public String buildVerificationText(String verificationCode) {
+        return String.format("[PASS] 본인확인 인증번호는 [%s]입니다. 타인 노출 금지", verificationCode);
+    }
+    
+    @Override
+    public String name() {
+        return "coolsms";
+    }
+    
+    /**
+     * SMS 묶음 발송 (SDK 다건 발송 API 사용)
+     *
+     * 같은 번호로 여러 건이 한 묶음에 들어갈 수 있으므로 실패 건은 수신번호가 아니라
+     * 메시지마다 붙인 식별값(customFields)으로 찾는다.
+     */
+    @Override
+    public List<SmsMessage> send(List<SmsMessage> messages) throws Exception {
+        if (messageService == null) {
+            throw new IllegalStateException("CoolSMS 서비스가 초기화되지 않았습니다");
+        }
+        
+        String batchId = Long.toString(batchSequence.incrementAndGet(), 36);
+        Map<String, SmsMessage> byMessageKey = new HashMap<>();
+        List<Message> sdkMessages = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            SmsMessage sms = messages.get(i);
+            String messageKey = batchId + "-" + i;
+            byMessageKey.put(messageKey, sms);
+            
             Message message = new Message();
             message.setFrom(fromNumber);
-            message.setTo(phoneNumber);
-            message.setText(String.format("[PASS] 본인확인 인증번호는 [%s]입니다. 타인 노출 금지", verificationCode));
-            
-            SingleMessageSentResponse response = this.messageService.sendOne(new SingleMessageSendingRequest(message));
-            
-            log.info("SMS 발송 성공: phoneNumber={}, messageId={}", phoneNumber, response.getMessageId());
-            return true;
-        } catch (Exception e) {
-            log.error("SMS 발송 실패: phoneNumber={}, error={}", phoneNumber, e.getMessage());
-            return false;
+            message.setTo(sms.to());
+            message.setText(sms.text());
+            message.setCustomFields(new HashMap<>(Map.of(MESSAGE_KEY_FIELD, messageKey)));
+            sdkMessages.add(message);
+        }
+        
+        List<FailedMessage> failedMessages;
+        try {
+            // 일부만 접수 실패하면 예외 없이 응답의 failedMessageList로 돌아옴
+            MultipleDetailMessageSentResponse response = this.messageService.send(sdkMessages, false, false);
+            failedMessages = response.getFailedMessageList();
+        } catch (NurigoMessageNotReceivedException e) {
+            // 전체 접수 실패 - 접수된 건이 없으므로 묶음 전체를 재시도 대상으로 반환
+            log.warn("SMS 묶음 발송 전체 실패: count={}, error={}", messages.size(), e.getMessage());
+            return messages;
+        }
+        
+        if (failedMessages == null || failedMessages.isEmpty()) {
+            log.info("SMS 묶음 발송 성공: count={}", messages.size());
+            return List.of();
+        }
+        
+        List<SmsMessage> failed = new ArrayList<>();
+        int unmatched = 0;
+        for (FailedMessage failedMessage : failedMessages) {
+            Map<String, String> customFields = failedMessage.getCustomFields();
+            SmsMessage sms = customFields != null ? byMessageKey.remove(customFields.get(MESSAGE_KEY_FIELD)) : null;
+            if (sms != null) {
+                failed.add(sms);
+            } else {
+                // 어떤 메시지인지 알 수 없으면 재시도하지 않음 (이미 접수된 건을 중복 발송하지 않도록)
+                unmatched++;
+            }
         }
+        log.warn("SMS 묶음 발송 일부 실패: count={}, failed={}, unmatched={}", messages.size(), failed.size(), unmatched);
+        return failed;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,174 @@
+package com.kftc.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 금융기관 탐색 결과 캐시 (CI 다이제스트 기준)
+ *
+ * - TTL 이내 재인증은 저장된 탐색 결과를 돌려주어 기관 호출을 생략한다.
+ * - 같은 CI로 동시에 들어온 탐색은 하나의 기관 호출 결과를 함께 기다린다.
+ * - 마감 초과/오류 기관이 있는 결과는 다음 요청에서 다시 탐색하도록 저장하지 않는다.
+ * - refresh 요청은 저장된 결과를 무시하고 새로 탐색한 결과로 교체한다.
+ */
+@Slf4j
+@Component
+public class DiscoveryResultCache {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong collapsedCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    public DiscoveryResultCache(@Value("${financial.discovery.cache.ttl-ms:300000}") long ttlMs,
+                                @Value("${financial.discovery.cache.max-entries:10000}") int maxEntries) {
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMs);
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 캐시 경유 탐색
+     *
+     * @param userCi 사용자 CI (원문은 보관하지 않고 SHA-256 다이제스트를 키로 사용)
+     * @param refresh true면 저장된 결과를 무시하고 새로 탐색
+     * @param discovery 실제 기관 탐색
+     */
+    public PhoneVerificationService.DiscoveryOutcome get(String userCi, boolean refresh,
+                                                         Supplier<PhoneVerificationService.DiscoveryOutcome> discovery) {
+        if (ttlNanos <= 0) {
+            return discovery.get();
+        }
+
+        String key = digest(userCi);
+        if (refresh) {
+            refreshCount.incrementAndGet();
+        }
+
+        while (true) {
+            Entry existing = entries.get(key);
+            if (existing != null) {
+                if (!existing.future.isDone()) {
+                    // 진행 중인 탐색은 refresh 여부와 관계없이 최신 결과이므로 함께 대기
+                    collapsedCount.incrementAndGet();
+                    return await(existing);
+                }
+                if (!refresh && !existing.isExpired()) {
+                    hitCount.incrementAndGet();
+                    return await(existing).asCached();
+                }
+            }
+
+            Entry mine = new Entry();
+            boolean claimed = existing == null
+                    ? entries.putIfAbsent(key, mine) == null
+                    : entries.replace(key, existing, mine);
+            if (!claimed) {
+                continue;
+            }
+
+            missCount.incrementAndGet();
+            return load(key, mine, discovery);
+        }
+    }
+
+    private PhoneVerificationService.DiscoveryOutcome load(String key, Entry mine,
+                                                           Supplier<PhoneVerificationService.DiscoveryOutcome> discovery) {
+        PhoneVerificationService.DiscoveryOutcome outcome;
+        try {
+            outcome = discovery.get();
+        } catch (RuntimeException e) {
+            mine.future.completeExceptionally(e);
+            entries.remove(key, mine);
+            throw e;
+        }
+
+        mine.expiresAtNanos = System.nanoTime() + ttlNanos;
+        mine.future.complete(outcome);
+        if (!outcome.isComplete()) {
+            entries.remove(key, mine);
+            log.info("금융기관 탐색 결과 미완료(마감 초과/오류 기관 포함) - 캐시하지 않음");
+        } else if (entries.size() > maxEntries) {
+            evict();
+        }
+        return outcome;
+    }
+
+    private PhoneVerificationService.DiscoveryOutcome await(Entry entry) {
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof RuntimeException ? (RuntimeException) cause : e;
+        }
+    }
+
+    /**
+     * 만료 항목 제거 후에도 상한을 넘으면 완료된 항목부터 임의로 제거
+     */
+    private void evict() {
+        entries.values().removeIf(entry -> entry.future.isDone() && entry.isExpired());
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (iterator.next().future.isDone()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 특정 사용자의 탐색 결과 제거
+     */
+    public void invalidate(String userCi) {
+        entries.remove(digest(userCi));
+    }
+
+    private static String digest(String userCi) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(userCi.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("hits", hits);
+        stats.put("misses", missCount.get());
+        stats.put("hit_ratio", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("collapsed_in_flight", collapsedCount.get());
+        stats.put("refreshes", refreshCount.get());
+        return stats;
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<PhoneVerificationService.DiscoveryOutcome> future = new CompletableFuture<>();
+        private volatile long expiresAtNanos;
+
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
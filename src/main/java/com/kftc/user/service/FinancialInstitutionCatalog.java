@@ -0,0 +1,122 @@
+package com.kftc.user.service;
+
+import com.kftc.bank.common.BankCode;
+import com.kftc.user.entity.FinancialInstitution;
+import com.kftc.user.repository.FinancialInstitutionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 금융기관 카탈로그 (메모리 적재)
+ *
+ * kftc_financial_institution 행과 BankCode enum을 합쳐 기관코드/서비스구분별로 색인한
+ * 불변 스냅샷을 보관한다. DB 행이 enum보다 우선하며, 재적재 시 스냅샷을 통째로 교체하므로
+ * 조회 측은 잠금 없이 항상 일관된 스냅샷을 본다.
+ */
+@Slf4j
+@Component
+public class FinancialInstitutionCatalog {
+
+    private final FinancialInstitutionRepository financialInstitutionRepository;
+
+    private volatile Snapshot snapshot;
+
+    public FinancialInstitutionCatalog(FinancialInstitutionRepository financialInstitutionRepository) {
+        this.financialInstitutionRepository = financialInstitutionRepository;
+        // DB 적재 전까지는 enum 기준으로 응답
+        this.snapshot = Snapshot.of(Collections.emptyList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        reload();
+    }
+
+    @Scheduled(initialDelayString = "${financial.catalog.refresh-interval-ms:600000}",
+               fixedDelayString = "${financial.catalog.refresh-interval-ms:600000}")
+    public void scheduledReload() {
+        reload();
+    }
+
+    /**
+     * DB에서 다시 읽어 스냅샷 교체 (실패 시 기존 스냅샷 유지)
+     */
+    public void reload() {
+        try {
+            List<FinancialInstitution> rows = financialInstitutionRepository.findAll();
+            snapshot = Snapshot.of(rows);
+            log.info("금융기관 카탈로그 적재 완료: DB={}건, 전체={}건", rows.size(), snapshot.byCode.size());
+        } catch (Exception e) {
+            log.warn("금융기관 카탈로그 적재 실패 - 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    public Optional<Institution> find(String bankCodeStd) {
+        return bankCodeStd == null ? Optional.empty() : Optional.ofNullable(snapshot.byCode.get(bankCodeStd));
+    }
+
+    public List<Institution> findByServiceType(String serviceType) {
+        return snapshot.byServiceType.getOrDefault(serviceType, Collections.emptyList());
+    }
+
+    public String getBankName(String bankCodeStd, String defaultName) {
+        return find(bankCodeStd).map(Institution::bankName).orElse(defaultName);
+    }
+
+    public String getServiceType(String bankCodeStd) {
+        return find(bankCodeStd).map(Institution::serviceType).orElse("UNKNOWN");
+    }
+
+    public Map<String, Object> getStats() {
+        Snapshot current = snapshot;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("institutions", current.byCode.size());
+        stats.put("from_db", current.dbRows);
+        stats.put("loaded_at", current.loadedAt);
+        return stats;
+    }
+
+    /**
+     * 기관 정보 (불변)
+     */
+    public record Institution(String bankCodeStd, String bankName, String serviceType, String accessState) {
+    }
+
+    private static final class Snapshot {
+        private final Map<String, Institution> byCode;
+        private final Map<String, List<Institution>> byServiceType;
+        private final int dbRows;
+        private final LocalDateTime loadedAt = LocalDateTime.now();
+
+        private Snapshot(Map<String, Institution> byCode, int dbRows) {
+            Map<String, List<Institution>> grouped = new HashMap<>();
+            for (Institution institution : byCode.values()) {
+                grouped.computeIfAbsent(institution.serviceType(), t -> new ArrayList<>()).add(institution);
+            }
+            grouped.replaceAll((type, list) -> List.copyOf(list));
+            this.byCode = Map.copyOf(byCode);
+            this.byServiceType = Map.copyOf(grouped);
+            this.dbRows = dbRows;
+        }
+
+        static Snapshot of(List<FinancialInstitution> rows) {
+            Map<String, Institution> byCode = new HashMap<>();
+            for (BankCode bankCode : BankCode.values()) {
+                byCode.put(bankCode.getCode(), new Institution(
+                        bankCode.getCode(), bankCode.getBankName(), bankCode.getServiceType(), "ACTIVE"));
+            }
+            for (FinancialInstitution row : rows) {
+                byCode.put(row.getBankCodeStd(), new Institution(
+                        row.getBankCodeStd(), row.getBankName(),
+                        Objects.requireNonNullElse(row.getBankType(), "UNKNOWN"), row.getAccessState()));
+            }
+            return new Snapshot(byCode, rows.size());
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.kftc.user.service;
+
+import com.kftc.common.exception.BusinessException;
+import com.kftc.common.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 인증 코드 저장소 (단일 노드용)
+ *
+ * 번호별 항목을 ConcurrentHashMap.compute로 갱신하여 비교와 소비, 시도 횟수 증가를 원자적으로 처리한다.
+ * 만료 항목은 주기적으로 정리하며, 최대 건수를 넘으면 새 코드 발급을 거절한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "phone-verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final int maxAttempts;
+    private final int maxEntries;
+    private final long verifiedRetentionNanos;
+
+    private final AtomicLong issuedCount = new AtomicLong();
+    private final AtomicLong verifiedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong lockedCount = new AtomicLong();
+
+    public InMemoryVerificationCodeStore(@Value("${phone-verification.max-attempts:5}") int maxAttempts,
+                                         @Value("${phone-verification.max-entries:100000}") int maxEntries,
+                                         @Value("${phone-verification.verified-retention-ms:1800000}") long verifiedRetentionMs) {
+        this.maxAttempts = maxAttempts;
+        this.maxEntries = maxEntries;
+        this.verifiedRetentionNanos = TimeUnit.MILLISECONDS.toNanos(verifiedRetentionMs);
+    }
+
+    @Override
+    public void save(String phoneNumber, String verificationCode, Duration ttl) {
+        if (entries.size() >= maxEntries && !entries.containsKey(phoneNumber)) {
+            purgeExpired();
+            if (entries.size() >= maxEntries) {
+                log.warn("인증 코드 저장소 용량 초과: size={}", entries.size());
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "잠시 후 다시 시도해주세요.");
+            }
+        }
+        entries.put(phoneNumber, new Entry(verificationCode, System.nanoTime() + ttl.toNanos(), 0, false));
+        issuedCount.incrementAndGet();
+    }
+
+    @Override
+    public VerifyResult verifyAndConsume(String phoneNumber, String verificationCode) {
+        VerifyResult[] result = new VerifyResult[1];
+        long now = System.nanoTime();
+
+        entries.compute(phoneNumber, (key, entry) -> {
+            if (entry == null || entry.verified()) {
+                // 이미 소비된 코드는 재사용 불가
+                result[0] = VerifyResult.NOT_FOUND;
+                return entry;
+            }
+            if (entry.isExpired(now)) {
+                result[0] = VerifyResult.EXPIRED;
+                return null;
+            }
+            if (entry.attempts() >= maxAttempts) {
+                result[0] = VerifyResult.TOO_MANY_ATTEMPTS;
+                return entry;
+            }
+            if (!matches(entry.code(), verificationCode)) {
+                result[0] = entry.attempts() + 1 >= maxAttempts ? VerifyResult.TOO_MANY_ATTEMPTS : VerifyResult.MISMATCH;
+                return new Entry(entry.code(), entry.expiresAtNanos(), entry.attempts() + 1, false);
+            }
+            result[0] = VerifyResult.VERIFIED;
+            return new Entry(entry.code(), now + verifiedRetentionNanos, entry.attempts() + 1, true);
+        });
+
+        switch (result[0]) {
+            case VERIFIED -> verifiedCount.incrementAndGet();
+            case TOO_MANY_ATTEMPTS -> lockedCount.incrementAndGet();
+            default -> failedCount.incrementAndGet();
+        }
+        return result[0];
+    }
+
+    @Override
+    public boolean isVerified(String phoneNumber) {
+        Entry entry = entries.get(phoneNumber);
+        return entry != null && entry.verified() && !entry.isExpired(System.nanoTime());
+    }
+
+    private static boolean matches(String expected, String actual) {
+        if (actual == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8), actual.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Scheduled(fixedDelayString = "${phone-verification.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("issued", issuedCount.get());
+        stats.put("verified", verifiedCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("locked", lockedCount.get());
+        return stats;
+    }
+
+    /**
+     * 번호별 인증 상태 (불변 - compute에서 교체)
+     */
+    private record Entry(String code, long expiresAtNanos, int attempts, boolean verified) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos > 0;
+        }
+    }
+}
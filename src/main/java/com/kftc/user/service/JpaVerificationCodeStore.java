@@ -0,0 +1,61 @@
+package com.kftc.user.service;
+
+import com.kftc.user.entity.PhoneVerification;
+import com.kftc.user.repository.PhoneVerificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * DB 인증 코드 저장소 (다중 노드용, kftc_phone_verifications)
+ *
+ * 엔티티에 시도 횟수 컬럼이 없어 시도 횟수 제한은 적용하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "phone-verification.store", havingValue = "jpa")
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+
+    private final PhoneVerificationRepository phoneVerificationRepository;
+
+    @Override
+    @Transactional
+    public void save(String phoneNumber, String verificationCode, Duration ttl) {
+        phoneVerificationRepository.deleteByPhoneNumber(phoneNumber);
+        phoneVerificationRepository.save(PhoneVerification.builder()
+                .phoneNumber(phoneNumber)
+                .verificationCode(verificationCode)
+                .expiresAt(LocalDateTime.now().plus(ttl))
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public VerifyResult verifyAndConsume(String phoneNumber, String verificationCode) {
+        Optional<PhoneVerification> verificationOpt = phoneVerificationRepository
+                .findByPhoneNumberAndVerificationCodeAndVerifiedFalse(phoneNumber, verificationCode);
+        if (verificationOpt.isEmpty()) {
+            return VerifyResult.MISMATCH;
+        }
+
+        PhoneVerification verification = verificationOpt.get();
+        if (verification.isExpired()) {
+            return VerifyResult.EXPIRED;
+        }
+        verification.markAsVerified();
+        return VerifyResult.VERIFIED;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(String phoneNumber) {
+        return phoneVerificationRepository.findFirstByPhoneNumberOrderByCreatedAtDesc(phoneNumber)
+                .map(PhoneVerification::isVerified)
+                .orElse(false);
+    }
+}
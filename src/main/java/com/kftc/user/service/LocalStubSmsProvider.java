@@ -0,0 +1,83 @@
+package com.kftc.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 로컬 테스트용 SMS 제공자 (sms.provider=stub)
+ *
+ * 실제 발송 없이 DEBUG 로그만 남기고(번호/인증번호 마스킹) 최근 발송 메시지를 보관한다.
+ * sms.stub.failure-rate로 개별 메시지 실패를 흉내 낼 수 있다.
+ */
+@Slf4j
+@Component
+public class LocalStubSmsProvider implements SmsProvider {
+
+    private static final int MAX_HISTORY = 100;
+    private static final Pattern DIGIT_RUN = Pattern.compile("\\d{4,}");
+
+    private final double failureRate;
+    private final Deque<SmsMessage> history = new ArrayDeque<>();
+
+    public LocalStubSmsProvider(@Value("${sms.stub.failure-rate:0.0}") double failureRate) {
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public String name() {
+        return "stub";
+    }
+
+    @Override
+    public List<SmsMessage> send(List<SmsMessage> messages) {
+        List<SmsMessage> failed = new ArrayList<>();
+        for (SmsMessage message : messages) {
+            if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                failed.add(message);
+                continue;
+            }
+            if (log.isDebugEnabled()) {
+                log.debug("[STUB SMS] to={}, text={}", mask(message.to()), mask(message.text()));
+            }
+            synchronized (history) {
+                if (history.size() >= MAX_HISTORY) {
+                    history.removeFirst();
+                }
+                history.addLast(message);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 4자리 이상 연속된 숫자(인증번호, 전화번호 가운데) 마스킹 - 끝 4자리만 남김
+     */
+    static String mask(String value) {
+        if (value == null) {
+            return null;
+        }
+        return DIGIT_RUN.matcher(value).replaceAll(match -> {
+            String digits = match.group();
+            return digits.length() > 6
+                    ? "*".repeat(digits.length() - 4) + digits.substring(digits.length() - 4)
+                    : "*".repeat(digits.length());
+        });
+    }
+
+    /**
+     * 최근 발송 메시지 (오래된 순)
+     */
+    public List<SmsMessage> getSentMessages() {
+        synchronized (history) {
+            return new ArrayList<>(history);
+        }
+    }
+}
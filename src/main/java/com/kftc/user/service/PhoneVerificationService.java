@@ -1,14 +1,17 @@
 package com.kftc.user.service;
 
+import com.kftc.bank.common.InstitutionAccountListResponse;
+import com.kftc.card.dto.CardDiscoveryResponse;
+import com.kftc.common.client.InstitutionCallDeadline;
+import com.kftc.common.client.InstitutionClient;
 import com.kftc.common.exception.BusinessException;
+import com.kftc.insurance.dto.InsuranceDiscoveryResponse;
 import com.kftc.common.exception.ErrorCode;
+import com.kftc.common.tracing.Tracer;
 import com.kftc.common.util.CiGenerator;
-import com.kftc.user.entity.PhoneVerification;
 import com.kftc.user.entity.UserConsentFinancialInstitution;
 import com.kftc.user.entity.AccountMapping;
-import com.kftc.user.repository.PhoneVerificationRepository;
 import com.kftc.user.repository.UserConsentFinancialInstitutionRepository;
-import com.kftc.user.repository.AccountMappingRepository;
 import com.kftc.card.service.CardUserService;
 import com.kftc.card.dto.CardListRequest;
 import com.kftc.card.dto.CardListResponse;
@@ -16,107 +19,99 @@ import com.kftc.bank.service.BankService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class PhoneVerificationService {
     
-    private final PhoneVerificationRepository phoneVerificationRepository;
+    private final VerificationCodeStore verificationCodeStore;
     private final CoolSmsService coolSmsService;
+    private final SmsOutbox smsOutbox;
     private final UserConsentFinancialInstitutionRepository consentRepository;
-    private final AccountMappingRepository accountMappingRepository;
-    private final RestTemplate restTemplate;
+    private final AccountMappingBulkWriter accountMappingBulkWriter;
+    private final FinancialInstitutionCatalog financialInstitutionCatalog;
+    private final DiscoveryResultCache discoveryResultCache;
+    private final InstitutionClient institutionClient;
     private final UserService userService;
     private final CiGenerator ciGenerator;
     private final CardUserService cardUserService;
     private final BankService bankService;
-    private final ExecutorService executor = Executors.newFixedThreadPool(10);
-    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Environment environment;
+    private final ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(10);
     
-    // 금융기관별 baseUrl 설정
-    @Value("${financial.institutions.shinhan-bank.base-url}")
-    private String shinhanBankUrl;
+    // 탐색 대상 기관 목록 (설정키:기관코드:기관명:서비스구분)
+    @Value("${financial.discovery.institutions:shinhan-bank:088:신한은행:BANK,kookmin-card:301:국민카드:CARD,hyundai-capital:054:현대캐피탈:CARD,samsung-fire:221:삼성화재:INSURANCE}")
+    private String discoveryInstitutionSpecs;
     
-    @Value("${financial.institutions.kookmin-card.base-url}")
-    private String kookminCardUrl;
+    // 금융기관 탐색 전체 마감 시간
+    @Value("${financial.discovery.deadline-ms:5000}")
+    private long discoveryDeadlineMs;
     
-    @Value("${financial.institutions.hyundai-capital.base-url}")
-    private String hyundaiCapitalUrl;
+    private volatile List<FinancialInstitution> discoveryInstitutions;
     
-    @Value("${financial.institutions.samsung-fire.base-url}")
-    private String samsungFireUrl;
+    // 인증 코드 유효 시간
+    @Value("${phone-verification.ttl-ms:300000}")
+    private long verificationCodeTtlMs;
     
     /**
-     * 휴대폰 인증 코드 발송
+     * 휴대폰 인증 코드 발송 (인증 코드 저장소 사용 - 메모리 저장소면 DB 미사용)
      */
     public void sendVerificationCode(String phoneNumber) {
-        // 기존 인증 코드 삭제
-        phoneVerificationRepository.deleteByPhoneNumber(phoneNumber);
-        
         // 새 인증 코드 생성
         String verificationCode = coolSmsService.generateVerificationCode();
         
-        // SMS 발송
-        boolean smsResult = coolSmsService.sendVerificationSms(phoneNumber, verificationCode);
-        if (!smsResult) {
+        // 인증 정보 저장 (기존 코드 대체) - 발송 전에 저장해야 빠른 수신에도 검증 가능
+        verificationCodeStore.save(phoneNumber, verificationCode, Duration.ofMillis(verificationCodeTtlMs));
+        
+        // SMS 발송 대기열 적재 (실제 발송/재시도는 SmsOutbox 전용 스레드에서 처리)
+        boolean queued = smsOutbox.enqueue(phoneNumber, coolSmsService.buildVerificationText(verificationCode));
+        if (!queued) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "SMS 발송에 실패했습니다.");
         }
         
-        // 인증 정보 저장 (5분 유효)
-        PhoneVerification phoneVerification = PhoneVerification.builder()
-                .phoneNumber(phoneNumber)
-                .verificationCode(verificationCode)
-                .expiresAt(LocalDateTime.now().plusMinutes(5))
-                .build();
-        
-        phoneVerificationRepository.save(phoneVerification);
-        
-        log.info("휴대폰 인증 코드 발송 완료: phoneNumber={}", phoneNumber);
+        log.info("휴대폰 인증 코드 발송 요청 완료: phoneNumber={}", phoneNumber);
     }
     
     /**
-     * 휴대폰 인증 코드 확인
+     * 휴대폰 인증 코드 확인 (비교와 소비를 원자적으로 처리)
      */
     public boolean verifyCode(String phoneNumber, String verificationCode) {
-        Optional<PhoneVerification> verificationOpt = phoneVerificationRepository
-                .findByPhoneNumberAndVerificationCodeAndVerifiedFalse(phoneNumber, verificationCode);
-        
-        if (verificationOpt.isEmpty()) {
-            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "유효하지 않은 인증 코드입니다.");
-        }
-        
-        PhoneVerification verification = verificationOpt.get();
-        
-        if (verification.isExpired()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "만료된 인증 코드입니다.");
+        VerificationCodeStore.VerifyResult result = verificationCodeStore.verifyAndConsume(phoneNumber, verificationCode);
+        
+        switch (result) {
+            case VERIFIED:
+                log.info("휴대폰 인증 완료: phoneNumber={}", phoneNumber);
+                return true;
+            case EXPIRED:
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "만료된 인증 코드입니다.");
+            case TOO_MANY_ATTEMPTS:
+                log.warn("휴대폰 인증 시도 횟수 초과: phoneNumber={}", phoneNumber);
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "인증 시도 횟수를 초과했습니다. 인증 코드를 다시 요청해주세요.");
+            default:
+                throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, "유효하지 않은 인증 코드입니다.");
         }
-        
-        // 인증 완료 처리
-        verification.markAsVerified();
-        
-        log.info("휴대폰 인증 완료: phoneNumber={}", phoneNumber);
-        return true;
     }
     
     /**
      * PASS 인증 완료 (CI 포함 응답 + 금융기관 자동 탐색)
+     * 사용자 생성은 UserService의 짧은 트랜잭션에서 커밋하고, 기관 탐색은 트랜잭션 밖에서 수행
      */
     public Object verifyCodeWithPassAuth(String phoneNumber, String verificationCode, 
                                         String userName, String socialSecurityNumber) {
@@ -140,7 +135,8 @@ public class PhoneVerificationService {
             log.info("사용자 생성/조회 완료: userSeqNo={}, ci={}***", userSeqNo, ci.substring(0, 10));
             
             // ⭐ 금융기관 계좌 탐색 (연동하지 않고 탐색만)
-            List<Map<String, Object>> availableInstitutions = discoverAvailableFinancialInstitutions(userSeqNo, ci);
+            DiscoveryOutcome discoveryOutcome = discoverFinancialInstitutions(userSeqNo, ci);
+            List<Map<String, Object>> availableInstitutions = discoveryOutcome.getInstitutions();
             log.info("금융기관 탐색 완료: userSeqNo={}, 발견된기관수={}", userSeqNo, availableInstitutions.size());
             
             // 반환할 데이터 상세 로그
@@ -169,6 +165,9 @@ public class PhoneVerificationService {
             response.put("availableInstitutions", availableInstitutions);
             response.put("hasAccounts", !availableInstitutions.isEmpty());
             response.put("institutionCount", availableInstitutions.size());
+            response.put("discoveryTimings", discoveryOutcome.getTimings());
+            response.put("discoveryElapsedMs", discoveryOutcome.getTotalElapsedMs());
+            response.put("discoveryCached", discoveryOutcome.isCached());
             response.put("requiresConsent", true);
             response.put("canProceedWithoutAccounts", true); // 계좌 없이도 진행 가능
             response.put("timestamp", System.currentTimeMillis());
@@ -238,66 +237,144 @@ public class PhoneVerificationService {
     /**
      * 휴대폰 인증 여부 확인
      */
-    @Transactional(readOnly = true)
     public boolean isPhoneVerified(String phoneNumber) {
-        Optional<PhoneVerification> verificationOpt = phoneVerificationRepository
-                .findFirstByPhoneNumberOrderByCreatedAtDesc(phoneNumber);
-        
-        return verificationOpt.map(PhoneVerification::isVerified).orElse(false);
+        return verificationCodeStore.isVerified(phoneNumber);
     }
     
     /**
      * 모든 금융기관에서 계좌 탐색 (연동 없이 발견만)
      */
     public List<Map<String, Object>> discoverAvailableFinancialInstitutions(String userSeqNo, String userCi) {
+        return discoverAvailableFinancialInstitutions(userSeqNo, userCi, false);
+    }
+    
+    /**
+     * 모든 금융기관에서 계좌 탐색 (refresh=true면 캐시된 탐색 결과를 무시하고 새로 탐색)
+     */
+    public List<Map<String, Object>> discoverAvailableFinancialInstitutions(String userSeqNo, String userCi, boolean refresh) {
+        return discoverFinancialInstitutions(userSeqNo, userCi, refresh).getInstitutions();
+    }
+    
+    /**
+     * 금융기관 탐색 (CI별 탐색 결과 캐시 경유, 기관 HTTP 호출만 하므로 트랜잭션 없음)
+     */
+    public DiscoveryOutcome discoverFinancialInstitutions(String userSeqNo, String userCi) {
+        return discoverFinancialInstitutions(userSeqNo, userCi, false);
+    }
+    
+    public DiscoveryOutcome discoverFinancialInstitutions(String userSeqNo, String userCi, boolean refresh) {
+        DiscoveryOutcome outcome = discoveryResultCache.get(userCi, refresh,
+            () -> fanOutDiscovery(userSeqNo, userCi));
+        if (outcome.isCached()) {
+            log.info("금융기관 탐색 캐시 적중 - 기관 호출 생략: userSeqNo={}, 기관수={}", 
+                userSeqNo, outcome.getInstitutions().size());
+        }
+        return outcome;
+    }
+    
+    /**
+     * 모든 금융기관에 병렬로 서비스 유무 확인 (전체 마감 시간 내 응답한 기관만 반환)
+     */
+    private DiscoveryOutcome fanOutDiscovery(String userSeqNo, String userCi) {
         log.info("🔍 ============= 금융기관 서비스 탐색 시작 =============");
         log.info("🔍 userSeqNo={}, ci={}...", userSeqNo, userCi.substring(0, Math.min(10, userCi.length())));
         
-        List<FinancialInstitution> institutions = Arrays.asList(
-            new FinancialInstitution("088", "신한은행", shinhanBankUrl, "BANK"),
-            new FinancialInstitution("301", "국민카드", kookminCardUrl, "CARD"),
-            new FinancialInstitution("054", "현대캐피탈", hyundaiCapitalUrl, "CARD"),
-            new FinancialInstitution("221", "삼성화재", samsungFireUrl, "INSURANCE")
-        );
+        List<FinancialInstitution> institutions = getDiscoveryInstitutions();
         
         log.info("🔍 설정된 금융기관 목록:");
         for (FinancialInstitution inst : institutions) {
             log.info("  - {}: {} ({})", inst.code, inst.name, inst.baseUrl);
         }
         
-        List<Map<String, Object>> availableInstitutions = new ArrayList<>();
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(discoveryDeadlineMs);
         
-        // 순차적으로 처리 - DB 저장하지 않음
+        // 기관별 병렬 조회 - DB 저장하지 않음
+        Map<FinancialInstitution, CompletableFuture<TimedDiscoveryResult>> futures = new LinkedHashMap<>();
         for (FinancialInstitution institution : institutions) {
-            try {
+            futures.put(institution, CompletableFuture.supplyAsync(() -> {
+                long institutionStart = System.nanoTime();
                 log.info("금융기관 확인 중: bankCode={}, bankName={}, baseUrl={}", 
                     institution.code, institution.name, institution.baseUrl);
+                // 마감 시각을 HTTP 응답 타임아웃으로 걸어 마감 후에는 작업 스레드가 바로 풀리도록 함
+                InstitutionDiscoveryResult result = InstitutionCallDeadline.run(deadlineNanos,
+                    () -> checkAccountExistence(userSeqNo, userCi, institution));
+                return new TimedDiscoveryResult(result, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - institutionStart));
+            }, Tracer.propagating(executor)));
+        }
+        
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0]))
+                .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            log.warn("금융기관 탐색 마감 시간 초과: deadlineMs={}, 응답 기관만 반환", discoveryDeadlineMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // 개별 기관 오류는 아래에서 기관별로 처리
+        }
+        
+        List<Map<String, Object>> availableInstitutions = new ArrayList<>();
+        List<Map<String, Object>> timings = new ArrayList<>();
+        
+        for (Map.Entry<FinancialInstitution, CompletableFuture<TimedDiscoveryResult>> entry : futures.entrySet()) {
+            FinancialInstitution institution = entry.getKey();
+            CompletableFuture<TimedDiscoveryResult> future = entry.getValue();
+            
+            Map<String, Object> timing = new LinkedHashMap<>();
+            timing.put("bankCode", institution.code);
+            timing.put("bankName", institution.name);
+            
+            if (!future.isDone()) {
+                // 작업 스레드는 InstitutionCallDeadline 응답 타임아웃으로 곧 풀림 (cancel은 결과만 버림)
+                future.cancel(false);
+                timing.put("status", "TIMEOUT");
+                timing.put("elapsedMs", discoveryDeadlineMs);
+                timings.add(timing);
+                log.warn("금융기관 응답 마감 초과: bankCode={}", institution.code);
+                continue;
+            }
+            
+            try {
+                TimedDiscoveryResult timed = future.join();
+                InstitutionDiscoveryResult result = timed.result;
+                timing.put("elapsedMs", timed.elapsedMs);
                 
-                InstitutionDiscoveryResult result = checkAccountExistence(userSeqNo, userCi, institution);
-                if (result.hasService() && result.getResponseData() != null) {
+                if (result.isFailed()) {
+                    // 타임아웃/5xx/통신 오류는 "계좌 없음"이 아니므로 ERROR로 남겨 캐시되지 않도록 함
+                    timing.put("status", "ERROR");
+                    log.warn("금융기관 서비스 확인 오류: bankCode={}, 소요={}ms", institution.code, timed.elapsedMs);
+                } else if (result.hasService() && result.getAccountList() != null) {
                     // 계좌 목록을 상세하게 포함하여 반환
                     Map<String, Object> institutionInfo = new HashMap<>();
                     institutionInfo.put("bankCode", result.getBankCode());
                     institutionInfo.put("bankName", result.getBankName());
-                    String serviceType = getServiceTypeByBankCode(result.getBankCode());
+                    String serviceType = financialInstitutionCatalog.getServiceType(result.getBankCode());
                     institutionInfo.put("serviceType", serviceType);
-                    institutionInfo.put("accountList", extractAccountListFromResponse(result.getResponseData(), serviceType));
-                    institutionInfo.put("accountCount", getAccountCountFromResponse(result.getResponseData()));
-                    institutionInfo.put("accountTypes", getAccountTypesFromResponse(result.getResponseData()));
+                    institutionInfo.put("accountList", result.getAccountList());
+                    institutionInfo.put("accountCount", result.getAccountCount());
+                    institutionInfo.put("accountTypes", result.getAccountTypes());
                     availableInstitutions.add(institutionInfo);
+                    timing.put("status", "FOUND");
                     
-                    log.info("금융기관 서비스 확인 성공: bankCode={}, 계좌수={}", 
-                        institution.code, institutionInfo.get("accountCount"));
+                    log.info("금융기관 서비스 확인 성공: bankCode={}, 계좌수={}, 소요={}ms", 
+                        institution.code, institutionInfo.get("accountCount"), timed.elapsedMs);
                 } else {
-                    log.warn("금융기관 서비스 확인 실패: bankCode={}, hasService={}", 
-                        institution.code, result.hasService());
+                    timing.put("status", "NOT_FOUND");
+                    log.warn("금융기관 서비스 확인 실패: bankCode={}, hasService={}, 소요={}ms", 
+                        institution.code, result.hasService(), timed.elapsedMs);
                 }
             } catch (Exception e) {
+                timing.put("status", "ERROR");
                 log.error("금융기관 서비스 확인 중 오류: bankCode={}, error={}", 
                     institution.code, e.getMessage(), e);
             }
+            timings.add(timing);
         }
         
+        long totalElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("금융기관 탐색 기관별 소요시간: 전체={}ms, {}", totalElapsedMs, timings);
+        
         log.info("금융기관 서비스 탐색 완료: userSeqNo={}, 이용가능기관수={}", 
             userSeqNo, availableInstitutions.size());
         
@@ -320,117 +397,104 @@ public class PhoneVerificationService {
             }
         }
         
-        return availableInstitutions;
+        return new DiscoveryOutcome(availableInstitutions, timings, totalElapsedMs);
     }
     
     /**
-     * 응답에서 계좌 목록 추출 (사용자가 선택할 수 있도록)
+     * 설정(financial.discovery.institutions)에서 탐색 대상 기관 목록 로드
+     * 형식: 설정키:기관코드:기관명:서비스구분 (쉼표 구분)
+     * baseUrl은 financial.institutions.{설정키}.base-url에서 조회
      */
-    private List<Map<String, Object>> extractAccountListFromResponse(Map<String, Object> responseData, String serviceType) {
-        log.info("계좌 목록 추출 시작: serviceType={}, responseData 키들={}", 
-            serviceType, responseData != null ? responseData.keySet() : "null");
-        
-        List<Map<String, Object>> accountList = new ArrayList<>();
-        
-        if (responseData == null) {
-            log.warn("responseData가 null입니다");
-            return accountList;
+    private List<FinancialInstitution> getDiscoveryInstitutions() {
+        List<FinancialInstitution> cached = discoveryInstitutions;
+        if (cached != null) {
+            return cached;
         }
         
-        Object resListObj = responseData.get("res_list");
-        log.info("res_list 객체: {}, 타입: {}", resListObj, resListObj != null ? resListObj.getClass().getSimpleName() : "null");
-        
-        if (!(resListObj instanceof List)) {
-            log.warn("res_list가 List가 아닙니다: {}", resListObj);
-            return accountList;
+        List<FinancialInstitution> institutions = new ArrayList<>();
+        for (String spec : discoveryInstitutionSpecs.split(",")) {
+            String[] parts = spec.trim().split(":");
+            if (parts.length != 4) {
+                log.warn("금융기관 탐색 설정 형식 오류 (무시): {}", spec);
+                continue;
+            }
+            String baseUrl = environment.getProperty("financial.institutions." + parts[0] + ".base-url");
+            institutions.add(new FinancialInstitution(parts[1], parts[2], baseUrl, parts[3].toUpperCase(Locale.ROOT)));
         }
-        
-        List<?> resList = (List<?>) resListObj;
-        log.info("res_list 크기: {}", resList.size());
-        
-        for (int i = 0; i < resList.size(); i++) {
-            Object item = resList.get(i);
-            log.info("계좌 {}번째 아이템: {}", i, item);
-            
-            if (item instanceof Map) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> accountData = (Map<String, Object>) item;
-                
-                log.info("계좌 {}번째 데이터 키들: {}", i, accountData.keySet());
-                
-                Map<String, Object> account = new HashMap<>();
-                
-                // 서비스 유형에 따라 다른 필드 추출
-                switch (serviceType) {
-                    case "BANK":
-                        // bank 서버 응답 형식에 맞게 매핑
-                        // fintech_use_num이 없으면 payer_num을 사용
-                        String fintechUseNum = getString(accountData, "fintech_use_num");
-                        if (fintechUseNum == null || fintechUseNum.isEmpty()) {
-                            fintechUseNum = getString(accountData, "payer_num");
-                        }
-                        
-                        account.put("fintechUseNum", fintechUseNum);
-                        account.put("accountNum", getString(accountData, "account_num"));
-                        account.put("accountNumMasked", getString(accountData, "account_num_masked"));
-                        account.put("accountAlias", getString(accountData, "account_alias"));
-                        account.put("accountHolderName", getString(accountData, "account_holder_name"));
-                        account.put("accountType", getString(accountData, "account_type"));
-                        account.put("bankName", getString(accountData, "bank_name"));
-                        account.put("inquiryAgreeYn", getString(accountData, "inquiry_agree_yn"));
-                        account.put("transferAgreeYn", getString(accountData, "transfer_agree_yn"));
-                        account.put("payerNum", getString(accountData, "payer_num"));
-                        
-                        log.info("BANK 계좌 추출: fintechUseNum={}, accountAlias={}, bankName={}, 원본키들={}", 
-                            account.get("fintechUseNum"), account.get("accountAlias"), account.get("bankName"), accountData.keySet());
-                        break;
-                        
-                    case "CARD":
-                        account.put("fintechUseNum", "CARD_" + getString(accountData, "bank_code_std") + "_" + getString(accountData, "card_id"));
-                        account.put("accountNumMasked", getString(accountData, "card_num_masked"));
-                        account.put("accountAlias", getString(accountData, "card_product_name"));
-                        account.put("accountHolderName", getString(accountData, "card_holder_name"));
-                        account.put("accountType", "CARD");
-                        account.put("bankName", getString(accountData, "card_company_name"));
-                        account.put("inquiryAgreeYn", getString(accountData, "inquiry_agree_yn"));
-                        account.put("transferAgreeYn", getString(accountData, "bill_agree_yn"));
-                        account.put("payerNum", ""); // 카드는 payer_num 없음
-                        break;
-                        
-                    case "INSURANCE":
-                        account.put("fintechUseNum", "INS_" + getString(accountData, "bank_code_std") + "_" + getString(accountData, "contract_id"));
-                        account.put("accountNumMasked", getString(accountData, "contract_num_masked"));
-                        account.put("accountAlias", getString(accountData, "product_name"));
-                        account.put("accountHolderName", getString(accountData, "contract_holder_name"));
-                        account.put("accountType", "INSURANCE");
-                        account.put("bankName", getString(accountData, "insurance_company_name"));
-                        account.put("inquiryAgreeYn", getString(accountData, "inquiry_agree_yn"));
-                        account.put("transferAgreeYn", getString(accountData, "claim_agree_yn"));
-                        account.put("payerNum", ""); // 보험은 payer_num 없음
-                        break;
-                        
-                    default:
-                        // 기본값 (은행 형태)
-                        account.put("fintechUseNum", getString(accountData, "fintech_use_num"));
-                        account.put("accountNum", getString(accountData, "account_num"));
-                        account.put("accountNumMasked", getString(accountData, "account_num_masked"));
-                        account.put("accountAlias", getString(accountData, "account_alias"));
-                        account.put("accountHolderName", getString(accountData, "account_holder_name"));
-                        account.put("accountType", getString(accountData, "account_type"));
-                        account.put("bankName", getString(accountData, "bank_name"));
-                        account.put("inquiryAgreeYn", getString(accountData, "inquiry_agree_yn"));
-                        account.put("transferAgreeYn", getString(accountData, "transfer_agree_yn"));
-                        account.put("payerNum", getString(accountData, "payer_num"));
-                        break;
-                }
-                
-                account.put("selected", false); // 기본값: 선택 안됨
-                accountList.add(account);
-                log.info("계좌 {}번째 추가 완료: {}", i, account);
+        discoveryInstitutions = Collections.unmodifiableList(institutions);
+        return discoveryInstitutions;
+    }
+    
+    /**
+     * 은행 계좌목록 응답에서 계좌 목록 추출 (사용자가 선택할 수 있도록)
+     */
+    private List<Map<String, Object>> toBankAccountList(List<InstitutionAccountListResponse.Account> accounts) {
+        List<Map<String, Object>> accountList = new ArrayList<>(accounts.size());
+        for (InstitutionAccountListResponse.Account accountData : accounts) {
+            // fintech_use_num이 없으면 payer_num을 사용
+            String fintechUseNum = nullToEmpty(accountData.fintechUseNum());
+            if (fintechUseNum.isEmpty()) {
+                fintechUseNum = nullToEmpty(accountData.payerNum());
             }
+            
+            Map<String, Object> account = new HashMap<>();
+            account.put("fintechUseNum", fintechUseNum);
+            account.put("accountNum", nullToEmpty(accountData.accountNum()));
+            account.put("accountNumMasked", nullToEmpty(accountData.accountNumMasked()));
+            account.put("accountAlias", nullToEmpty(accountData.accountAlias()));
+            account.put("accountHolderName", nullToEmpty(accountData.accountHolderName()));
+            account.put("accountType", nullToEmpty(accountData.accountType()));
+            account.put("bankName", nullToEmpty(accountData.bankName()));
+            account.put("inquiryAgreeYn", nullToEmpty(accountData.inquiryAgreeYn()));
+            account.put("transferAgreeYn", nullToEmpty(accountData.transferAgreeYn()));
+            account.put("payerNum", nullToEmpty(accountData.payerNum()));
+            account.put("selected", false); // 기본값: 선택 안됨
+            accountList.add(account);
+        }
+        return accountList;
+    }
+    
+    /**
+     * 카드사 응답에서 카드 목록 추출
+     */
+    private List<Map<String, Object>> toCardAccountList(List<CardDiscoveryResponse.Card> cards) {
+        List<Map<String, Object>> accountList = new ArrayList<>(cards.size());
+        for (CardDiscoveryResponse.Card card : cards) {
+            Map<String, Object> account = new HashMap<>();
+            account.put("fintechUseNum", "CARD_" + nullToEmpty(card.bankCodeStd()) + "_" + nullToEmpty(card.cardId()));
+            account.put("accountNumMasked", nullToEmpty(card.cardNumMasked()));
+            account.put("accountAlias", nullToEmpty(card.cardProductName()));
+            account.put("accountHolderName", nullToEmpty(card.cardHolderName()));
+            account.put("accountType", "CARD");
+            account.put("bankName", nullToEmpty(card.cardCompanyName()));
+            account.put("inquiryAgreeYn", nullToEmpty(card.inquiryAgreeYn()));
+            account.put("transferAgreeYn", nullToEmpty(card.billAgreeYn()));
+            account.put("payerNum", ""); // 카드는 payer_num 없음
+            account.put("selected", false);
+            accountList.add(account);
+        }
+        return accountList;
+    }
+    
+    /**
+     * 보험사 응답에서 보험 계약 목록 추출
+     */
+    private List<Map<String, Object>> toInsuranceAccountList(List<InsuranceDiscoveryResponse.Contract> contracts) {
+        List<Map<String, Object>> accountList = new ArrayList<>(contracts.size());
+        for (InsuranceDiscoveryResponse.Contract contract : contracts) {
+            Map<String, Object> account = new HashMap<>();
+            account.put("fintechUseNum", "INS_" + nullToEmpty(contract.bankCodeStd()) + "_" + nullToEmpty(contract.contractId()));
+            account.put("accountNumMasked", nullToEmpty(contract.contractNumMasked()));
+            account.put("accountAlias", nullToEmpty(contract.productName()));
+            account.put("accountHolderName", nullToEmpty(contract.contractHolderName()));
+            account.put("accountType", "INSURANCE");
+            account.put("bankName", nullToEmpty(contract.insuranceCompanyName()));
+            account.put("inquiryAgreeYn", nullToEmpty(contract.inquiryAgreeYn()));
+            account.put("transferAgreeYn", nullToEmpty(contract.claimAgreeYn()));
+            account.put("payerNum", ""); // 보험은 payer_num 없음
+            account.put("selected", false);
+            accountList.add(account);
         }
-        
-        log.info("계좌 목록 추출 완료: serviceType={}, 총 계좌 수={}", serviceType, accountList.size());
         return accountList;
     }
     
@@ -441,292 +505,139 @@ public class PhoneVerificationService {
         try {
             if (institution.baseUrl == null) {
                 log.warn("금융기관 URL이 설정되지 않음: bankCode={}", institution.code);
-                return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+                return InstitutionDiscoveryResult.notFound(institution.code, institution.name);
             }
             
-            // 각 금융기관별로 실제 서비스 유무 확인
-            switch (institution.code) {
-                case "088": // 신한은행 - 은행 서비스 확인
+            // 설정의 서비스구분에 따라 확인 API 선택 (기관 추가 시 코드 수정 불필요)
+            switch (institution.serviceType) {
+                case "BANK":
                     return checkBankService(userSeqNo, userCi, institution);
-                case "301": // 국민카드 - 카드 서비스 확인
-                case "054": // 현대캐피탈 - 카드 서비스 확인
+                case "CARD":
                     return checkCardService(userSeqNo, userCi, institution);
-                case "221": // 삼성화재 - 보험 서비스 확인
+                case "INSURANCE":
                     return checkInsuranceService(userSeqNo, userCi, institution);
                 default:
-                    log.warn("지원하지 않는 금융기관 코드: {}", institution.code);
-                    return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+                    log.warn("지원하지 않는 서비스구분: bankCode={}, serviceType={}", institution.code, institution.serviceType);
+                    return InstitutionDiscoveryResult.notFound(institution.code, institution.name);
             }
             
         } catch (Exception e) {
             log.info("서비스 유무 확인 중 오류: bankCode={}, bankName={}, error={}", 
                 institution.code, institution.name, e.getMessage());
-            return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+            return InstitutionDiscoveryResult.failed(institution.code, institution.name);
         }
     }
     
     /**
-     * 은행 서비스 유무 확인 (신한은행)
+     * 은행 서비스 유무 확인 (서비스구분 BANK)
      */
     private InstitutionDiscoveryResult checkBankService(String userSeqNo, String userCi, FinancialInstitution institution) {
         try {
             log.info("은행 서비스 확인 시작: bankCode={}, bankName={}", institution.code, institution.name);
             
-            // BankService 방식으로 GET 요청 (query parameter 사용)
-            String url = institution.baseUrl + "/v2.0/account/list?user_ci=" + userCi;
-            
             HttpHeaders headers = createInstitutionAuthHeaders();
             headers.set("X-BANK-CODE", institution.code);
             headers.set("X-SERVICE-TYPE", "BANK");
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            log.info("은행 API 요청: URL={}", url);
-            log.info("은행 API 헤더: {}", headers);
-            
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, Map.class
-            );
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = response.getBody();
-            
-            log.info("은행 API 응답 상태: {}", response.getStatusCode());
-            log.info("🔍 은행 API 응답 본문 전체: {}", responseBody);
+            // BankService 방식으로 GET 요청 (query parameter 사용)
+            InstitutionAccountListResponse response = institutionClient.get(institution.code, institution.baseUrl,
+                "/v2.0/account/list?user_ci=" + userCi, headers, InstitutionAccountListResponse.class);
+            List<InstitutionAccountListResponse.Account> accounts = response.accounts();
             
-            // Pretty Print로 JSON 출력
-            try {
-                String prettyJson = objectMapper.writeValueAsString(responseBody);
-                log.info("✅ 은행 서버 수신 JSON (Pretty Print):");
-                log.info(prettyJson);
-            } catch (Exception e) {
-                log.warn("JSON Pretty Print 실패: {}", e.getMessage());
-            }
+            log.info("은행 API 응답: rsp_code={}, rsp_message={}, res_cnt={}, 계좌수={}", 
+                response.rspCode(), response.rspMessage(), response.resCnt(), accounts.size());
             
-            if (response.getStatusCode().is2xxSuccessful() && responseBody != null) {
-                String rspCode = (String) responseBody.get("rsp_code");
-                String rspMessage = (String) responseBody.get("rsp_message");
-                Object resCnt = responseBody.get("res_cnt");
-                Object resList = responseBody.get("res_list");
+            // 성공 응답이면 은행 서비스 이용 가능
+            if ("A0000".equals(response.rspCode()) && !accounts.isEmpty()) {
+                log.info("✅ 은행 서비스 이용 가능 확인: bankCode={}, 계좌수={}", institution.code, accounts.size());
                 
-                log.info("은행 API 응답 분석:");
-                log.info("  - rsp_code: {}", rspCode);
-                log.info("  - rsp_message: {}", rspMessage);
-                log.info("  - res_cnt: {}", resCnt);
-                log.info("  - res_list 타입: {}", resList != null ? resList.getClass().getSimpleName() : "null");
-                log.info("  - res_list 내용: {}", resList);
-                
-                // 성공 응답이면 은행 서비스 이용 가능
-                boolean hasService = "A0000".equals(rspCode) && resList instanceof List && !((List<?>) resList).isEmpty();
-                
-                if (hasService) {
-                    List<?> accountList = (List<?>) resList;
-                    log.info("✅ 은행 서비스 이용 가능 확인: bankCode={}, 계좌수={}", 
-                        institution.code, accountList.size());
-                    
-                    // 받아온 계좌 목록 상세 로그
-                    for (int i = 0; i < accountList.size(); i++) {
-                        Object account = accountList.get(i);
-                        log.info("📋 계좌 {}번째: {}", i + 1, account);
-                        
-                        // 계좌 정보가 Map이면 더 자세히 로그
-                        if (account instanceof Map) {
-                            Map<String, Object> accountMap = (Map<String, Object>) account;
-                            log.info("  ├─ 계좌번호: {}", accountMap.get("account_num"));
-                            log.info("  ├─ 계좌번호(마스킹): {}", accountMap.get("account_num_masked"));
-                            log.info("  ├─ 예금주명: {}", accountMap.get("account_holder_name"));
-                            log.info("  ├─ 계좌별명: {}", accountMap.get("account_alias"));
-                            log.info("  ├─ 계좌유형: {}", accountMap.get("account_type"));
-                            log.info("  ├─ 은행명: {}", accountMap.get("bank_name"));
-                            log.info("  ├─ 은행코드: {}", accountMap.get("bank_code_std"));
-                            log.info("  ├─ 계좌순번: {}", accountMap.get("account_seq"));
-                            log.info("  ├─ 조회동의여부: {}", accountMap.get("inquiry_agree_yn"));
-                            log.info("  └─ 이체동의여부: {}", accountMap.get("transfer_agree_yn"));
-                        }
+                List<String> accountTypes = new ArrayList<>();
+                for (InstitutionAccountListResponse.Account account : accounts) {
+                    if (account.accountType() != null) {
+                        accountTypes.add(account.accountType());
                     }
-                    
-                    return new InstitutionDiscoveryResult(institution.code, institution.name, true, responseBody);
-                } else {
-                    log.warn("❌ 은행 서비스 이용 불가: bankCode={}, rspCode={}, resList 비어있음={}", 
-                        institution.code, rspCode, resList == null || (resList instanceof List && ((List<?>) resList).isEmpty()));
                 }
+                return new InstitutionDiscoveryResult(institution.code, institution.name, true,
+                    toBankAccountList(accounts), countOf(response.resCnt()), accountTypes);
             }
             
-            return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+            log.warn("❌ 은행 서비스 이용 불가: bankCode={}, rspCode={}, resList 비어있음={}", 
+                institution.code, response.rspCode(), accounts.isEmpty());
+            return InstitutionDiscoveryResult.notFound(institution.code, institution.name);
             
         } catch (Exception e) {
             log.error("은행 서비스 확인 중 오류: bankCode={}, error={}", institution.code, e.getMessage(), e);
-            return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+            return InstitutionDiscoveryResult.failed(institution.code, institution.name);
         }
     }
     
     /**
-     * 카드 서비스 유무 확인 (국민카드, 현대캐피탈)
+     * 카드 서비스 유무 확인 (서비스구분 CARD)
      */
     private InstitutionDiscoveryResult checkCardService(String userSeqNo, String userCi, FinancialInstitution institution) {
         try {
-            // 카드 목록 조회 API 호출
-            String url = institution.baseUrl + "/v2.0/cards?user_ci=" + userCi;
-            
             HttpHeaders headers = createInstitutionAuthHeaders();
             headers.set("X-BANK-CODE", institution.code);
             headers.set("X-SERVICE-TYPE", "CARD");
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            log.info("카드 서비스 확인 요청: bankCode={}, bankName={}", institution.code, institution.name);
             
-            log.info("카드 서비스 확인 요청: bankCode={}, bankName={}, url={}", 
-                institution.code, institution.name, url);
-            
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, Map.class);
+            // 카드 목록 조회 API 호출
+            CardDiscoveryResponse response = institutionClient.get(institution.code, institution.baseUrl,
+                "/v2.0/cards?user_ci=" + userCi, headers, CardDiscoveryResponse.class);
+            List<CardDiscoveryResponse.Card> cards = response.cards();
             
-            log.info("카드 API 응답 상태: {}", response.getStatusCode());
-            log.info("🔍 카드 API 응답 본문 전체: {}", response.getBody());
+            // 성공 응답이면 카드 서비스 이용 가능
+            boolean hasService = "A0000".equals(response.rspCode());
             
-            // Pretty Print로 JSON 출력
-            try {
-                String prettyJson = objectMapper.writeValueAsString(response.getBody());
-                log.info("💳 카드 서버 수신 JSON (Pretty Print):");
-                log.info(prettyJson);
-            } catch (Exception e) {
-                log.warn("JSON Pretty Print 실패: {}", e.getMessage());
-            }
+            log.info("카드 서비스 확인 결과: bankCode={}, rsp_code={}, rsp_message={}, 카드수={}", 
+                institution.code, response.rspCode(), response.rspMessage(), cards.size());
             
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                String rspCode = (String) responseBody.get("rsp_code");
-                String rspMessage = (String) responseBody.get("rsp_message");
-                Object resList = responseBody.get("res_list");
-                
-                // 성공 응답이면 카드 서비스 이용 가능
-                boolean hasService = "A0000".equals(rspCode);
-                
-                log.info("카드 API 응답 분석:");
-                log.info("  - rsp_code: {}", rspCode);
-                log.info("  - rsp_message: {}", rspMessage);
-                log.info("  - res_list: {}", resList);
-                
-                if (hasService && resList instanceof List && !((List<?>) resList).isEmpty()) {
-                    List<?> cardList = (List<?>) resList;
-                    log.info("✅ 카드 서비스 이용 가능 확인: bankCode={}, 카드수={}", 
-                        institution.code, cardList.size());
-                    
-                    // 받아온 카드 목록 상세 로그
-                    for (int i = 0; i < cardList.size(); i++) {
-                        Object card = cardList.get(i);
-                        log.info("💳 카드 {}번째: {}", i + 1, card);
-                        
-                        // 카드 정보가 Map이면 더 자세히 로그
-                        if (card instanceof Map) {
-                            Map<String, Object> cardMap = (Map<String, Object>) card;
-                            log.info("  ├─ 카드번호: {}", cardMap.get("card_num"));
-                            log.info("  ├─ 카드명: {}", cardMap.get("card_name"));
-                            log.info("  ├─ 카드유형: {}", cardMap.get("card_type"));
-                            log.info("  ├─ 발급일: {}", cardMap.get("issue_date"));
-                            log.info("  └─ 상태: {}", cardMap.get("card_status"));
-                        }
-                    }
-                } else {
-                    log.info("❌ 카드 서비스 확인 결과: bankCode={}, bankName={}, hasService={}", 
-                        institution.code, institution.name, hasService);
-                }
-                
-                return new InstitutionDiscoveryResult(institution.code, institution.name, hasService, responseBody);
-            } else {
-                log.info("카드 서비스 확인 결과: bankCode={}, bankName={}, hasService=false - 서비스 없음", 
-                    institution.code, institution.name);
-                return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+            if (!hasService) {
+                return InstitutionDiscoveryResult.notFound(institution.code, institution.name);
             }
+            return new InstitutionDiscoveryResult(institution.code, institution.name, true,
+                toCardAccountList(cards), countOf(response.resCnt()), Collections.emptyList());
             
         } catch (Exception e) {
             log.info("카드 서비스 확인 중 오류: bankCode={}, bankName={}, error={}", 
                 institution.code, institution.name, e.getMessage());
-            return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+            return InstitutionDiscoveryResult.failed(institution.code, institution.name);
         }
     }
     
     /**
-     * 보험 서비스 유무 확인 (삼성화재)
+     * 보험 서비스 유무 확인 (서비스구분 INSURANCE)
      */
     private InstitutionDiscoveryResult checkInsuranceService(String userSeqNo, String userCi, FinancialInstitution institution) {
         try {
-            // 보험 계약 목록 조회 API 호출
-            String url = institution.baseUrl + "/v2.0/insurance/contracts?user_ci=" + userCi;
-            
             HttpHeaders headers = createInstitutionAuthHeaders();
             headers.set("X-BANK-CODE", institution.code);
             headers.set("X-SERVICE-TYPE", "INSURANCE");
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            log.info("보험 서비스 확인 요청: bankCode={}, bankName={}", institution.code, institution.name);
             
-            log.info("보험 서비스 확인 요청: bankCode={}, bankName={}, url={}", 
-                institution.code, institution.name, url);
+            // 보험 계약 목록 조회 API 호출
+            InsuranceDiscoveryResponse response = institutionClient.get(institution.code, institution.baseUrl,
+                "/v2.0/insurance/contracts?user_ci=" + userCi, headers, InsuranceDiscoveryResponse.class);
+            List<InsuranceDiscoveryResponse.Contract> contracts = response.contracts();
             
-            ResponseEntity<Map> response = restTemplate.exchange(
-                url, HttpMethod.GET, entity, Map.class);
+            // 성공 응답이면 보험 서비스 이용 가능
+            boolean hasService = "A0000".equals(response.rspCode());
             
-            log.info("보험 API 응답 상태: {}", response.getStatusCode());
-            log.info("🔍 보험 API 응답 본문 전체: {}", response.getBody());
+            log.info("보험 서비스 확인 결과: bankCode={}, rsp_code={}, rsp_message={}, 계약수={}", 
+                institution.code, response.rspCode(), response.rspMessage(), contracts.size());
             
-            // Pretty Print로 JSON 출력
-            try {
-                String prettyJson = objectMapper.writeValueAsString(response.getBody());
-                log.info("🛡️ 보험 서버 수신 JSON (Pretty Print):");
-                log.info(prettyJson);
-            } catch (Exception e) {
-                log.warn("JSON Pretty Print 실패: {}", e.getMessage());
-            }
-            
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                Map<String, Object> responseBody = response.getBody();
-                String rspCode = (String) responseBody.get("rsp_code");
-                String rspMessage = (String) responseBody.get("rsp_message");
-                Object resList = responseBody.get("res_list");
-                
-                // 성공 응답이면 보험 서비스 이용 가능
-                boolean hasService = "A0000".equals(rspCode);
-                
-                log.info("보험 API 응답 분석:");
-                log.info("  - rsp_code: {}", rspCode);
-                log.info("  - rsp_message: {}", rspMessage);
-                log.info("  - res_list: {}", resList);
-                
-                if (hasService && resList instanceof List && !((List<?>) resList).isEmpty()) {
-                    List<?> insuranceList = (List<?>) resList;
-                    log.info("✅ 보험 서비스 이용 가능 확인: bankCode={}, 보험수={}", 
-                        institution.code, insuranceList.size());
-                    
-                    // 받아온 보험 목록 상세 로그
-                    for (int i = 0; i < insuranceList.size(); i++) {
-                        Object insurance = insuranceList.get(i);
-                        log.info("🛡️ 보험 {}번째: {}", i + 1, insurance);
-                        
-                        // 보험 정보가 Map이면 더 자세히 로그
-                        if (insurance instanceof Map) {
-                            Map<String, Object> insuranceMap = (Map<String, Object>) insurance;
-                            log.info("  ├─ 계약번호: {}", insuranceMap.get("contract_num"));
-                            log.info("  ├─ 보험명: {}", insuranceMap.get("insurance_name"));
-                            log.info("  ├─ 보험유형: {}", insuranceMap.get("insurance_type"));
-                            log.info("  ├─ 가입일: {}", insuranceMap.get("contract_date"));
-                            log.info("  └─ 상태: {}", insuranceMap.get("contract_status"));
-                        }
-                    }
-                } else {
-                    log.info("❌ 보험 서비스 확인 결과: bankCode={}, bankName={}, hasService={}", 
-                        institution.code, institution.name, hasService);
-                }
-                
-                return new InstitutionDiscoveryResult(institution.code, institution.name, hasService, responseBody);
-            } else {
-                log.info("보험 서비스 확인 결과: bankCode={}, bankName={}, hasService=false - 서비스 없음", 
-                    institution.code, institution.name);
-                return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+            if (!hasService) {
+                return InstitutionDiscoveryResult.notFound(institution.code, institution.name);
             }
+            return new InstitutionDiscoveryResult(institution.code, institution.name, true,
+                toInsuranceAccountList(contracts), countOf(response.resCnt()), Collections.emptyList());
             
         } catch (Exception e) {
             log.info("보험 서비스 확인 중 오류: bankCode={}, bankName={}, error={}", 
                 institution.code, institution.name, e.getMessage());
-            return new InstitutionDiscoveryResult(institution.code, institution.name, false, null);
+            return InstitutionDiscoveryResult.failed(institution.code, institution.name);
         }
     }
     
@@ -734,8 +645,7 @@ public class PhoneVerificationService {
      * 기관간 인증 헤더 생성
      */
     private HttpHeaders createInstitutionAuthHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpHeaders headers = InstitutionClient.jsonHeaders();
         headers.set("X-API-KEY", "KFTC_BANK_API_KEY_2024");
         headers.set("X-CLIENT-ID", "KFTC_CENTER");
         return headers;
@@ -759,291 +669,115 @@ public class PhoneVerificationService {
     }
     
     /**
-     * 금융기관 탐색 결과 클래스
+     * 금융기관 탐색 결과 클래스 (응답에서 추출한 계좌 목록/건수/유형만 보관)
+     * failed: 기관 응답을 받지 못함 (타임아웃/5xx/통신 오류) - 계좌 없음(notFound)과 구분
      */
     private static class InstitutionDiscoveryResult {
         private final String bankCode;
         private final String bankName;
         private final boolean hasService;
-        private final Map<String, Object> responseData;
+        private final boolean failed;
+        private final List<Map<String, Object>> accountList;
+        private final String accountCount;
+        private final List<String> accountTypes;
+        
+        InstitutionDiscoveryResult(String bankCode, String bankName, boolean hasService,
+                                   List<Map<String, Object>> accountList, String accountCount, List<String> accountTypes) {
+            this(bankCode, bankName, hasService, false, accountList, accountCount, accountTypes);
+        }
         
-        public InstitutionDiscoveryResult(String bankCode, String bankName, boolean hasService, Map<String, Object> responseData) {
+        private InstitutionDiscoveryResult(String bankCode, String bankName, boolean hasService, boolean failed,
+                                           List<Map<String, Object>> accountList, String accountCount, List<String> accountTypes) {
             this.bankCode = bankCode;
             this.bankName = bankName;
             this.hasService = hasService;
-            this.responseData = responseData;
+            this.failed = failed;
+            this.accountList = accountList;
+            this.accountCount = accountCount;
+            this.accountTypes = accountTypes.isEmpty() ? List.of("일반계좌") : accountTypes;
+        }
+        
+        static InstitutionDiscoveryResult notFound(String bankCode, String bankName) {
+            return new InstitutionDiscoveryResult(bankCode, bankName, false, null, "0", Collections.emptyList());
+        }
+        
+        static InstitutionDiscoveryResult failed(String bankCode, String bankName) {
+            return new InstitutionDiscoveryResult(bankCode, bankName, false, true, null, "0", Collections.emptyList());
         }
         
         public String getBankCode() { return bankCode; }
         public String getBankName() { return bankName; }
         public boolean hasService() { return hasService; }
-        public Map<String, Object> getResponseData() { return responseData; }
-    }
-    
-    /**
-     * 응답에서 계좌 수 추출
-     */
-    private String getAccountCountFromResponse(Map<String, Object> responseData) {
-        if (responseData == null) return "0";
-        
-        Object resCnt = responseData.get("res_cnt");
-        return resCnt != null ? resCnt.toString() : "0";
+        public boolean isFailed() { return failed; }
+        public List<Map<String, Object>> getAccountList() { return accountList; }
+        public String getAccountCount() { return accountCount; }
+        public List<String> getAccountTypes() { return accountTypes; }
     }
     
     /**
-     * 응답에서 계좌 유형 추출
+     * 소요시간을 포함한 기관별 탐색 결과
      */
-    private List<String> getAccountTypesFromResponse(Map<String, Object> responseData) {
-        List<String> accountTypes = new ArrayList<>();
+    private static class TimedDiscoveryResult {
+        private final InstitutionDiscoveryResult result;
+        private final long elapsedMs;
         
-        if (responseData == null) return accountTypes;
-        
-        Object resListObj = responseData.get("res_list");
-        if (resListObj instanceof List) {
-            List<?> resList = (List<?>) resListObj;
-            for (Object item : resList) {
-                if (item instanceof Map) {
-                    Map<?, ?> account = (Map<?, ?>) item;
-                    Object accountType = account.get("account_type");
-                    if (accountType != null) {
-                        accountTypes.add(accountType.toString());
-                    }
-                }
-            }
+        TimedDiscoveryResult(InstitutionDiscoveryResult result, long elapsedMs) {
+            this.result = result;
+            this.elapsedMs = elapsedMs;
         }
-        
-        return accountTypes.isEmpty() ? Arrays.asList("일반계좌") : accountTypes;
     }
     
     /**
-     * 계좌 데이터를 DB에 저장
+     * 금융기관 탐색 결과 (발견 기관 목록 + 기관별 소요시간)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void saveAccountDataToDB(String userSeqNo, Map<String, Object> responseData, String bankCode) {
-        if (responseData == null) {
-            throw new IllegalArgumentException("계좌 데이터가 null입니다");
+    public static class DiscoveryOutcome {
+        private final List<Map<String, Object>> institutions;
+        private final List<Map<String, Object>> timings;
+        private final long totalElapsedMs;
+        private final boolean cached;
+        
+        public DiscoveryOutcome(List<Map<String, Object>> institutions, List<Map<String, Object>> timings, long totalElapsedMs) {
+            this(institutions, timings, totalElapsedMs, false);
         }
         
-        Object resListObj = responseData.get("res_list");
-        if (!(resListObj instanceof List)) {
-            throw new IllegalArgumentException("계좌 목록 데이터가 올바르지 않습니다");
+        private DiscoveryOutcome(List<Map<String, Object>> institutions, List<Map<String, Object>> timings,
+                                 long totalElapsedMs, boolean cached) {
+            this.institutions = institutions;
+            this.timings = timings;
+            this.totalElapsedMs = totalElapsedMs;
+            this.cached = cached;
         }
         
-        List<?> resList = (List<?>) resListObj;
-        log.info("계좌 데이터 저장 시작: userSeqNo={}, bankCode={}, accountCount={}", 
-            userSeqNo, bankCode, resList.size());
-        
-        for (Object item : resList) {
-            if (!(item instanceof Map)) {
-                continue;
-            }
-            
-            @SuppressWarnings("unchecked")
-            Map<String, Object> accountData = (Map<String, Object>) item;
-            
-            String fintechUseNum = getString(accountData, "fintech_use_num");
-            if (fintechUseNum == null || fintechUseNum.trim().isEmpty()) {
-                log.warn("계좌 데이터 저장 스킵: fintech_use_num is empty");
-                continue;
-            }
-            
-            // 디버깅용 로그 추가
-            String accountNum = getString(accountData, "account_num");
-            String accountNumMasked = getString(accountData, "account_num_masked");
-            log.info("계좌 처리 중: fintechUseNum={}, accountNum={}, accountNumMasked={}", 
-                fintechUseNum, accountNum, accountNumMasked);
-            
-            try {
-                AccountMapping existingAccount = accountMappingRepository.findById(fintechUseNum).orElse(null);
-                
-                if (existingAccount == null) {
-                    log.info("새로운 계좌 생성 시작: fintechUseNum={}", fintechUseNum);
-                    AccountMapping newAccount = AccountMapping.builder()
-                        .fintechUseNum(fintechUseNum)
-                        .userSeqNo(userSeqNo)
-                        .orgCode("KFTC")
-                        .bankCodeStd(bankCode)
-                        .accountNum(getString(accountData, "account_num"))
-                        .accountNumMasked(getString(accountData, "account_num_masked"))
-                        .accountAlias(getString(accountData, "account_alias"))
-                        .accountSeq(getString(accountData, "account_seq"))
-                        .accountHolderName(getString(accountData, "account_holder_name"))
-                        .accountType(getString(accountData, "account_type"))
-                        .inquiryAgreeYn(getString(accountData, "inquiry_agree_yn"))
-                        .transferAgreeYn(getString(accountData, "transfer_agree_yn"))
-                        .regState("ACTIVE")
-                        .payerNum(getString(accountData, "payer_num"))
-                        .bankName(getString(accountData, "bank_name"))
-                        .savingsBankName(getString(accountData, "savings_bank_name"))
-                        .inquiryAgreeDtime(getString(accountData, "inquiry_agree_dtime"))
-                        .transferAgreeDtime(getString(accountData, "transfer_agree_dtime"))
-                        .build();
-                    
-                    log.info("계좌 저장 시도: fintechUseNum={}", fintechUseNum);
-                    accountMappingRepository.saveAndFlush(newAccount); // saveAndFlush 사용
-                    log.info("새로운 계좌 정보 저장 완료: fintechUseNum={}", fintechUseNum);
-                } else {
-                    log.info("기존 계좌 업데이트 시작: fintechUseNum={}", fintechUseNum);
-                    existingAccount.updateAccountInfo(
-                        getString(accountData, "account_num"),
-                        getString(accountData, "account_alias"),
-                        getString(accountData, "inquiry_agree_yn"),
-                        getString(accountData, "transfer_agree_yn")
-                    );
-                    existingAccount.updateRegState("ACTIVE");
-                    accountMappingRepository.saveAndFlush(existingAccount); // saveAndFlush 사용
-                    log.info("기존 계좌 정보 업데이트 완료: fintechUseNum={}", fintechUseNum);
-                }
-            } catch (Exception e) {
-                log.error("계좌 데이터 저장 중 오류: fintechUseNum={}, 길이={}, error={}", 
-                    fintechUseNum, fintechUseNum.length(), e.getMessage(), e);
-                throw new RuntimeException("계좌 데이터 저장 실패: " + e.getMessage(), e);
-            }
+        public List<Map<String, Object>> getInstitutions() { return institutions; }
+        public List<Map<String, Object>> getTimings() { return timings; }
+        public long getTotalElapsedMs() { return totalElapsedMs; }
+        public boolean isCached() { return cached; }
+        
+        /**
+         * 모든 기관이 응답했는지 (마감 초과/오류 기관이 없으면 true)
+         */
+        public boolean isComplete() {
+            return timings.stream().allMatch(timing ->
+                "FOUND".equals(timing.get("status")) || "NOT_FOUND".equals(timing.get("status")));
         }
-    }
-    
-    /**
-     * 카드 데이터를 DB에 저장
-     */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void saveCardDataToDB(String userSeqNo, Map<String, Object> responseData, String bankCode) {
-        try {
-            if (responseData == null) return;
-            
-            Object resListObj = responseData.get("res_list");
-            if (!(resListObj instanceof List)) return;
-            
-            List<?> resList = (List<?>) resListObj;
-            for (Object item : resList) {
-                if (item instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> cardData = (Map<String, Object>) item;
-                    
-                    String cardId = getString(cardData, "card_id");
-                    if (cardId == null || cardId.trim().isEmpty()) {
-                        continue; // card_id가 없으면 스킵
-                    }
-                    
-                    // 카드 ID를 fintech_use_num으로 사용 (카드는 별도 ID 체계)
-                    String fintechUseNum = "CARD_" + bankCode + "_" + cardId;
-                    
-                    // 기존 카드 정보가 있는지 확인
-                    AccountMapping existingCard = accountMappingRepository.findById(fintechUseNum).orElse(null);
-                    
-                    if (existingCard == null) {
-                        // 새로운 카드 정보 저장
-                        AccountMapping newCard = AccountMapping.builder()
-                            .fintechUseNum(fintechUseNum)
-                            .userSeqNo(userSeqNo)
-                            .orgCode("KFTC")
-                            .bankCodeStd(bankCode)
-                            .accountNumMasked(getString(cardData, "card_num_masked"))
-                            .accountAlias(getString(cardData, "card_alias"))
-                            .accountSeq("001")
-                            .accountHolderName(getString(cardData, "card_holder_name"))
-                            .accountType("C") // Card
-                            .inquiryAgreeYn("Y")
-                            .transferAgreeYn("N") // 카드는 이체 불가
-                            .regState("ACTIVE")
-                            .payerNum(null) // 카드는 payer_num 없음
-                            .bankName(getBankNameByCode(bankCode))
-                            .savingsBankName("")
-                            .inquiryAgreeDtime(getCurrentDateTime())
-                            .transferAgreeDtime("")
-                            .build();
-                        
-                        accountMappingRepository.save(newCard);
-                        
-                        log.info("카드 정보 저장 완료: userSeqNo={}, cardId={}, bankCode={}", 
-                            userSeqNo, cardId, bankCode);
-                    } else {
-                        existingCard.updateRegState("ACTIVE");
-                        log.info("카드 정보 업데이트 완료: userSeqNo={}, cardId={}, bankCode={}", 
-                            userSeqNo, cardId, bankCode);
-                    }
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("카드 데이터 저장 중 오류: userSeqNo={}, bankCode={}, error={}", 
-                userSeqNo, bankCode, e.getMessage());
+        
+        DiscoveryOutcome asCached() {
+            return new DiscoveryOutcome(institutions, timings, totalElapsedMs, true);
         }
     }
     
     /**
-     * 보험 데이터를 DB에 저장
+     * 응답의 res_cnt (없으면 "0")
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    private void saveInsuranceDataToDB(String userSeqNo, Map<String, Object> responseData, String bankCode) {
-        try {
-            if (responseData == null) return;
-            
-            Object resListObj = responseData.get("res_list");
-            if (!(resListObj instanceof List)) return;
-            
-            List<?> resList = (List<?>) resListObj;
-            for (Object item : resList) {
-                if (item instanceof Map) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> insuranceData = (Map<String, Object>) item;
-                    
-                    String contractId = getString(insuranceData, "contract_id");
-                    if (contractId == null || contractId.trim().isEmpty()) {
-                        continue; // contract_id가 없으면 스킵
-                    }
-                    
-                    // 보험 계약 ID를 fintech_use_num으로 사용
-                    String fintechUseNum = "INS_" + bankCode + "_" + contractId;
-                    
-                    // 기존 보험 정보가 있는지 확인
-                    AccountMapping existingInsurance = accountMappingRepository.findById(fintechUseNum).orElse(null);
-                    
-                    if (existingInsurance == null) {
-                        // 새로운 보험 정보 저장
-                        AccountMapping newInsurance = AccountMapping.builder()
-                            .fintechUseNum(fintechUseNum)
-                            .userSeqNo(userSeqNo)
-                            .orgCode("KFTC")
-                            .bankCodeStd(bankCode)
-                            .accountNumMasked(getString(insuranceData, "contract_num_masked"))
-                            .accountAlias(getString(insuranceData, "product_name"))
-                            .accountSeq("001")
-                            .accountHolderName(getString(insuranceData, "contract_holder_name"))
-                            .accountType("I") // Insurance
-                            .inquiryAgreeYn("Y")
-                            .transferAgreeYn("N") // 보험은 이체 불가
-                            .regState("ACTIVE")
-                            .payerNum(null) // 보험은 payer_num 없음
-                            .bankName(getBankNameByCode(bankCode))
-                            .savingsBankName("")
-                            .inquiryAgreeDtime(getCurrentDateTime())
-                            .transferAgreeDtime("")
-                            .build();
-                        
-                        accountMappingRepository.save(newInsurance);
-                        
-                        log.info("보험 정보 저장 완료: userSeqNo={}, contractId={}, bankCode={}", 
-                            userSeqNo, contractId, bankCode);
-                    } else {
-                        existingInsurance.updateRegState("ACTIVE");
-                        log.info("보험 정보 업데이트 완료: userSeqNo={}, contractId={}, bankCode={}", 
-                            userSeqNo, contractId, bankCode);
-                    }
-                }
-            }
-            
-        } catch (Exception e) {
-            log.error("보험 데이터 저장 중 오류: userSeqNo={}, bankCode={}, error={}", 
-                userSeqNo, bankCode, e.getMessage());
-        }
+    private static String countOf(String resCnt) {
+        return resCnt != null ? resCnt : "0";
     }
     
     /**
-     * Map에서 안전하게 String 값을 추출
+     * 응답 필드 null을 빈 문자열로 변환
      */
-    private String getString(Map<String, Object> map, String key) {
-        Object value = map.get(key);
-        return value != null ? value.toString() : "";
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
     }
     
     private String getCurrentDateTime() {
@@ -1051,7 +785,7 @@ public class PhoneVerificationService {
     }
 
     /**
-     * 사용자가 선택한 계좌들만 DB에 저장
+     * 사용자가 선택한 계좌들만 DB에 저장 (일괄 upsert)
      */
     @Transactional
     public Map<String, Object> saveSelectedAccounts(String userSeqNo, List<Map<String, Object>> selectedAccounts) {
@@ -1060,70 +794,38 @@ public class PhoneVerificationService {
         int savedCount = 0;
         List<String> savedAccountIds = new ArrayList<>();
         List<String> errors = new ArrayList<>();
+        List<AccountMapping> rows = new ArrayList<>(selectedAccounts.size());
         
         for (Map<String, Object> accountInfo : selectedAccounts) {
             try {
                 String fintechUseNum = (String) accountInfo.get("fintechUseNum");
                 String bankCode = (String) accountInfo.get("bankCode");
-                String serviceType = (String) accountInfo.get("serviceType");
                 
                 if (fintechUseNum == null || fintechUseNum.trim().isEmpty()) {
                     errors.add("fintech_use_num이 없는 계좌가 있습니다.");
                     continue;
                 }
                 
-                // 디버깅용 로그 - 선택된 계좌 정보 확인
-                String accountNum = (String) accountInfo.get("accountNum");
-                String accountNumMasked = (String) accountInfo.get("accountNumMasked");
-                log.info("선택된 계좌 처리 중: fintechUseNum={}, accountNum={}, accountNumMasked={}", 
-                    fintechUseNum, accountNum, accountNumMasked);
-                
-                // 기존 계좌 확인
-                AccountMapping existingAccount = accountMappingRepository.findById(fintechUseNum).orElse(null);
-                
-                if (existingAccount == null) {
-                    // 새로운 계좌 저장
-                    AccountMapping newAccount = AccountMapping.builder()
-                        .fintechUseNum(fintechUseNum)
-                        .userSeqNo(userSeqNo)
-                        .orgCode("KFTC")
-                        .bankCodeStd(bankCode)
-                        .accountNum((String) accountInfo.get("accountNum"))
-                        .accountNumMasked((String) accountInfo.get("accountNumMasked"))
-                        .accountAlias((String) accountInfo.get("accountAlias"))
-                        .accountSeq("001")
-                        .accountHolderName((String) accountInfo.get("accountHolderName"))
-                        .accountType((String) accountInfo.get("accountType"))
-                        .inquiryAgreeYn((String) accountInfo.get("inquiryAgreeYn"))
-                        .transferAgreeYn((String) accountInfo.get("transferAgreeYn"))
-                        .regState("ACTIVE")
-                        .payerNum((String) accountInfo.get("payerNum"))
-                        .bankName((String) accountInfo.get("bankName"))
-                        .savingsBankName("")
-                        .inquiryAgreeDtime(getCurrentDateTime())
-                        .transferAgreeDtime(getCurrentDateTime())
-                        .build();
-                    
-                    accountMappingRepository.saveAndFlush(newAccount);
-                    savedCount++;
-                    savedAccountIds.add(fintechUseNum);
-                    
-                    log.info("새로운 계좌 저장 완료: fintechUseNum={}", fintechUseNum);
-                } else {
-                    // 기존 계좌 업데이트
-                    existingAccount.updateAccountInfo(
-                        (String) accountInfo.get("accountNum"),
-                        (String) accountInfo.get("accountAlias"),
-                        (String) accountInfo.get("inquiryAgreeYn"),
-                        (String) accountInfo.get("transferAgreeYn")
-                    );
-                    existingAccount.updateRegState("ACTIVE");
-                    accountMappingRepository.saveAndFlush(existingAccount);
-                    savedCount++;
-                    savedAccountIds.add(fintechUseNum);
-                    
-                    log.info("기존 계좌 업데이트 완료: fintechUseNum={}", fintechUseNum);
-                }
+                rows.add(AccountMapping.builder()
+                    .fintechUseNum(fintechUseNum)
+                    .userSeqNo(userSeqNo)
+                    .orgCode("KFTC")
+                    .bankCodeStd(bankCode)
+                    .accountNum((String) accountInfo.get("accountNum"))
+                    .accountNumMasked((String) accountInfo.get("accountNumMasked"))
+                    .accountAlias((String) accountInfo.get("accountAlias"))
+                    .accountSeq("001")
+                    .accountHolderName((String) accountInfo.get("accountHolderName"))
+                    .accountType((String) accountInfo.get("accountType"))
+                    .inquiryAgreeYn((String) accountInfo.get("inquiryAgreeYn"))
+                    .transferAgreeYn((String) accountInfo.get("transferAgreeYn"))
+                    .regState("ACTIVE")
+                    .payerNum((String) accountInfo.get("payerNum"))
+                    .bankName((String) accountInfo.get("bankName"))
+                    .savingsBankName("")
+                    .inquiryAgreeDtime(getCurrentDateTime())
+                    .transferAgreeDtime(getCurrentDateTime())
+                    .build());
                 
             } catch (Exception e) {
                 String error = "계좌 저장 실패: " + e.getMessage();
@@ -1132,6 +834,16 @@ public class PhoneVerificationService {
             }
         }
         
+        try {
+            AccountMappingBulkWriter.Result saved =
+                accountMappingBulkWriter.upsert(rows, AccountMappingBulkWriter.UPDATE_ACCOUNT_INFO);
+            savedCount = saved.inserted() + saved.updated();
+            rows.forEach(row -> savedAccountIds.add(row.getFintechUseNum()));
+        } catch (Exception e) {
+            errors.add("계좌 저장 실패: " + e.getMessage());
+            log.error("계좌 일괄 저장 중 오류: userSeqNo={}, error={}", userSeqNo, e.getMessage(), e);
+        }
+        
         // 결과 반환
         Map<String, Object> result = new HashMap<>();
         result.put("success", errors.isEmpty());
@@ -1146,32 +858,6 @@ public class PhoneVerificationService {
         return result;
     }
 
-    /**
-     * 은행 코드로 서비스 타입 반환
-     */
-    private String getServiceTypeByBankCode(String bankCode) {
-        switch (bankCode) {
-            case "088": return "BANK";      // 신한은행
-            case "301": return "CARD";      // 국민카드
-            case "054": return "CARD";      // 현대캐피탈
-            case "221": return "INSURANCE"; // 삼성화재
-            default: return "UNKNOWN";
-        }
-    }
-
-    /**
-     * 은행 코드로 은행명 반환
-     */
-    private String getBankNameByCode(String bankCode) {
-        switch (bankCode) {
-            case "088": return "신한은행";
-            case "301": return "국민카드";
-            case "054": return "현대캐피탈";
-            case "221": return "삼성화재";
-            default: return "알 수 없는 기관";
-        }
-    }
-
     /**
      * 선택된 금융기관들과 연동 (기존 메서드 - 호환성 유지)
      */
@@ -1203,14 +889,14 @@ public class PhoneVerificationService {
                         .build();
                     
                     consentRepository.save(consent);
-                    linkedInstitutions.add(bankCode + ":" + getBankNameByCode(bankCode));
+                    linkedInstitutions.add(bankCode + ":" + financialInstitutionCatalog.getBankName(bankCode, "알 수 없는 기관"));
                     
                     log.info("금융기관 연동 완료: userSeqNo={}, bankCode={}, bankName={}", 
-                        userSeqNo, bankCode, getBankNameByCode(bankCode));
+                        userSeqNo, bankCode, financialInstitutionCatalog.getBankName(bankCode, "알 수 없는 기관"));
                 } else {
                     log.info("이미 연동된 금융기관: userSeqNo={}, bankCode={}, bankName={}", 
-                        userSeqNo, bankCode, getBankNameByCode(bankCode));
-                    linkedInstitutions.add(bankCode + ":" + getBankNameByCode(bankCode) + " (기존연동)");
+                        userSeqNo, bankCode, financialInstitutionCatalog.getBankName(bankCode, "알 수 없는 기관"));
+                    linkedInstitutions.add(bankCode + ":" + financialInstitutionCatalog.getBankName(bankCode, "알 수 없는 기관") + " (기존연동)");
                 }
                 
             } catch (Exception e) {
@@ -1224,4 +910,16 @@ public class PhoneVerificationService {
         
         return linkedInstitutions;
     }
-} 
\ No newline at end of file
+    
+    /**
+     * 금융기관 탐색 풀 상태 (메트릭 게이지용)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("pool_size", executor.getPoolSize());
+        stats.put("active_threads", executor.getActiveCount());
+        stats.put("queue_depth", executor.getQueue().size());
+        stats.put("completed_tasks", executor.getCompletedTaskCount());
+        return stats;
+    }
+}
@@ -0,0 +1,114 @@
+package com.kftc.user.service;
+
+import com.kftc.common.exception.BusinessException;
+import com.kftc.common.exception.ErrorCode;
+import com.kftc.common.ratelimit.SlidingWindowRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 휴대폰 인증 발송/확인 요청 제한
+ *
+ * 휴대폰번호별, 클라이언트 IP별 예산을 발송과 확인에 따로 둔다.
+ * 컨트롤러 진입 직후 호출되어 DB 조회나 SMS 발송 전에 429로 거절한다.
+ * 클라이언트 IP는 request.getRemoteAddr() 기준이므로 프록시 뒤에서는
+ * server.forward-headers-strategy 설정으로 실제 IP가 들어오도록 한다.
+ */
+@Slf4j
+@Component
+public class PhoneVerificationThrottle {
+
+    private final boolean enabled;
+    private final SlidingWindowRateLimiter sendByPhone;
+    private final SlidingWindowRateLimiter sendByIp;
+    private final SlidingWindowRateLimiter verifyByPhone;
+    private final SlidingWindowRateLimiter verifyByIp;
+
+    private final AtomicLong sendRejectedCount = new AtomicLong();
+    private final AtomicLong verifyRejectedCount = new AtomicLong();
+
+    public PhoneVerificationThrottle(@Value("${phone-verification.throttle.enabled:true}") boolean enabled,
+                                     @Value("${phone-verification.throttle.max-keys:100000}") int maxKeys,
+                                     @Value("${phone-verification.throttle.send.window-ms:600000}") long sendWindowMs,
+                                     @Value("${phone-verification.throttle.send.per-phone:5}") int sendPerPhone,
+                                     @Value("${phone-verification.throttle.send.per-ip:20}") int sendPerIp,
+                                     @Value("${phone-verification.throttle.verify.window-ms:600000}") long verifyWindowMs,
+                                     @Value("${phone-verification.throttle.verify.per-phone:10}") int verifyPerPhone,
+                                     @Value("${phone-verification.throttle.verify.per-ip:50}") int verifyPerIp) {
+        this.enabled = enabled;
+        this.sendByPhone = new SlidingWindowRateLimiter(sendPerPhone, sendWindowMs, maxKeys);
+        this.sendByIp = new SlidingWindowRateLimiter(sendPerIp, sendWindowMs, maxKeys);
+        this.verifyByPhone = new SlidingWindowRateLimiter(verifyPerPhone, verifyWindowMs, maxKeys);
+        this.verifyByIp = new SlidingWindowRateLimiter(verifyPerIp, verifyWindowMs, maxKeys);
+    }
+
+    /**
+     * 인증 코드 발송 요청 검사 (초과 시 TOO_MANY_REQUESTS)
+     */
+    public void checkSend(String phoneNumber, String clientIp) {
+        check(sendByIp, sendByPhone, phoneNumber, clientIp, sendRejectedCount, "발송");
+    }
+
+    /**
+     * 인증 코드 확인 요청 검사 (초과 시 TOO_MANY_REQUESTS)
+     */
+    public void checkVerify(String phoneNumber, String clientIp) {
+        check(verifyByIp, verifyByPhone, phoneNumber, clientIp, verifyRejectedCount, "확인");
+    }
+
+    private void check(SlidingWindowRateLimiter byIp, SlidingWindowRateLimiter byPhone,
+                       String phoneNumber, String clientIp, AtomicLong rejectedCount, String action) {
+        if (!enabled) {
+            return;
+        }
+        // 두 예산을 모두 확인한 뒤 소모 (막힌 번호 요청이 IP 예산을 깎지 않도록)
+        boolean allowed = (clientIp == null || byIp.wouldAllow(clientIp))
+                && (phoneNumber == null || byPhone.wouldAllow(phoneNumber));
+        if (allowed) {
+            // IP 예산을 먼저 소모해 번호를 바꿔가며 보내는 요청이 번호별 키를 늘리지 못하게 함
+            allowed = clientIp == null || byIp.tryAcquire(clientIp);
+            if (allowed && phoneNumber != null && !byPhone.tryAcquire(phoneNumber)) {
+                // 확인과 소모 사이에 동시 요청이 번호 예산을 먼저 쓴 경우 IP 예산 반환
+                if (clientIp != null) {
+                    byIp.release(clientIp);
+                }
+                allowed = false;
+            }
+        }
+        if (!allowed) {
+            rejectedCount.incrementAndGet();
+            log.warn("휴대폰 인증 {} 요청 제한 초과: phoneNumber={}, clientIp={}", action, phoneNumber, clientIp);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS, "휴대폰 인증 " + action + " 요청 제한 초과");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${phone-verification.throttle.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        sendByPhone.purgeExpired();
+        sendByIp.purgeExpired();
+        verifyByPhone.purgeExpired();
+        verifyByIp.purgeExpired();
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("send_rejected", sendRejectedCount.get());
+        stats.put("verify_rejected", verifyRejectedCount.get());
+        stats.put("tracked_send_phones", sendByPhone.size());
+        stats.put("tracked_send_ips", sendByIp.size());
+        stats.put("tracked_verify_phones", verifyByPhone.size());
+        stats.put("tracked_verify_ips", verifyByIp.size());
+        stats.put("evicted_keys", sendByPhone.evictions() + sendByIp.evictions()
+                + verifyByPhone.evictions() + verifyByIp.evictions());
+        stats.put("rejected_new_keys", sendByPhone.newKeyRejections() + sendByIp.newKeyRejections()
+                + verifyByPhone.newKeyRejections() + verifyByIp.newKeyRejections());
+        return stats;
+    }
+}
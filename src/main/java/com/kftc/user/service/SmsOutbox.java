@@ -0,0 +1,224 @@
+package com.kftc.user.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SMS 발송 대기열 (outbox)
+ *
+ * 요청 스레드는 bounded 큐에 적재만 하고 즉시 반환하며,
+ * 전용 스레드가 묶음 단위로 SMS 제공자에 발송한다.
+ * 실패한 메시지는 지수 백오프 + jitter 후 다시 큐에 넣고, 최대 시도 횟수를 넘으면 버린다.
+ */
+@Slf4j
+@Component
+public class SmsOutbox {
+
+    private final SmsProvider provider;
+    private final BlockingQueue<Pending> queue;
+    private final ScheduledExecutorService retryScheduler;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    private final AtomicLong enqueuedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong retriedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong totalSendNanos = new AtomicLong();
+    private final AtomicLong maxSendNanos = new AtomicLong();
+    private final AtomicLong retryPending = new AtomicLong();
+
+    private volatile boolean running = true;
+    private Thread worker;
+
+    public SmsOutbox(List<SmsProvider> providers,
+                     @Value("${sms.provider:coolsms}") String providerName,
+                     @Value("${sms.outbox.queue-capacity:10000}") int queueCapacity,
+                     @Value("${sms.outbox.batch-size:100}") int batchSize,
+                     @Value("${sms.outbox.flush-interval-ms:200}") long flushIntervalMs,
+                     @Value("${sms.outbox.max-attempts:3}") int maxAttempts,
+                     @Value("${sms.outbox.base-backoff-ms:500}") long baseBackoffMs,
+                     @Value("${sms.outbox.max-backoff-ms:10000}") long maxBackoffMs) {
+        this.provider = providers.stream()
+                .filter(candidate -> candidate.name().equals(providerName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("알 수 없는 SMS 제공자: " + providerName));
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.retryScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "sms-outbox-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = new Thread(this::runLoop, "sms-outbox-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+        log.info("SMS 발송 대기열 시작 - provider: {}, capacity: {}, batchSize: {}",
+                provider.name(), queue.remainingCapacity(), batchSize);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        retryScheduler.shutdownNow();
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // 종료 시 남은 메시지는 재시도 없이 한 번만 발송
+        List<Pending> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            dispatch(remaining, false);
+        }
+        log.info("SMS 발송 대기열 종료 - sent: {}, failed: {}, rejected: {}",
+                sentCount.get(), failedCount.get(), rejectedCount.get());
+    }
+
+    /**
+     * SMS 발송 요청 적재 (논블로킹)
+     *
+     * @return 큐 적재 성공 여부 (큐가 가득 찼거나 종료 중이면 false)
+     */
+    public boolean enqueue(String to, String text) {
+        if (running && queue.offer(new Pending(new SmsProvider.SmsMessage(to, text), 1))) {
+            enqueuedCount.incrementAndGet();
+            return true;
+        }
+        rejectedCount.incrementAndGet();
+        log.warn("SMS 발송 대기열 {}로 요청 거절: to={}", running ? "포화" : "종료", to);
+        return false;
+    }
+
+    private void runLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                dispatch(batch, true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("SMS 발송 대기열 처리 중 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void dispatch(List<Pending> batch, boolean retryOnFailure) {
+        List<SmsProvider.SmsMessage> messages = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            messages.add(pending.message());
+        }
+
+        List<SmsProvider.SmsMessage> failed;
+        long start = System.nanoTime();
+        try {
+            failed = provider.send(messages);
+        } catch (Exception e) {
+            log.warn("SMS 묶음 발송 실패: count={}, error={}", messages.size(), e.getMessage());
+            failed = messages;
+        }
+        long elapsed = System.nanoTime() - start;
+        batchCount.incrementAndGet();
+        totalSendNanos.addAndGet(elapsed);
+        maxSendNanos.accumulateAndGet(elapsed, Math::max);
+
+        // 같은 메시지 객체 기준으로 실패 건 식별
+        Set<SmsProvider.SmsMessage> failedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        failedSet.addAll(failed);
+        for (Pending pending : batch) {
+            if (!failedSet.contains(pending.message())) {
+                sentCount.incrementAndGet();
+            } else if (retryOnFailure && pending.attempt() < maxAttempts) {
+                scheduleRetry(pending);
+            } else {
+                failedCount.incrementAndGet();
+                log.error("SMS 발송 최종 실패: to={}, attempts={}", pending.message().to(), pending.attempt());
+            }
+        }
+    }
+
+    private void scheduleRetry(Pending pending) {
+        long delayMs = backoffWithJitter(pending.attempt());
+        Pending next = new Pending(pending.message(), pending.attempt() + 1);
+        retriedCount.incrementAndGet();
+        retryPending.incrementAndGet();
+        try {
+            retryScheduler.schedule(() -> {
+                retryPending.decrementAndGet();
+                if (!queue.offer(next)) {
+                    failedCount.incrementAndGet();
+                    log.error("SMS 재시도 적재 실패(대기열 포화): to={}", next.message().to());
+                }
+            }, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            retryPending.decrementAndGet();
+            failedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 지수 백오프의 절반은 고정, 절반은 무작위 (동시 재시도 분산)
+     */
+    private long backoffWithJitter(int attempt) {
+        long exponential = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempt - 1, 20));
+        long half = exponential / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public Map<String, Object> getStats() {
+        long batches = batchCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("provider", provider.name());
+        stats.put("queue_depth", queue.size());
+        stats.put("retry_pending", retryPending.get());
+        stats.put("enqueued", enqueuedCount.get());
+        stats.put("rejected", rejectedCount.get());
+        stats.put("sent", sentCount.get());
+        stats.put("retried", retriedCount.get());
+        stats.put("failed", failedCount.get());
+        stats.put("batches", batches);
+        stats.put("avg_send_ms", batches == 0 ? 0.0 : totalSendNanos.get() / 1_000_000.0 / batches);
+        stats.put("max_send_ms", maxSendNanos.get() / 1_000_000.0);
+        return stats;
+    }
+
+    private record Pending(SmsProvider.SmsMessage message, int attempt) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.kftc.user.service;
+
+import java.util.List;
+
+/**
+ * SMS 발송 제공자 (sms.provider 설정값과 name()이 같은 구현을 사용)
+ */
+public interface SmsProvider {
+
+    String name();
+
+    /**
+     * 메시지 묶음 발송
+     *
+     * @return 발송에 실패한 메시지 (없으면 빈 목록)
+     * @throws Exception 묶음 전체 발송 실패
+     */
+    List<SmsMessage> send(List<SmsMessage> messages) throws Exception;
+
+    record SmsMessage(String to, String text) {
+    }
+}
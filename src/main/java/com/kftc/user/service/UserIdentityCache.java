@@ -0,0 +1,123 @@
+package com.kftc.user.service;
+
+import com.kftc.user.entity.User;
+import com.kftc.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자일련번호 ↔ CI 매핑 near cache
+ *
+ * 카드/보험 호출마다 반복되는 user_seq_no → user_ci 조회를 메모리에서 처리한다.
+ * 두 방향 모두 LRU로 최대 건수를 제한하며, 미스 시 DB에서 읽어 양방향을 함께 채운다.
+ * 사용자 상태가 바뀌면 UserService에서 invalidate 한다.
+ */
+@Slf4j
+@Component
+public class UserIdentityCache {
+
+    private final UserRepository userRepository;
+    private final Map<String, String> ciBySeqNo;
+    private final Map<String, String> seqNoByCi;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    public UserIdentityCache(UserRepository userRepository,
+                             @Value("${user-identity-cache.max-entries:10000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.ciBySeqNo = lruMap(maxEntries);
+        this.seqNoByCi = lruMap(maxEntries);
+    }
+
+    private static Map<String, String> lruMap(int maxEntries) {
+        return new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 사용자일련번호로 CI 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<String> findUserCi(String userSeqNo) {
+        String ci;
+        synchronized (ciBySeqNo) {
+            ci = ciBySeqNo.get(userSeqNo);
+        }
+        if (ci != null) {
+            hitCount.incrementAndGet();
+            return Optional.of(ci);
+        }
+        missCount.incrementAndGet();
+        return userRepository.findByUserSeqNo(userSeqNo).map(this::put).map(User::getUserCi);
+    }
+
+    /**
+     * CI로 사용자일련번호 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<String> findUserSeqNo(String userCi) {
+        String seqNo;
+        synchronized (seqNoByCi) {
+            seqNo = seqNoByCi.get(userCi);
+        }
+        if (seqNo != null) {
+            hitCount.incrementAndGet();
+            return Optional.of(seqNo);
+        }
+        missCount.incrementAndGet();
+        return userRepository.findByUserCi(userCi).map(this::put).map(User::getUserSeqNo);
+    }
+
+    /**
+     * 사용자 정보 변경 시 매핑 제거
+     */
+    public void invalidate(String userSeqNo) {
+        String ci;
+        synchronized (ciBySeqNo) {
+            ci = ciBySeqNo.remove(userSeqNo);
+        }
+        if (ci != null) {
+            synchronized (seqNoByCi) {
+                seqNoByCi.remove(ci);
+            }
+        }
+        invalidationCount.incrementAndGet();
+    }
+
+    private User put(User user) {
+        if (user.getUserSeqNo() == null || user.getUserCi() == null) {
+            return user;
+        }
+        synchronized (ciBySeqNo) {
+            ciBySeqNo.put(user.getUserSeqNo(), user.getUserCi());
+        }
+        synchronized (seqNoByCi) {
+            seqNoByCi.put(user.getUserCi(), user.getUserSeqNo());
+        }
+        return user;
+    }
+
+    public Map<String, Object> getStats() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (ciBySeqNo) {
+            stats.put("size", ciBySeqNo.size());
+        }
+        stats.put("hits", hits);
+        stats.put("misses", missCount.get());
+        stats.put("hit_ratio", total == 0 ? 0.0 : (double) hits / total);
+        stats.put("invalidations", invalidationCount.get());
+        return stats;
+    }
+}
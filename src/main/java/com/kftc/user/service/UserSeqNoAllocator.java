@@ -0,0 +1,188 @@
+package com.kftc.user.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자일련번호(user_seq_no) 발급기
+ *
+ * DB 시퀀스(INCREMENT BY = 블록 크기)에서 NEXTVAL 한 번으로 블록 시작값을 받아
+ * [시작값, 시작값 + 블록 크기) 구간을 메모리에서 순서대로 발급한다.
+ * 노드마다 서로 다른 블록을 받으므로 여러 서버에서 동시에 발급해도 중복되지 않는다.
+ * (블록을 다 쓰기 전에 재기동하면 남은 번호는 건너뛴다)
+ *
+ * 시퀀스가 없으면 기동 시 한 번 생성한다. Oracle DDL은 진행 중인 트랜잭션을 암묵적으로 커밋하므로
+ * 가입 트랜잭션 안에서는 시퀀스 존재 여부만 확인하고 CREATE SEQUENCE는 실행하지 않는다.
+ */
+@Slf4j
+@Component
+public class UserSeqNoAllocator {
+
+    static final long FIRST_SEQ_NO = 1000000001L;
+    static final long MAX_SEQ_NO = 9999999999L;
+    private static final int SEQ_NO_LENGTH = 10;
+
+    private final LongSupplier blockStartSupplier;
+    private final int blockSize;
+
+    private long next;
+    private long limit;
+
+    private final AtomicLong issuedCount = new AtomicLong();
+    private final AtomicLong blockFetchCount = new AtomicLong();
+
+    @Autowired
+    public UserSeqNoAllocator(JdbcTemplate jdbcTemplate,
+                              @Value("${user-seq-no.sequence-name:kftc_user_seq_no_seq}") String sequenceName,
+                              @Value("${user-seq-no.block-size:50}") int blockSize) {
+        this(new OracleSequenceBlockSource(jdbcTemplate, sequenceName, blockSize), blockSize);
+    }
+
+    /**
+     * @param blockStartSupplier 호출마다 겹치지 않는 블록 시작값을 돌려주는 공급자
+     * @param blockSize 블록 크기 (시퀀스 INCREMENT BY와 같아야 함)
+     */
+    UserSeqNoAllocator(LongSupplier blockStartSupplier, int blockSize) {
+        this.blockStartSupplier = blockStartSupplier;
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * 기동 완료 시 시퀀스 준비 (업무 트랜잭션 밖에서 DDL 실행, 실패해도 기동은 계속)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prepareSequence() {
+        if (blockStartSupplier instanceof OracleSequenceBlockSource source) {
+            try {
+                source.ensureSequence(true);
+            } catch (RuntimeException e) {
+                log.warn("사용자일련번호 시퀀스 준비 실패 - 첫 발급 시 다시 확인: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 다음 사용자일련번호 (10자리 숫자 문자열)
+     */
+    public String nextUserSeqNo() {
+        return format(nextValue());
+    }
+
+    synchronized long nextValue() {
+        if (next >= limit) {
+            long start = blockStartSupplier.getAsLong();
+            blockFetchCount.incrementAndGet();
+            next = start;
+            limit = start + blockSize;
+            log.debug("사용자일련번호 블록 할당: {} ~ {}", start, limit - 1);
+        }
+        long value = next++;
+        if (value > MAX_SEQ_NO) {
+            throw new IllegalStateException("사용자일련번호가 10자리 범위를 초과했습니다: " + value);
+        }
+        issuedCount.incrementAndGet();
+        return value;
+    }
+
+    /**
+     * String.format 없이 10자리 0 패딩 문자열 생성
+     */
+    static String format(long value) {
+        char[] digits = new char[SEQ_NO_LENGTH];
+        long remaining = value;
+        for (int i = SEQ_NO_LENGTH - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + (int) (remaining % 10));
+            remaining /= 10;
+        }
+        return new String(digits);
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("issued", issuedCount.get());
+        stats.put("block_fetches", blockFetchCount.get());
+        stats.put("block_size", blockSize);
+        return stats;
+    }
+
+    /**
+     * Oracle 시퀀스 기반 블록 공급자 - 시퀀스가 없으면 기동 시 기존 최대 번호 다음 값부터 생성
+     */
+    private static class OracleSequenceBlockSource implements LongSupplier {
+
+        private final JdbcTemplate jdbcTemplate;
+        private final String sequenceName;
+        private final int blockSize;
+        private volatile boolean ensured;
+
+        OracleSequenceBlockSource(JdbcTemplate jdbcTemplate, String sequenceName, int blockSize) {
+            if (!sequenceName.matches("[A-Za-z][A-Za-z0-9_]{0,127}")) {
+                throw new IllegalArgumentException("잘못된 시퀀스 이름: " + sequenceName);
+            }
+            this.jdbcTemplate = jdbcTemplate;
+            this.sequenceName = sequenceName;
+            this.blockSize = Math.max(1, blockSize);
+        }
+
+        @Override
+        public long getAsLong() {
+            if (!ensured) {
+                // 호출자 트랜잭션 안일 수 있으므로 DDL 없이 확인만
+                ensureSequence(false);
+            }
+            Long start = jdbcTemplate.queryForObject("SELECT " + sequenceName + ".NEXTVAL FROM DUAL", Long.class);
+            if (start == null) {
+                throw new IllegalStateException("시퀀스 값 조회 실패: " + sequenceName);
+            }
+            return start;
+        }
+
+        /**
+         * @param create 시퀀스가 없을 때 생성할지 (트랜잭션 밖인 기동 시에만 true)
+         */
+        synchronized void ensureSequence(boolean create) {
+            if (ensured) {
+                return;
+            }
+            List<Long> increments = jdbcTemplate.queryForList(
+                    "SELECT increment_by FROM user_sequences WHERE sequence_name = UPPER(?)", Long.class, sequenceName);
+            if (!increments.isEmpty() && increments.get(0) != blockSize) {
+                // INCREMENT BY가 블록 크기보다 작으면 노드 간 블록이 겹침
+                throw new IllegalStateException("시퀀스 증가값(" + increments.get(0) +
+                        ")과 블록 크기(" + blockSize + ")가 다릅니다: " + sequenceName);
+            }
+            if (increments.isEmpty() && !create) {
+                throw new IllegalStateException("사용자일련번호 시퀀스가 없습니다 (기동 시 생성 실패): " + sequenceName);
+            }
+            if (increments.isEmpty()) {
+                // 기존 MAX() + 1 방식으로 발급된 번호 다음부터 시작 (최초 1회)
+                Long maxSeqNo = jdbcTemplate.queryForObject(
+                        "SELECT MAX(TO_NUMBER(user_seq_no)) FROM kftc_users " +
+                        "WHERE REGEXP_LIKE(user_seq_no, '^[0-9]{10}$')", Long.class);
+                long startWith = Math.max(FIRST_SEQ_NO, maxSeqNo == null ? 0 : maxSeqNo + 1);
+                try {
+                    jdbcTemplate.execute("CREATE SEQUENCE " + sequenceName +
+                            " START WITH " + startWith + " INCREMENT BY " + blockSize + " NOCACHE");
+                    log.info("사용자일련번호 시퀀스 생성: name={}, startWith={}, blockSize={}",
+                            sequenceName, startWith, blockSize);
+                } catch (DataAccessException e) {
+                    // 다른 노드가 먼저 생성한 경우 (ORA-00955)
+                    log.info("사용자일련번호 시퀀스 생성 생략 (이미 존재): {}", e.getMessage());
+                }
+            }
+            ensured = true;
+        }
+    }
+}
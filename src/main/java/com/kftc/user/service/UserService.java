@@ -5,20 +5,18 @@ import com.kftc.common.exception.EntityNotFoundException;
 import com.kftc.common.exception.ErrorCode;
 import java.util.UUID;
 import com.kftc.user.dto.KftcTokenResponse;
+import com.kftc.user.dto.UserMeAccountRow;
+import com.kftc.user.dto.UserMeConsentRow;
 import com.kftc.user.dto.UserMeResponse;
 import com.kftc.user.dto.UserRegisterResponse;
-import com.kftc.user.entity.AccountMapping;
 import com.kftc.user.entity.User;
-import com.kftc.user.entity.UserConsentFinancialInstitution;
-import com.kftc.user.entity.FinancialInstitution;
-import com.kftc.user.repository.AccountMappingRepository;
 import com.kftc.user.repository.UserConsentFinancialInstitutionRepository;
-import com.kftc.user.repository.FinancialInstitutionRepository;
 import com.kftc.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -36,15 +34,21 @@ public class UserService {
     
     private final UserRepository userRepository;
     private final KftcInternalService kftcInternalService;
-    private final AccountMappingRepository accountMappingRepository;
     private final UserConsentFinancialInstitutionRepository userConsentFinancialInstitutionRepository;
-    private final FinancialInstitutionRepository financialInstitutionRepository;
+    private final FinancialInstitutionCatalog financialInstitutionCatalog;
+    private final UserSeqNoAllocator userSeqNoAllocator;
+    private final UserIdentityCache userIdentityCache;
     
     /**
      * CI로 사용자 생성 또는 조회 (오픈뱅킹 플로우용)  
      */
     @Transactional
     public String createOrGetUserByCi(String ci) {
+        // 갱신할 정보가 없으면 캐시된 매핑으로 바로 반환
+        Optional<String> cachedUserSeqNo = userIdentityCache.findUserSeqNo(ci);
+        if (cachedUserSeqNo.isPresent()) {
+            return cachedUserSeqNo.get();
+        }
         return createOrGetUserByCi(ci, null, null);
     }
     
@@ -75,6 +79,7 @@ public class UserService {
                         .build();
                 
                 userRepository.save(updatedUser);
+                userIdentityCache.invalidate(user.getUserSeqNo());
                 log.info("기존 사용자 정보 업데이트 완료: userSeqNo={}", user.getUserSeqNo());
             }
             
@@ -82,7 +87,7 @@ public class UserService {
         }
         
         // 새 사용자 생성
-        String userSeqNo = generateNextUserSeqNo();
+        String userSeqNo = userSeqNoAllocator.nextUserSeqNo();
         User newUser = User.builder()
                 .userSeqNo(userSeqNo)
                 .userCi(ci)
@@ -155,30 +160,6 @@ public class UserService {
         throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "데이터 저장 중 오류가 발생했습니다.");
     }
     
-    private String generateNextUserSeqNo() {
-        Optional<String> maxUserSeqNo = userRepository.findMaxUserSeqNo();
-        
-        if (maxUserSeqNo.isPresent()) {
-            String maxSeqNo = maxUserSeqNo.get();
-            try {
-                // 숫자가 아닌 문자열(목업 데이터)이 있는 경우 처리
-                if (!maxSeqNo.matches("\\d+")) {
-                    log.warn("목업 데이터 발견: {}. 새로운 번호 체계로 시작합니다.", maxSeqNo);
-                    return "1000000001"; // 시작 번호
-                }
-                
-                long nextSeqNo = Long.parseLong(maxSeqNo) + 1;
-                return String.format("%010d", nextSeqNo);
-            } catch (NumberFormatException e) {
-                log.error("사용자 번호 변환 실패: {}. 새로운 번호 체계로 시작합니다.", maxSeqNo);
-                return "1000000001"; // 시작 번호
-            }
-        } else {
-            return "1000000001"; // 시작 번호
-        }
-    }
-    
-
     /**
      * KFTC 콜백 처리
      */
@@ -237,21 +218,29 @@ public class UserService {
                 .build();
         
         userRepository.save(updatedUser);
+        userIdentityCache.invalidate(userSeqNo);
         log.info("사용자 상태 활성화 완료: userSeqNo={}", userSeqNo);
     }
 
     /**
-     * user_seq_no로 user_ci 조회 (카드사 연동용)
+     * user_seq_no로 user_ci 조회 (카드사 연동용, near cache 경유)
+     * 캐시 적중 시 트랜잭션/커넥션 없이 반환하도록 SUPPORTS 사용
      */
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public String getUserCiByUserSeqNo(String userSeqNo) {
         log.debug("userSeqNo로 userCi 조회: userSeqNo={}", userSeqNo);
         
-        User user = userRepository.findByUserSeqNo(userSeqNo)
+        return userIdentityCache.findUserCi(userSeqNo)
                 .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, 
                     "해당 사용자 일련번호의 사용자를 찾을 수 없습니다: " + userSeqNo));
-        
-        return user.getUserCi();
+    }
+    
+    /**
+     * user_ci로 user_seq_no 조회 (near cache 경유)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public Optional<String> findUserSeqNoByCi(String userCi) {
+        return userIdentityCache.findUserSeqNo(userCi);
     }
 
     /**
@@ -261,23 +250,24 @@ public class UserService {
     public UserMeResponse getUserMeInfo(String userSeqNo) {
         log.info("사용자정보조회 시작: userSeqNo={}", userSeqNo);
         
-        // 사용자 조회
-        User user = userRepository.findByUserSeqNo(userSeqNo)
-                .orElseThrow(() -> new BusinessException(ErrorCode.ENTITY_NOT_FOUND, 
-                    "해당 사용자 일련번호의 사용자를 찾을 수 없습니다: " + userSeqNo));
-        
-        // 계좌 정보 조회
-        List<AccountMapping> accountMappings = accountMappingRepository.findByUserSeqNo(userSeqNo);
+        // 사용자 + 계좌 정보 조회 (projection 1회, 계좌가 없으면 계좌 컬럼이 null인 1행)
+        List<UserMeAccountRow> accountRows = userRepository.findUserMeAccountRows(userSeqNo);
+        if (accountRows.isEmpty()) {
+            throw new BusinessException(ErrorCode.ENTITY_NOT_FOUND, 
+                "해당 사용자 일련번호의 사용자를 찾을 수 없습니다: " + userSeqNo);
+        }
+        UserMeAccountRow userRow = accountRows.get(0);
         
-        // 동의 정보 조회
-        List<UserConsentFinancialInstitution> consentList = userConsentFinancialInstitutionRepository.findByUserSeqNo(userSeqNo);
+        // 동의 정보 조회 (projection 1회, 기관 구분은 카탈로그에서 조회)
+        List<UserMeConsentRow> consentList = userConsentFinancialInstitutionRepository.findUserMeConsentRows(userSeqNo);
         
         // 응답 생성
         String apiTranId = UUID.randomUUID().toString().replace("-", "").substring(0, 20);
         String apiTranDtm = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
         
         // 계좌 정보 변환
-        List<UserMeResponse.AccountInfo> accountInfoList = accountMappings.stream()
+        List<UserMeResponse.AccountInfo> accountInfoList = accountRows.stream()
+                .filter(row -> row.fintechUseNum() != null)
                 .map(this::convertToAccountInfo)
                 .collect(Collectors.toList());
         
@@ -287,31 +277,31 @@ public class UserService {
         List<UserMeResponse.InsuranceInfo> insuranceInfoList = new ArrayList<>();
         List<UserMeResponse.LoanInfo> loanInfoList = new ArrayList<>();
         
-        for (UserConsentFinancialInstitution consent : consentList) {
-            Optional<FinancialInstitution> fiOpt = financialInstitutionRepository.findByBankCodeStd(consent.getBankCodeStd());
+        for (UserMeConsentRow consent : consentList) {
+            Optional<FinancialInstitutionCatalog.Institution> fiOpt = financialInstitutionCatalog.find(consent.bankCodeStd());
             if (fiOpt.isPresent()) {
-                FinancialInstitution fi = fiOpt.get();
+                String bankType = fiOpt.get().serviceType();
                 
-                if ("CARD".equals(fi.getBankType())) {
+                if ("CARD".equals(bankType)) {
                     cardInfoList.add(UserMeResponse.CardInfo.builder()
-                            .bankCodeStd(consent.getBankCodeStd())
-                            .memberBankCode(consent.getBankCodeStd())
-                            .inquiryAgreeDtime(consent.getInfoPrvdAgmtDtime())
+                            .bankCodeStd(consent.bankCodeStd())
+                            .memberBankCode(consent.bankCodeStd())
+                            .inquiryAgreeDtime(consent.infoPrvdAgmtDtime())
                             .build());
-                } else if ("PAY".equals(fi.getBankType())) {
+                } else if ("PAY".equals(bankType)) {
                     payInfoList.add(UserMeResponse.PayInfo.builder()
-                            .bankCodeStd(consent.getBankCodeStd())
-                            .inquiryAgreeDtime(consent.getInfoPrvdAgmtDtime())
+                            .bankCodeStd(consent.bankCodeStd())
+                            .inquiryAgreeDtime(consent.infoPrvdAgmtDtime())
                             .build());
-                } else if ("INSURANCE".equals(fi.getBankType())) {
+                } else if ("INSURANCE".equals(bankType)) {
                     insuranceInfoList.add(UserMeResponse.InsuranceInfo.builder()
-                            .bankCodeStd(consent.getBankCodeStd())
-                            .inquiryAgreeDtime(consent.getInfoPrvdAgmtDtime())
+                            .bankCodeStd(consent.bankCodeStd())
+                            .inquiryAgreeDtime(consent.infoPrvdAgmtDtime())
                             .build());
-                } else if ("LOAN".equals(fi.getBankType())) {
+                } else if ("LOAN".equals(bankType)) {
                     loanInfoList.add(UserMeResponse.LoanInfo.builder()
-                            .bankCodeStd(consent.getBankCodeStd())
-                            .inquiryAgreeDtime(consent.getInfoPrvdAgmtDtime())
+                            .bankCodeStd(consent.bankCodeStd())
+                            .inquiryAgreeDtime(consent.infoPrvdAgmtDtime())
                             .build());
                 }
             }
@@ -322,9 +312,9 @@ public class UserService {
                 .apiTranDtm(apiTranDtm)
                 .rspCode("A0000")
                 .rspMessage("")
-                .userSeqNo(user.getUserSeqNo())
-                .userCi(user.getUserCi())
-                .userName(user.getUserName())
+                .userSeqNo(userRow.userSeqNo())
+                .userCi(userRow.userCi())
+                .userName(userRow.userName())
                 .resCnt(String.valueOf(accountInfoList.size()))
                 .resList(accountInfoList)
                 .inquiryCardCnt(String.valueOf(cardInfoList.size()))
@@ -345,26 +335,26 @@ public class UserService {
     }
     
     /**
-     * AccountMapping을 AccountInfo로 변환
+     * 계좌 projection을 AccountInfo로 변환
      */
-    private UserMeResponse.AccountInfo convertToAccountInfo(AccountMapping account) {
+    private UserMeResponse.AccountInfo convertToAccountInfo(UserMeAccountRow account) {
         return UserMeResponse.AccountInfo.builder()
-                .fintechUseNum(account.getFintechUseNum())
-                .accountAlias(account.getAccountAlias())
-                .bankCodeStd(account.getBankCodeStd())
-                .bankCodeSub(account.getBankCodeStd() + "001") // 임시 값
-                .bankName(account.getBankName())
-                .savingsBankName(account.getSavingsBankName())
-                .accountNumMasked(account.getAccountNumMasked())
-                .accountSeq(account.getAccountSeq())
-                .accountHolderName(account.getAccountHolderName())
+                .fintechUseNum(account.fintechUseNum())
+                .accountAlias(account.accountAlias())
+                .bankCodeStd(account.bankCodeStd())
+                .bankCodeSub(account.bankCodeStd() + "001") // 임시 값
+                .bankName(account.bankName())
+                .savingsBankName(account.savingsBankName())
+                .accountNumMasked(account.accountNumMasked())
+                .accountSeq(account.accountSeq())
+                .accountHolderName(account.accountHolderName())
                 .accountHolderType("P") // 개인
-                .accountType(account.getAccountType())
-                .inquiryAgreeYn(account.getInquiryAgreeYn())
-                .inquiryAgreeDtime(account.getInquiryAgreeDtime())
-                .transferAgreeYn(account.getTransferAgreeYn())
-                .transferAgreeDtime(account.getTransferAgreeDtime())
-                .payerNum(account.getPayerNum())
+                .accountType(account.accountType())
+                .inquiryAgreeYn(account.inquiryAgreeYn())
+                .inquiryAgreeDtime(account.inquiryAgreeDtime())
+                .transferAgreeYn(account.transferAgreeYn())
+                .transferAgreeDtime(account.transferAgreeDtime())
+                .payerNum(account.payerNum())
                 .build();
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.kftc.user.service;
+
+import java.time.Duration;
+
+/**
+ * 휴대폰 인증 코드 저장소
+ *
+ * 기본은 메모리 구현(phone-verification.store=memory)이며,
+ * 여러 노드가 인증 상태를 공유해야 하면 DB 구현(phone-verification.store=jpa)을 사용한다.
+ */
+public interface VerificationCodeStore {
+
+    /**
+     * 인증 코드 저장 (같은 번호의 기존 코드는 대체)
+     */
+    void save(String phoneNumber, String verificationCode, Duration ttl);
+
+    /**
+     * 코드 비교 후 일치하면 원자적으로 소비(인증 완료 처리)
+     */
+    VerifyResult verifyAndConsume(String phoneNumber, String verificationCode);
+
+    /**
+     * 가장 최근 발송된 코드로 인증을 완료했는지 여부
+     */
+    boolean isVerified(String phoneNumber);
+
+    enum VerifyResult {
+        VERIFIED,
+        MISMATCH,
+        EXPIRED,
+        NOT_FOUND,
+        TOO_MANY_ATTEMPTS
+    }
+}
@@ -0,0 +1,51 @@
+package com.kftc.bank.common;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InstitutionAccountListResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void resListKeepsStandardFieldsAndOmitsMissingOnes() throws Exception {
+        String body = """
+                {"rsp_code":"A0000","res_cnt":"1","res_list":[{
+                  "fintech_use_num":"120220000000000000000001",
+                  "account_alias":"급여통장",
+                  "bank_code_std":"088",
+                  "bank_code_sub":"0880001",
+                  "bank_name":"신한은행",
+                  "account_num_masked":"110-***-123456",
+                  "account_holder_name":"홍길동",
+                  "account_holder_type":"P",
+                  "account_type":"1",
+                  "inquiry_agree_yn":"Y",
+                  "transfer_agree_yn":"Y",
+                  "account_state":"01",
+                  "unknown_field":"x"}]}
+                """;
+
+        InstitutionAccountListResponse response = objectMapper.readValue(body, InstitutionAccountListResponse.class);
+        // BankService.createInstitutionInfo가 res_list에 그대로 넣는 값
+        String serialized = objectMapper.writeValueAsString(Map.of("res_list", response.resList()));
+        List<Map<String, Object>> resList = objectMapper.readValue(serialized,
+                new TypeReference<Map<String, List<Map<String, Object>>>>() { }).get("res_list");
+
+        assertThat(resList).hasSize(1);
+        assertThat(resList.get(0))
+                .containsEntry("bank_code_sub", "0880001")
+                .containsEntry("account_holder_type", "P")
+                .containsEntry("account_state", "01")
+                .containsEntry("fintech_use_num", "120220000000000000000001")
+                // 기관이 보내지 않은 필드는 null 키로 나가지 않음
+                .doesNotContainKeys("savings_bank_name", "account_num", "account_seq", "payer_num",
+                        "inquiry_agree_dtime", "transfer_agree_dtime", "unknown_field");
+    }
+}
@@ -0,0 +1,65 @@
+package com.kftc.bank.service;
+
+import com.kftc.bank.common.TransferRequest;
+import com.kftc.bank.common.TransferResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransferReplayCacheTest {
+
+    private static final TransferResponse CONFLICT = TransferResponse.builder().rspCode("A0028").build();
+
+    private static TransferRequest request(String bankTranId, String tranAmt) {
+        return TransferRequest.builder().bankTranId(bankTranId).tranAmt(tranAmt).cntrAccountNum("100200300").build();
+    }
+
+    private static TransferResponse success(String fintechUseNum) {
+        return TransferResponse.builder().rspCode("A0000").fintechUseNum(fintechUseNum).build();
+    }
+
+    @Test
+    void replaysOnlyForSamePayerAndPayload() {
+        TransferReplayCache cache = new TransferReplayCache(100, 1000);
+        AtomicInteger calls = new AtomicInteger();
+
+        TransferResponse first = cache.execute("WD", "FIN-A", request("T1", "1000"),
+                () -> { calls.incrementAndGet(); return success("FIN-A"); }, () -> CONFLICT);
+        // 같은 계좌, 같은 내용 재시도는 저장된 응답 재생
+        TransferResponse retry = cache.execute("WD", "FIN-A", request("T1", "1000"),
+                () -> { calls.incrementAndGet(); return success("FIN-A"); }, () -> CONFLICT);
+        assertThat(retry).isSameAs(first);
+
+        // 다른 계좌가 같은 bank_tran_id를 쓰면 다른 이체로 실행 (A 계좌 응답이 새지 않음)
+        TransferResponse other = cache.execute("WD", "FIN-B", request("T1", "1000"),
+                () -> { calls.incrementAndGet(); return success("FIN-B"); }, () -> CONFLICT);
+        assertThat(other.getFintechUseNum()).isEqualTo("FIN-B");
+
+        // 같은 키로 금액이 다르면 재생하지 않고 거절
+        TransferResponse changed = cache.execute("WD", "FIN-A", request("T1", "9000"),
+                () -> { calls.incrementAndGet(); return success("FIN-A"); }, () -> CONFLICT);
+        assertThat(changed).isSameAs(CONFLICT);
+
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    void evictsOldestInsteadOfDroppingNewSuccess() {
+        TransferReplayCache cache = new TransferReplayCache(2, 1000);
+        AtomicInteger calls = new AtomicInteger();
+
+        for (String id : new String[]{"T1", "T2", "T3"}) {
+            cache.execute("WD", "FIN-A", request(id, "1000"),
+                    () -> { calls.incrementAndGet(); return success("FIN-A"); }, () -> CONFLICT);
+        }
+        assertThat(cache.getStats().get("entries")).isEqualTo(2);
+        assertThat(cache.getStats().get("evicted")).isEqualTo(1L);
+
+        // 상한 상태에서도 가장 최근 성공은 재생되어 이중 실행되지 않음
+        cache.execute("WD", "FIN-A", request("T3", "1000"),
+                () -> { calls.incrementAndGet(); return success("FIN-A"); }, () -> CONFLICT);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,88 @@
+package com.kftc.common.config;
+
+import com.kftc.common.client.InstitutionCallDeadline;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InstitutionCallDeadlineTest {
+
+    private HttpServer server;
+    private CloseableHttpClient httpClient;
+    private RestTemplate restTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 응답하지 않는 기관 (10초 지연)
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        // 운영 설정과 같이 기본 read-timeout은 길게
+        httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setDefaultConnectionConfig(ConnectionConfig.custom()
+                                .setConnectTimeout(Timeout.ofSeconds(3))
+                                .setSocketTimeout(Timeout.ofSeconds(30))
+                                .build())
+                        .build())
+                .build();
+        restTemplate = new RestTemplate(RestTemplateConfig.institutionRequestFactory(httpClient));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        httpClient.close();
+        server.stop(0);
+    }
+
+    @Test
+    void deadlineFreesWorkerThreadBlockedOnSlowInstitution() throws Exception {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/slow";
+        try {
+            long started = System.nanoTime();
+            long deadlineNanos = started + TimeUnit.MILLISECONDS.toNanos(300);
+            Future<String> future = executor.submit(() ->
+                    InstitutionCallDeadline.run(deadlineNanos, () -> restTemplate.getForObject(url, String.class)));
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(ResourceAccessException.class);
+            // 30초 read-timeout이 아니라 마감 시각 직후에 스레드가 풀림
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isLessThan(3000);
+
+            // 하나뿐인 작업 스레드가 바로 다음 작업을 받고, 이전 마감은 남지 않음
+            assertThat(executor.submit(InstitutionCallDeadline::remainingMillis).get(1, TimeUnit.SECONDS)).isEqualTo(-1L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
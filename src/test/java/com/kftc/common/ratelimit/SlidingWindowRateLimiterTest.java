@@ -0,0 +1,116 @@
+package com.kftc.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlidingWindowRateLimiterTest {
+
+    @Test
+    void rejectsOverLimitAndReleasesAsWindowSlides() {
+        AtomicLong now = new AtomicLong(1_000_000L);
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(4, 1000, 100, 4, now::get);
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire("01012345678")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("01012345678")).isFalse();
+        assertThat(limiter.tryAcquire("01099998888")).isTrue();
+
+        // 다음 윈도우 중간: 직전 4건의 절반(2건)이 남아 2건만 추가 허용
+        now.addAndGet(1500);
+        assertThat(limiter.tryAcquire("01012345678")).isTrue();
+        assertThat(limiter.tryAcquire("01012345678")).isTrue();
+        assertThat(limiter.tryAcquire("01012345678")).isFalse();
+
+        // 두 윈도우 이상 경과하면 초기화되고 정리 대상이 됨
+        now.addAndGet(2000);
+        limiter.purgeExpired();
+        assertThat(limiter.size()).isZero();
+        assertThat(limiter.tryAcquire("01012345678")).isTrue();
+    }
+
+    @Test
+    void concurrentAcquiresNeverExceedLimit() throws Exception {
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(100, 60_000, 100, 4, () -> 30_000L);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1000; i++) {
+            pool.execute(() -> {
+                if (limiter.tryAcquire("10.0.0.1")) {
+                    allowed.incrementAndGet();
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(allowed.get()).isEqualTo(100);
+    }
+
+    @Test
+    void fullStripeEvictsOnlyPreviousWindowKeys() {
+        AtomicLong now = new AtomicLong(1_000_000L);
+        // stripe 1개, 키 상한 2
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(5, 1000, 2, 1, now::get);
+
+        assertThat(limiter.tryAcquire("10.0.0.1")).isTrue();
+        now.addAndGet(1000);
+        assertThat(limiter.tryAcquire("10.0.0.2")).isTrue();
+
+        // 직전 윈도우 키는 밀어내고 새 키를 받음
+        assertThat(limiter.tryAcquire("10.0.0.3")).isTrue();
+        assertThat(limiter.size()).isEqualTo(2);
+        assertThat(limiter.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void fillingStripeWithinOneWindowDoesNotResetLimitedKey() {
+        AtomicLong now = new AtomicLong(1_000_000L);
+        // stripe 1개, 키 상한 4, 키당 3건
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(3, 1000, 4, 1, now::get);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("01012345678")).isTrue();
+        }
+        assertThat(limiter.tryAcquire("01012345678")).isFalse();
+
+        // 같은 윈도우 안에서 버리는 키로 stripe를 채워도 현재 키는 밀려나지 않고 새 키를 거절
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire("0109999" + String.format("%04d", i));
+        }
+        assertThat(limiter.size()).isEqualTo(4);
+        assertThat(limiter.evictions()).isZero();
+        assertThat(limiter.newKeyRejections()).isEqualTo(17);
+        assertThat(limiter.tryAcquire("01012345678")).isFalse();
+
+        // 다음 윈도우 초반에도 직전 건수가 남아 계속 제한 (거절된 요청도 키를 현재 윈도우로 옮김)
+        now.addAndGet(1000);
+        assertThat(limiter.wouldAllow("01012345678")).isFalse();
+        for (int i = 20; i < 40; i++) {
+            limiter.tryAcquire("0109999" + String.format("%04d", i));
+        }
+        assertThat(limiter.tryAcquire("01012345678")).isFalse();
+    }
+
+    @Test
+    void wouldAllowDoesNotConsumeAndReleaseRefunds() {
+        AtomicLong now = new AtomicLong(1_000_000L);
+        SlidingWindowRateLimiter limiter = new SlidingWindowRateLimiter(2, 1000, 100, 4, now::get);
+
+        assertThat(limiter.wouldAllow("01012345678")).isTrue();
+        assertThat(limiter.tryAcquire("01012345678")).isTrue();
+        assertThat(limiter.tryAcquire("01012345678")).isTrue();
+        assertThat(limiter.wouldAllow("01012345678")).isFalse();
+
+        limiter.release("01012345678");
+        assertThat(limiter.wouldAllow("01012345678")).isTrue();
+        assertThat(limiter.tryAcquire("01012345678")).isTrue();
+        assertThat(limiter.tryAcquire("01012345678")).isFalse();
+    }
+}
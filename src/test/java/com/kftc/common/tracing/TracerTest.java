@@ -0,0 +1,97 @@
+package com.kftc.common.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracerTest {
+
+    private final List<Span> exported = new ArrayList<>();
+
+    private Tracer tracer() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("exporter", (SpanExporter) (root, spans) -> exported.addAll(spans));
+        return new Tracer(beanFactory.getBeanProvider(SpanExporter.class), true, 256);
+    }
+
+    @Test
+    void nestsSpansAndExportsTreeWhenRootCloses() {
+        Tracer tracer = tracer();
+
+        Span root = tracer.startTrace("HTTP GET", null);
+        Span child = Tracer.startSpan("controller");
+        Span grandChild = Tracer.startSpan("repository");
+        assertThat(Tracer.currentSpan()).isSameAs(grandChild);
+
+        grandChild.close();
+        assertThat(Tracer.currentSpan()).isSameAs(child);
+        child.close();
+        assertThat(exported).isEmpty();
+        root.close();
+
+        assertThat(exported).containsExactly(root, child, grandChild);
+        assertThat(child.getParentId()).isEqualTo(root.getSpanId());
+        assertThat(grandChild.getParentId()).isEqualTo(child.getSpanId());
+        assertThat(grandChild.getTraceId()).isEqualTo(root.getTraceId());
+        // 요청이 끝나면 스레드에 구간이 남지 않음
+        assertThat(Tracer.currentSpan().isRecording()).isFalse();
+    }
+
+    @Test
+    void continuesIncomingTraceparent() {
+        Tracer tracer = tracer();
+        String incoming = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        Span root = tracer.startTrace("HTTP GET", incoming);
+        assertThat(root.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(root.getParentId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(root.traceparent()).matches("00-4bf92f3577b34da6a3ce929d0e0e4736-[0-9a-f]{16}-01");
+        root.close();
+
+        // 형식이 틀리거나 ID가 0이면 새 추적 시작
+        assertThat(Tracer.parseTraceparent("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7")).isNull();
+        assertThat(Tracer.parseTraceparent("00-00000000000000000000000000000000-00f067aa0ba902b7-01")).isNull();
+        assertThat(Tracer.parseTraceparent("ff-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")).isNull();
+    }
+
+    @Test
+    void unclosedChildDoesNotLeakIntoNextRequest() {
+        Tracer tracer = tracer();
+
+        Span root = tracer.startTrace("HTTP GET", null);
+        Tracer.startSpan("leaked");
+        root.close();
+
+        assertThat(Tracer.currentSpan().isRecording()).isFalse();
+        assertThat(Tracer.startSpan("outside").isRecording()).isFalse();
+    }
+
+    @Test
+    void propagatesSpanToExecutorThreads() throws Exception {
+        Tracer tracer = tracer();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Span root = tracer.startTrace("HTTP GET", null);
+            Span remote = CompletableFuture.supplyAsync(() -> {
+                try (Span span = Tracer.startSpan("institution", Span.Kind.CLIENT)) {
+                    return span;
+                }
+            }, Tracer.propagating(executor)).get();
+            root.close();
+
+            assertThat(remote.getParentId()).isEqualTo(root.getSpanId());
+            assertThat(exported).contains(remote);
+            // 작업 스레드에도 구간이 남지 않음
+            assertThat(executor.submit(() -> Tracer.currentSpan().isRecording()).get()).isFalse();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
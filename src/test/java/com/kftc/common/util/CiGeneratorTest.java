@@ -0,0 +1,47 @@
+package com.kftc.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CiGeneratorTest {
+
+    // 스레드별 Mac 재사용 전 구현으로 계산한 값
+    private static final String CI_9001011234567 =
+            "T0yMXI94HmAC8w4Q+e2vkD7a6oYh1Gfqg2OAv06tA1ARYCi7WSEot84iSE+VLMW8ZLKCPIuRn1xxTP2/9Kj2kA==";
+    private static final String CI_0503154123456 =
+            "kGKAB4hLUzKRn//0YDWJQDCD9Zva6REzxUsMTRvBvUXCdUaWpOr8nt++TZyxKbayEvMuAwJFO4QTKna0831qqQ==";
+
+    private final CiGenerator ciGenerator = new CiGenerator();
+
+    @Test
+    void producesSameCiAsPreviousImplementation() {
+        assertThat(ciGenerator.generateCiWithRealRn("9001011234567")).isEqualTo(CI_9001011234567);
+        assertThat(ciGenerator.generateCiWithRealRn("050315-4123456")).isEqualTo(CI_0503154123456);
+    }
+
+    @Test
+    void bulkKeepsInputOrderAndSkipsInvalidEntries() {
+        List<String> cis = ciGenerator.generateCis(Arrays.asList("0503154123456", "12345", null, "900101-1234567"));
+
+        assertThat(cis).containsExactly(CI_0503154123456, null, null, CI_9001011234567);
+    }
+
+    @Test
+    void bulkMatchesSingleGeneration() {
+        List<String> rns = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            rns.add(String.format("8512252%06d", i));
+        }
+
+        List<String> cis = ciGenerator.generateCis(rns);
+
+        for (int i = 0; i < rns.size(); i += 97) {
+            assertThat(cis.get(i)).isEqualTo(ciGenerator.generateCiWithRealRn(rns.get(i)));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.kftc.user.service;
+
+import com.kftc.bank.common.InstitutionAccountListResponse;
+import com.kftc.card.dto.CardDiscoveryResponse;
+import com.kftc.common.client.InstitutionCallException;
+import com.kftc.common.client.InstitutionClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PhoneVerificationDiscoveryCacheTest {
+
+    private static final String CI = "TEST-CI-0123456789";
+
+    private final InstitutionClient institutionClient = mock(InstitutionClient.class);
+    private final DiscoveryResultCache cache = new DiscoveryResultCache(300_000, 100);
+
+    private PhoneVerificationService service() {
+        return service("shinhan-bank:088:신한은행:BANK");
+    }
+
+    private PhoneVerificationService service(String institutionSpecs) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("financial.institutions.shinhan-bank.base-url", "http://bank.test")
+                .withProperty("financial.institutions.new-card.base-url", "http://card.test");
+        PhoneVerificationService service = new PhoneVerificationService(null, null, null, null, null,
+                mock(FinancialInstitutionCatalog.class), cache, institutionClient, null, null, null, null, environment);
+        ReflectionTestUtils.setField(service, "discoveryInstitutionSpecs", institutionSpecs);
+        ReflectionTestUtils.setField(service, "discoveryDeadlineMs", 2000L);
+        return service;
+    }
+
+    @Test
+    void failedInstitutionCallIsReportedAsErrorAndNotCached() {
+        when(institutionClient.get(eq("088"), any(), any(), any(), eq(InstitutionAccountListResponse.class)))
+                .thenThrow(new InstitutionCallException("088", "/v2.0/account/list", 503, "기관 응답 오류: 503"));
+        PhoneVerificationService service = service();
+
+        PhoneVerificationService.DiscoveryOutcome first = service.discoverFinancialInstitutions("1000000001", CI);
+        // 기관 오류는 "계좌 없음"이 아니라 ERROR
+        assertThat(first.getTimings()).extracting(timing -> timing.get("status")).containsExactly("ERROR");
+        assertThat(first.isComplete()).isFalse();
+
+        // 다음 요청은 캐시가 아니라 기관을 다시 호출
+        PhoneVerificationService.DiscoveryOutcome second = service.discoverFinancialInstitutions("1000000001", CI);
+        assertThat(second.isCached()).isFalse();
+        verify(institutionClient, times(2))
+                .get(eq("088"), any(), any(), any(), eq(InstitutionAccountListResponse.class));
+    }
+
+    @Test
+    void institutionAnsweringNoAccountsIsCached() {
+        when(institutionClient.get(eq("088"), any(), any(), any(), eq(InstitutionAccountListResponse.class)))
+                .thenReturn(new InstitutionAccountListResponse("A0000", "", "0", List.of()));
+        PhoneVerificationService service = service();
+
+        PhoneVerificationService.DiscoveryOutcome first = service.discoverFinancialInstitutions("1000000001", CI);
+        assertThat(first.getTimings()).extracting(timing -> timing.get("status")).containsExactly("NOT_FOUND");
+
+        PhoneVerificationService.DiscoveryOutcome second = service.discoverFinancialInstitutions("1000000001", CI);
+        assertThat(second.isCached()).isTrue();
+        verify(institutionClient, times(1))
+                .get(eq("088"), any(), any(), any(), eq(InstitutionAccountListResponse.class));
+    }
+
+    @Test
+    void institutionIsCheckedByConfiguredServiceType() {
+        // 코드에 없는 기관코드도 서비스구분(CARD)만으로 카드 확인 API를 호출
+        when(institutionClient.get(eq("999"), any(), any(), any(), eq(CardDiscoveryResponse.class)))
+                .thenReturn(new CardDiscoveryResponse("A0000", "", "0", List.of()));
+        PhoneVerificationService service = service("new-card:999:신규카드:card");
+
+        PhoneVerificationService.DiscoveryOutcome outcome = service.discoverFinancialInstitutions("1000000001", CI);
+        assertThat(outcome.getTimings()).extracting(timing -> timing.get("status")).containsExactly("FOUND");
+        verify(institutionClient).get(eq("999"), eq("http://card.test"), any(), any(), eq(CardDiscoveryResponse.class));
+    }
+}
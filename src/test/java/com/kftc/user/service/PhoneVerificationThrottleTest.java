@@ -0,0 +1,29 @@
+package com.kftc.user.service;
+
+import com.kftc.common.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PhoneVerificationThrottleTest {
+
+    @Test
+    void blockedPhoneDoesNotDrainIpBudget() {
+        // 발송: 번호당 2건, IP당 3건
+        PhoneVerificationThrottle throttle = new PhoneVerificationThrottle(true, 1000, 600_000, 2, 3, 600_000, 10, 50);
+
+        throttle.checkSend("01011112222", "10.0.0.1");
+        throttle.checkSend("01011112222", "10.0.0.1");
+        // 막힌 번호로 계속 요청해도 IP 예산은 그대로
+        for (int i = 0; i < 5; i++) {
+            assertThatThrownBy(() -> throttle.checkSend("01011112222", "10.0.0.1"))
+                    .isInstanceOf(BusinessException.class);
+        }
+
+        // 같은 IP의 다른 번호는 남은 IP 예산(1건)만큼 허용
+        assertThatCode(() -> throttle.checkSend("01033334444", "10.0.0.1")).doesNotThrowAnyException();
+        assertThatThrownBy(() -> throttle.checkSend("01055556666", "10.0.0.1"))
+                .isInstanceOf(BusinessException.class);
+    }
+}
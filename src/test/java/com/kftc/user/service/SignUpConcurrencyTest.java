@@ -0,0 +1,101 @@
+package com.kftc.user.service;
+
+import com.kftc.common.util.CiGenerator;
+import com.kftc.user.entity.User;
+import com.kftc.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 가입 스트레스 테스트
+ *
+ * 할당기만 따로 돌리지 않고 실제 가입 경로(CI 생성 → 사용자 INSERT → 동의 활성화)를
+ * 여러 스레드에서 동시에 실행해 user_seq_no/user_ci 중복이나 제약 조건 위반이 없는지 확인한다.
+ * 각 단계가 자기 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션으로 감싸지 않는다.
+ */
+@SpringBootTest
+class SignUpConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int SIGN_UPS_PER_THREAD = 25;
+
+    @Autowired
+    private CiGenerator ciGenerator;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private final Map<String, String> userSeqNoByCi = new ConcurrentHashMap<>();
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.deleteAllById(userSeqNoByCi.values());
+    }
+
+    @Test
+    void concurrentSignUpsCreateOneActiveUserEach() throws Exception {
+        // 실행마다 다른 주민등록번호 대역 사용 (이전 실행 데이터와 CI가 겹치지 않도록)
+        long runBase = System.currentTimeMillis() % 100_000 * 10;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < SIGN_UPS_PER_THREAD; i++) {
+                    int index = thread * SIGN_UPS_PER_THREAD + i;
+                    String rn = String.format("900101%d%06d", 1 + index % 2, (runBase + index) % 1_000_000);
+                    String ci = ciGenerator.generateCiWithRealRn(rn);
+
+                    String userSeqNo = userService.createOrGetUserByCi(ci, "가입테스트" + index, null);
+                    userService.activateUserConsent(userSeqNo);
+                    assertThat(userSeqNoByCi.putIfAbsent(ci, userSeqNo)).isNull();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        try {
+            // 제약 조건 위반 등 예외가 있으면 여기서 ExecutionException으로 실패
+            for (Future<?> future : futures) {
+                future.get(120, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int total = THREADS * SIGN_UPS_PER_THREAD;
+        assertThat(userSeqNoByCi).hasSize(total);
+        assertThat(userSeqNoByCi.values()).doesNotHaveDuplicates();
+        assertThat(userSeqNoByCi.values()).allMatch(seqNo -> seqNo.matches("\\d{10}"));
+
+        // CI마다 정확히 한 명, 동의 처리까지 반영
+        userSeqNoByCi.forEach((ci, userSeqNo) -> {
+            Optional<User> user = userRepository.findByUserCi(ci);
+            assertThat(user).isPresent();
+            assertThat(user.get().getUserSeqNo()).isEqualTo(userSeqNo);
+            assertThat(user.get().getUserStatus()).isEqualTo("ACTIVE");
+        });
+    }
+}
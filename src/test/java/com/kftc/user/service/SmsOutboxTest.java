@@ -0,0 +1,157 @@
+package com.kftc.user.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SmsOutboxTest {
+
+    private SmsOutbox outbox;
+
+    @AfterEach
+    void tearDown() {
+        if (outbox != null) {
+            outbox.stop();
+        }
+    }
+
+    @Test
+    void failedMessageIsRetriedWithBackoffUntilSent() throws Exception {
+        // 처음 2번 실패 후 성공
+        FakeProvider provider = new FakeProvider(2);
+        outbox = outbox(provider, 100, 3, 20, 1000);
+        outbox.start();
+
+        assertThat(outbox.enqueue("01012345678", "인증번호 123456")).isTrue();
+        waitUntil(() -> stat("sent") == 1);
+
+        assertThat(stat("retried")).isEqualTo(2);
+        assertThat(stat("failed")).isZero();
+        List<Long> attempts = provider.attemptNanos();
+        assertThat(attempts).hasSize(3);
+        // 백오프 하한(지수 값의 절반): 1회차 10ms, 2회차 20ms
+        assertThat(TimeUnit.NANOSECONDS.toMillis(attempts.get(1) - attempts.get(0))).isGreaterThanOrEqualTo(10);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(attempts.get(2) - attempts.get(1))).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    void messageIsDroppedAfterMaxAttempts() throws Exception {
+        FakeProvider provider = new FakeProvider(Integer.MAX_VALUE);
+        outbox = outbox(provider, 100, 2, 10, 100);
+        outbox.start();
+
+        outbox.enqueue("01012345678", "인증번호 123456");
+        waitUntil(() -> stat("failed") == 1);
+
+        assertThat(stat("retried")).isEqualTo(1);
+        assertThat(stat("sent")).isZero();
+        assertThat(provider.attemptNanos()).hasSize(2);
+    }
+
+    @Test
+    void fullQueueRejectsWithoutBlocking() {
+        // 발송 스레드를 시작하지 않아 큐가 비워지지 않음
+        outbox = outbox(new FakeProvider(0), 2, 3, 10, 100);
+
+        assertThat(outbox.enqueue("01011111111", "a")).isTrue();
+        assertThat(outbox.enqueue("01022222222", "b")).isTrue();
+        assertThat(outbox.enqueue("01033333333", "c")).isFalse();
+
+        assertThat(stat("rejected")).isEqualTo(1);
+        assertThat(outbox.getQueueDepth()).isEqualTo(2);
+    }
+
+    @Test
+    void stopSendsRemainingOnceWithoutRetry() {
+        // 종료 시 남은 메시지는 재시도 없이 한 번만 발송 (첫 건 실패)
+        FakeProvider provider = new FakeProvider(1);
+        outbox = outbox(provider, 100, 3, 10, 100);
+        outbox.enqueue("01011111111", "a");
+        outbox.enqueue("01022222222", "b");
+
+        outbox.stop();
+
+        assertThat(provider.attemptNanos()).hasSize(2);
+        assertThat(outbox.getQueueDepth()).isZero();
+        assertThat(stat("sent")).isEqualTo(1);
+        assertThat(stat("failed")).isEqualTo(1);
+        assertThat(stat("retried")).isZero();
+    }
+
+    @Test
+    void stopTerminatesDispatcherAndRejectsNewMessages() throws Exception {
+        FakeProvider provider = new FakeProvider(0);
+        outbox = outbox(provider, 100, 3, 10, 100);
+        outbox.start();
+
+        outbox.stop();
+
+        Thread worker = (Thread) ReflectionTestUtils.getField(outbox, "worker");
+        assertThat(worker.isAlive()).isFalse();
+        // 종료 후 요청은 큐에 남겨 두지 않고 거절
+        assertThat(outbox.enqueue("01033333333", "c")).isFalse();
+        assertThat(stat("rejected")).isEqualTo(1);
+        Thread.sleep(50);
+        assertThat(provider.attemptNanos()).isEmpty();
+    }
+
+    private SmsOutbox outbox(SmsProvider provider, int capacity, int maxAttempts, long baseBackoffMs, long maxBackoffMs) {
+        return new SmsOutbox(List.of(provider), provider.name(), capacity, 10, 20, maxAttempts, baseBackoffMs, maxBackoffMs);
+    }
+
+    private long stat(String key) {
+        Map<String, Object> stats = outbox.getStats();
+        return (long) stats.get(key);
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * 앞의 failures번 시도는 모두 실패로 돌려주는 제공자
+     */
+    private static class FakeProvider implements SmsProvider {
+        private final int failures;
+        private final List<Long> attempts = Collections.synchronizedList(new ArrayList<>());
+
+        FakeProvider(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public String name() {
+            return "fake";
+        }
+
+        @Override
+        public List<SmsMessage> send(List<SmsMessage> messages) {
+            List<SmsMessage> failed = new ArrayList<>();
+            for (SmsMessage message : messages) {
+                int attempt = attempts.size();
+                attempts.add(System.nanoTime());
+                if (attempt < failures) {
+                    failed.add(message);
+                }
+            }
+            return failed;
+        }
+
+        List<Long> attemptNanos() {
+            return new ArrayList<>(attempts);
+        }
+    }
+}
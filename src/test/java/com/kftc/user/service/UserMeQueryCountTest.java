@@ -0,0 +1,89 @@
+package com.kftc.user.service;
+
+import com.kftc.user.dto.UserMeResponse;
+import com.kftc.user.entity.AccountMapping;
+import com.kftc.user.entity.User;
+import com.kftc.user.entity.UserConsentFinancialInstitution;
+import com.kftc.user.repository.AccountMappingRepository;
+import com.kftc.user.repository.UserConsentFinancialInstitutionRepository;
+import com.kftc.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class UserMeQueryCountTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AccountMappingRepository accountMappingRepository;
+
+    @Autowired
+    private UserConsentFinancialInstitutionRepository consentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void userMeIsServedByTwoProjectionQueries() {
+        String userSeqNo = "9" + String.format("%09d", System.nanoTime() % 1_000_000_000L);
+        userRepository.save(User.builder()
+                .userSeqNo(userSeqNo)
+                .userCi(UUID.randomUUID().toString())
+                .userName("조회테스트")
+                .build());
+
+        for (int i = 0; i < 3; i++) {
+            accountMappingRepository.save(AccountMapping.builder()
+                    .fintechUseNum(userSeqNo + "TEST" + i)
+                    .userSeqNo(userSeqNo)
+                    .orgCode("KFTC")
+                    .bankCodeStd("088")
+                    .accountNumMasked("110-***-00000" + i)
+                    .accountType("P")
+                    .regState("ACTIVE")
+                    .build());
+        }
+        for (String bankCode : List.of("301", "221")) {
+            consentRepository.save(UserConsentFinancialInstitution.builder()
+                    .userSeqNo(userSeqNo)
+                    .bankCodeStd(bankCode)
+                    .infoPrvdAgmtYn("Y")
+                    .infoPrvdAgmtDtime("20250101000000")
+                    .regStatus("ACTIVE")
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        UserMeResponse response = userService.getUserMeInfo(userSeqNo);
+
+        assertThat(response.getResList()).hasSize(3);
+        assertThat(response.getInquiryCardList()).hasSize(1);
+        assertThat(response.getInquiryInsuranceList()).hasSize(1);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+}
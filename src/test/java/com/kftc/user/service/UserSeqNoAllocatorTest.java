@@ -0,0 +1,71 @@
+package com.kftc.user.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSeqNoAllocatorTest {
+
+    private static final int BLOCK_SIZE = 50;
+
+    @Test
+    void formatsAsTenDigits() {
+        assertThat(UserSeqNoAllocator.format(1L)).isEqualTo("0000000001");
+        assertThat(UserSeqNoAllocator.format(UserSeqNoAllocator.FIRST_SEQ_NO)).isEqualTo("1000000001");
+        assertThat(UserSeqNoAllocator.format(UserSeqNoAllocator.MAX_SEQ_NO)).isEqualTo("9999999999");
+    }
+
+    @Test
+    void concurrentSignUpsAcrossNodesNeverCollide() throws Exception {
+        // 시퀀스(INCREMENT BY = 블록 크기)를 공유하는 3개 노드
+        AtomicLong sequence = new AtomicLong(UserSeqNoAllocator.FIRST_SEQ_NO);
+        LongSupplier nextVal = () -> sequence.getAndAdd(BLOCK_SIZE);
+        List<UserSeqNoAllocator> nodes = List.of(
+                new UserSeqNoAllocator(nextVal, BLOCK_SIZE),
+                new UserSeqNoAllocator(nextVal, BLOCK_SIZE),
+                new UserSeqNoAllocator(nextVal, BLOCK_SIZE));
+
+        int threads = 32;
+        int perThread = 1000;
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            UserSeqNoAllocator node = nodes.get(t % nodes.size());
+            futures.add(pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perThread; i++) {
+                    issued.add(node.nextUserSeqNo());
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        assertThat(issued).hasSize(threads * perThread);
+        assertThat(issued).allMatch(seqNo -> seqNo.matches("\\d{10}"));
+        long blockFetches = nodes.stream()
+                .mapToLong(node -> (Long) node.getStats().get("block_fetches"))
+                .sum();
+        assertThat(blockFetches).isLessThanOrEqualTo(threads * perThread / BLOCK_SIZE + nodes.size());
+    }
+}